@@ -0,0 +1,54 @@
+package com.saeal.MrDaebackService.cart.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이전 장바구니 테이블 → cart_line 데이터 이관
+ * - 예전 Cart 는 cart_product(조인 테이블) + cart_product_quantity + cart_product_unit_price 에 항목을 저장
+ * - 기동 시 cart_line 이 없는 장바구니만 골라 한 줄씩 옮김 (여러 번 실행해도 중복 생성 없음)
+ * - 수량이 없으면 1, 단가가 없으면 Product.totalPrice 사용 (이전 코드의 기본값과 동일)
+ * - 이전 테이블은 삭제하지 않으므로 이관 확인 후 수동으로 정리
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LegacyCartLineMigration {
+
+    private static final String LEGACY_TABLE_EXISTS =
+            "SELECT COUNT(*) FROM information_schema.tables WHERE LOWER(table_name) = 'cart_product'";
+
+    private static final String MIGRATE_LINES =
+            "INSERT INTO cart_line (id, cart_id, product_id, quantity, unit_price, line_total) "
+                    + "SELECT gen_random_uuid(), cp.cart_id, cp.product_id, "
+                    + "COALESCE(q.quantity, 1), "
+                    + "COALESCE(u.unit_price, p.total_price), "
+                    + "COALESCE(u.unit_price, p.total_price) * COALESCE(q.quantity, 1) "
+                    + "FROM (SELECT DISTINCT cart_id, product_id FROM cart_product) cp "
+                    + "JOIN product p ON p.id = cp.product_id "
+                    + "LEFT JOIN cart_product_quantity q ON q.cart_id = cp.cart_id AND q.product_id = cp.product_id "
+                    + "LEFT JOIN cart_product_unit_price u ON u.cart_id = cp.cart_id AND u.product_id = cp.product_id "
+                    + "WHERE NOT EXISTS (SELECT 1 FROM cart_line l WHERE l.cart_id = cp.cart_id)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateLegacyCartLines() {
+        try {
+            Integer legacyTables = jdbcTemplate.queryForObject(LEGACY_TABLE_EXISTS, Integer.class);
+            if (legacyTables == null || legacyTables == 0) {
+                return;
+            }
+            int migrated = jdbcTemplate.update(MIGRATE_LINES);
+            if (migrated > 0) {
+                log.info("[CartMigration] 이전 장바구니 항목 {}건을 cart_line 으로 이관", migrated);
+            }
+        } catch (Exception e) {
+            log.warn("[CartMigration] 이전 장바구니 항목 이관 실패 - {}", e.getMessage());
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.saeal.MrDaebackService.cart.domain;
 
 import com.saeal.MrDaebackService.cart.enums.DeliveryMethod;
 import com.saeal.MrDaebackService.cart.enums.CartStatus;
+import com.saeal.MrDaebackService.pricing.domain.Money;
 import com.saeal.MrDaebackService.product.domain.Product;
 import com.saeal.MrDaebackService.user.domain.User;
 import jakarta.persistence.*;
@@ -10,9 +11,7 @@ import lombok.*;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 
 @Entity
@@ -33,35 +32,9 @@ public class Cart {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @ManyToMany
-    @JoinTable(
-            name = "cart_product",
-            joinColumns = @JoinColumn(name = "cart_id", nullable = false),
-            inverseJoinColumns = @JoinColumn(name = "product_id", nullable = false)
-    )
+    @OneToMany(mappedBy = "cart", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
-    private List<Product> products = new ArrayList<>();
-
-    @ElementCollection
-    @CollectionTable(
-            name = "cart_product_quantity",
-            joinColumns = @JoinColumn(name = "cart_id", nullable = false)
-    )
-    @MapKeyColumn(name = "product_id")
-    @Column(name = "quantity", nullable = false)
-    @Builder.Default
-    private Map<UUID, Integer> productQuantities = new HashMap<>();
-
-    // ★ 프론트엔드에서 계산한 단가 저장 (커스터마이징 반영된 가격)
-    @ElementCollection
-    @CollectionTable(
-            name = "cart_product_unit_price",
-            joinColumns = @JoinColumn(name = "cart_id", nullable = false)
-    )
-    @MapKeyColumn(name = "product_id")
-    @Column(name = "unit_price", nullable = false, precision = 18, scale = 2)
-    @Builder.Default
-    private Map<UUID, BigDecimal> productUnitPrices = new HashMap<>();
+    private List<CartLine> lines = new ArrayList<>();
 
     @Column(nullable = false, precision = 18, scale = 2)
     private BigDecimal subtotal;
@@ -117,9 +90,6 @@ public class Cart {
         if (grandTotal == null) {
             grandTotal = BigDecimal.ZERO;
         }
-        if (productQuantities == null) {
-            productQuantities = new HashMap<>();
-        }
         if (status == null) {
             status = CartStatus.OPEN;
         }
@@ -131,6 +101,21 @@ public class Cart {
         }
     }
 
+    /**
+     * 장바구니 항목 추가 (lineTotal = unitPrice × quantity)
+     */
+    public CartLine addLine(Product product, int quantity, Money unitPrice) {
+        CartLine line = CartLine.builder()
+                .cart(this)
+                .product(product)
+                .quantity(quantity)
+                .unitPrice(unitPrice)
+                .lineTotal(unitPrice.times(quantity))
+                .build();
+        lines.add(line);
+        return line;
+    }
+
     @PreUpdate
     public void onUpdate() {
         updatedAt = LocalDateTime.now();
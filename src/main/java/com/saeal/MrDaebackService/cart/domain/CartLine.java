@@ -0,0 +1,52 @@
+package com.saeal.MrDaebackService.cart.domain;
+
+import com.saeal.MrDaebackService.pricing.domain.Money;
+import com.saeal.MrDaebackService.pricing.domain.MoneyConverter;
+import com.saeal.MrDaebackService.product.domain.Product;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * 장바구니 항목 (Product 1건 + 수량 + 단가)
+ * - unitPrice: 서버 가격표(PricingService.unitPriceOf)로 계산한 단가 (커스터마이징 반영, 클라이언트 값 미사용)
+ */
+@Entity
+@Table(
+        name = "cart_line",
+        indexes = {
+                @Index(name = "idx_cart_line_cart_id", columnList = "cart_id")
+        }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CartLine {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    @Column(columnDefinition = "uuid", updatable = false, nullable = false)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "cart_id", nullable = false)
+    private Cart cart;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "product_id", nullable = false)
+    private Product product;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Convert(converter = MoneyConverter.class)
+    @Column(nullable = false, precision = 18, scale = 2)
+    private Money unitPrice;
+
+    @Convert(converter = MoneyConverter.class)
+    @Column(nullable = false, precision = 18, scale = 2)
+    private Money lineTotal;
+}
@@ -44,7 +44,10 @@ public class CreateCartRequest {
         @Min(1)
         private Integer quantity;
 
-        // ★ 프론트엔드에서 계산한 단가 (옵션, 없으면 Product.totalPrice 사용)
+        /**
+         * @deprecated 서버가 PricingService 로 단가를 다시 계산하므로 사용하지 않음 (기존 클라이언트 요청 호환용으로만 유지)
+         */
+        @Deprecated
         private java.math.BigDecimal unitPrice;
     }
 }
@@ -32,19 +32,14 @@ public class CartResponseDto {
     private LocalDateTime updatedAt;
 
     public static CartResponseDto from(Cart cart) {
-        List<CartItemResponseDto> itemResponses = cart.getProducts().stream()
-                .map(product -> {
-                    Integer qty = cart.getProductQuantities().get(product.getId());
-                    BigDecimal unitPrice = product.getTotalPrice();
-                    BigDecimal lineTotal = unitPrice.multiply(BigDecimal.valueOf(qty));
-                    return new CartItemResponseDto(
-                            product.getId().toString(),
-                            product.getProductName(),
-                            qty,
-                            unitPrice,
-                            lineTotal
-                    );
-                })
+        List<CartItemResponseDto> itemResponses = cart.getLines().stream()
+                .map(line -> new CartItemResponseDto(
+                        line.getProduct().getId().toString(),
+                        line.getProduct().getProductName(),
+                        line.getQuantity(),
+                        line.getUnitPrice().toBigDecimal(),
+                        line.getLineTotal().toBigDecimal()
+                ))
                 .collect(Collectors.toList());
 
         return new CartResponseDto(
@@ -3,11 +3,24 @@ package com.saeal.MrDaebackService.cart.repository;
 import com.saeal.MrDaebackService.cart.domain.Cart;
 import com.saeal.MrDaebackService.cart.enums.CartStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface CartRepository extends JpaRepository<Cart, UUID> {
     List<Cart> findByUserId(UUID userId);
     List<Cart> findByUserIdAndStatus(UUID userId, CartStatus status);
+
+    /**
+     * 장바구니 + 사용자 + 항목 + Product 를 한 번의 조인으로 조회 (결제용)
+     */
+    @Query("SELECT DISTINCT c FROM Cart c " +
+           "JOIN FETCH c.user u " +
+           "LEFT JOIN FETCH c.lines l " +
+           "LEFT JOIN FETCH l.product p " +
+           "WHERE c.id = :cartId")
+    Optional<Cart> findByIdWithLines(@Param("cartId") UUID cartId);
 }
@@ -1,6 +1,7 @@
 package com.saeal.MrDaebackService.cart.service;
 
 import com.saeal.MrDaebackService.cart.domain.Cart;
+import com.saeal.MrDaebackService.cart.domain.CartLine;
 import com.saeal.MrDaebackService.cart.enums.CartStatus;
 import com.saeal.MrDaebackService.cart.dto.request.CreateCartRequest;
 import com.saeal.MrDaebackService.cart.dto.response.CartResponseDto;
@@ -10,6 +11,8 @@ import com.saeal.MrDaebackService.cart.repository.CartRepository;
 import com.saeal.MrDaebackService.order.dto.response.OrderResponseDto;
 import com.saeal.MrDaebackService.order.service.OrderService;
 import com.saeal.MrDaebackService.order.domain.Order;
+import com.saeal.MrDaebackService.pricing.domain.Money;
+import com.saeal.MrDaebackService.pricing.service.PricingService;
 import com.saeal.MrDaebackService.product.domain.Product;
 import com.saeal.MrDaebackService.product.repository.ProductRepository;
 import com.saeal.MrDaebackService.user.domain.User;
@@ -22,7 +25,11 @@ import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -32,19 +39,23 @@ public class CartService {
     private static final BigDecimal GOLD_SPEND_THRESHOLD = new BigDecimal("1000000");
     private static final long SILVER_ORDER_THRESHOLD = 5L;
     private static final long GOLD_ORDER_THRESHOLD = 10L;
+    private static final int SILVER_DISCOUNT_BASIS_POINTS = 500;
+    private static final int GOLD_DISCOUNT_BASIS_POINTS = 1000;
 
     private final CartRepository cartRepository;
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
     private final UserService userService;
     private final OrderService orderService;
+    private final PricingService pricingService;
 
     /**
      * 장바구니 생성
      * - GUI: CheckoutStep에서 결제 전 호출
      * - LLM: VoiceOrderService CONFIRM_ORDER에서 호출
      *
-     * unitPrice: 프론트엔드에서 계산한 가격 사용 (없으면 Product.totalPrice 사용)
+     * unitPrice: PricingService 가 Product 구성으로 계산한 서버 기준 가격 사용
+     * (CartItemRequest.unitPrice 는 무시)
      */
     @Transactional
     public CartResponseDto createCart(CreateCartRequest request) {
@@ -65,32 +76,35 @@ public class CartService {
                 .status(CartStatus.OPEN)
                 .build();
 
-        BigDecimal subtotal = BigDecimal.ZERO;
+        // Product 는 요청 전체에 대해 한 번에 조회
+        List<UUID> productIds = request.getItems().stream()
+                .map(itemRequest -> UUID.fromString(itemRequest.getProductId()))
+                .toList();
+        Map<UUID, Product> products = productRepository.findAllWithMenuItemsByIdIn(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        Money subtotal = Money.ZERO;
 
         for (CreateCartRequest.CartItemRequest itemRequest : request.getItems()) {
             UUID productId = UUID.fromString(itemRequest.getProductId());
-            Product product = productRepository.findById(productId)
-                    .orElseThrow(() -> new IllegalArgumentException("Product not found: " + productId));
+            Product product = products.get(productId);
+            if (product == null) {
+                throw new IllegalArgumentException("Product not found: " + productId);
+            }
 
             Integer quantity = itemRequest.getQuantity();
-            // 프론트엔드에서 전달한 unitPrice 사용 (없으면 Product.totalPrice 사용)
-            BigDecimal unitPrice = itemRequest.getUnitPrice() != null
-                    ? itemRequest.getUnitPrice()
-                    : product.getTotalPrice();
-            BigDecimal lineTotal = unitPrice.multiply(BigDecimal.valueOf(quantity));
-
-            subtotal = subtotal.add(lineTotal);
+            Money unitPrice = pricingService.unitPriceOf(product);
 
-            cart.getProducts().add(product);
-            cart.getProductQuantities().put(product.getId(), quantity);
-            cart.getProductUnitPrices().put(product.getId(), unitPrice);
+            CartLine line = cart.addLine(product, quantity, unitPrice);
+            subtotal = subtotal.plus(line.getLineTotal());
         }
 
-        BigDecimal discountAmount = calculateDiscount(subtotal, user.getLoyaltyLevel());
+        Money discountAmount = calculateDiscount(subtotal, user.getLoyaltyLevel());
+        Money grandTotal = subtotal.plus(Money.of(cart.getDeliveryFee())).minus(discountAmount);
 
-        cart.setSubtotal(subtotal);
-        cart.setDiscountAmount(discountAmount);
-        cart.setGrandTotal(subtotal.add(cart.getDeliveryFee()).subtract(discountAmount));
+        cart.setSubtotal(subtotal.toBigDecimal());
+        cart.setDiscountAmount(discountAmount.toBigDecimal());
+        cart.setGrandTotal(grandTotal.toBigDecimal());
 
         Cart saved = cartRepository.save(cart);
         return CartResponseDto.from(saved);
@@ -104,7 +118,7 @@ public class CartService {
     @Transactional
     public OrderResponseDto checkout(UUID cartId) {
         UUID userId = userService.getCurrentUserId();
-        Cart cart = cartRepository.findById(cartId)
+        Cart cart = cartRepository.findByIdWithLines(cartId)
                 .orElseThrow(() -> new IllegalArgumentException("Cart not found: " + cartId));
 
         if (!cart.getUser().getId().equals(userId)) {
@@ -113,6 +127,14 @@ public class CartService {
         if (cart.getStatus() != CartStatus.OPEN) {
             throw new IllegalStateException("Cart is not open");
         }
+        if (cart.getLines().isEmpty()) {
+            throw new IllegalStateException("Cart has no items");
+        }
+
+        // 재고 차감 후 영속성 컨텍스트가 비워지므로 Cart/User 를 다시 조회해서 갱신
+        orderService.reserveStock(cart);
+        cart = cartRepository.findByIdWithLines(cartId)
+                .orElseThrow(() -> new IllegalArgumentException("Cart not found: " + cartId));
 
         Order order = orderService.createOrderFromCart(cart);
         cart.setStatus(CartStatus.CHECKED_OUT);
@@ -144,8 +166,9 @@ public class CartService {
                 ? LoyaltyLevel.BRONZE
                 : user.getLoyaltyLevel();
 
-        BigDecimal rate = getDiscountRate(loyaltyLevel);
-        BigDecimal percent = rate.multiply(new BigDecimal("100"));
+        int basisPoints = getDiscountRateBasisPoints(loyaltyLevel);
+        BigDecimal rate = BigDecimal.valueOf(basisPoints, 4);
+        BigDecimal percent = BigDecimal.valueOf(basisPoints, 2);
 
         return new DiscountInfoResponseDto(loyaltyLevel.name(), rate, percent);
     }
@@ -196,21 +219,24 @@ public class CartService {
         }
     }
 
-    private BigDecimal calculateDiscount(BigDecimal subtotal, LoyaltyLevel loyaltyLevel) {
+    /**
+     * 등급 할인 금액 (1/100원 단위 HALF_UP 반올림)
+     */
+    private Money calculateDiscount(Money subtotal, LoyaltyLevel loyaltyLevel) {
         if (subtotal == null || loyaltyLevel == null) {
-            return BigDecimal.ZERO;
+            return Money.ZERO;
         }
-
-        BigDecimal rate = getDiscountRate(loyaltyLevel);
-
-        return subtotal.multiply(rate).setScale(2, RoundingMode.HALF_UP);
+        return subtotal.applyRate(getDiscountRateBasisPoints(loyaltyLevel));
     }
 
-    private BigDecimal getDiscountRate(LoyaltyLevel loyaltyLevel) {
+    /**
+     * 등급별 할인율 (basis point, 1000 = 10%)
+     */
+    private int getDiscountRateBasisPoints(LoyaltyLevel loyaltyLevel) {
         return switch (loyaltyLevel) {
-            case GOLD -> new BigDecimal("0.10");
-            case SILVER -> new BigDecimal("0.05");
-            default -> BigDecimal.ZERO;
+            case GOLD -> GOLD_DISCOUNT_BASIS_POINTS;
+            case SILVER -> SILVER_DISCOUNT_BASIS_POINTS;
+            default -> 0;
         };
     }
 }
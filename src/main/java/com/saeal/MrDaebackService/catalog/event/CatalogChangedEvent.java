@@ -0,0 +1,14 @@
+package com.saeal.MrDaebackService.catalog.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 관리자 카탈로그(디너, 서빙 스타일, 메뉴 아이템, 디너 구성) 변경 이벤트
+ * - 카탈로그를 메모리에 캐싱하는 컴포넌트는 이 이벤트를 받아 다시 빌드함
+ */
+@Getter
+@RequiredArgsConstructor
+public class CatalogChangedEvent {
+    private final String reason; // 변경 원인 (로그용, 예: "dinner created")
+}
@@ -1,5 +1,6 @@
 package com.saeal.MrDaebackService.config;
 
+import com.saeal.MrDaebackService.order.controller.OrderController;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -28,6 +29,12 @@ public class SecurityBeans {
         ));
         configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(List.of("*"));
+        // 관리자 주문 검색의 다음 페이지 커서 (OrderController)
+        configuration.setExposedHeaders(List.of(
+                OrderController.HAS_NEXT_HEADER,
+                OrderController.NEXT_CURSOR_ORDERED_AT_HEADER,
+                OrderController.NEXT_CURSOR_ID_HEADER
+        ));
         configuration.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
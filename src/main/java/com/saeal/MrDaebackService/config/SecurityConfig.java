@@ -3,6 +3,7 @@ package com.saeal.MrDaebackService.config;
 import com.saeal.MrDaebackService.security.JwtAccessDeniedHandler;
 import com.saeal.MrDaebackService.security.JwtAuthenticationEntryPoint;
 import com.saeal.MrDaebackService.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -37,6 +38,8 @@ public class SecurityConfig {
                         .accessDeniedHandler(accessDeniedHandler)
                 )
                 .authorizeHttpRequests(auth -> auth
+                        // SSE 응답의 async dispatch (원 요청에서 이미 인증됨)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers("/error", "/error/**").permitAll()
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
@@ -2,10 +2,19 @@ package com.saeal.MrDaebackService.dinner.repository;
 
 import com.saeal.MrDaebackService.dinner.domain.DinnerMenuItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 public interface DinnerMenuItemRepository extends JpaRepository<DinnerMenuItem, UUID> {
     List<DinnerMenuItem> findByDinnerId(UUID dinnerId);
+
+    /**
+     * 여러 디너의 기본 메뉴 아이템을 menuItem 과 함께 한 번에 조회
+     */
+    @Query("SELECT dmi FROM DinnerMenuItem dmi JOIN FETCH dmi.menuItem mi WHERE dmi.dinner.id IN :dinnerIds")
+    List<DinnerMenuItem> findAllWithMenuItemByDinnerIdIn(@Param("dinnerIds") Collection<UUID> dinnerIds);
 }
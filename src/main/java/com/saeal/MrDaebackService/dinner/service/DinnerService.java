@@ -1,5 +1,6 @@
 package com.saeal.MrDaebackService.dinner.service;
 
+import com.saeal.MrDaebackService.catalog.event.CatalogChangedEvent;
 import com.saeal.MrDaebackService.dinner.domain.Dinner;
 import com.saeal.MrDaebackService.dinner.domain.DinnerMenuItem;
 import com.saeal.MrDaebackService.dinner.dto.request.CreateDinnerMenuItemRequest;
@@ -12,6 +13,7 @@ import com.saeal.MrDaebackService.menuItems.domain.MenuItems;
 import com.saeal.MrDaebackService.menuItems.repository.MenuItemsRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -25,6 +27,7 @@ public class DinnerService {
     private final DinnerRepository dinnerRepository;
     private final DinnerMenuItemRepository dinnerMenuItemRepository;
     private final MenuItemsRepository menuItemsRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public DinnerResponseDto createDinner(CreateDinnerRequest request) {
@@ -38,6 +41,7 @@ public class DinnerService {
                 .build();
 
         Dinner savedDinner = dinnerRepository.save(dinner);
+        eventPublisher.publishEvent(new CatalogChangedEvent("dinner created"));
         return DinnerResponseDto.from(savedDinner);
     }
 
@@ -92,6 +96,7 @@ public class DinnerService {
                 .build();
 
         DinnerMenuItem saved = dinnerMenuItemRepository.save(entity);
+        eventPublisher.publishEvent(new CatalogChangedEvent("dinner menu item created"));
         return DinnerMenuItemResponseDto.from(saved);
     }
 }
@@ -2,7 +2,11 @@ package com.saeal.MrDaebackService.menuItems.repository;
 
 import com.saeal.MrDaebackService.menuItems.domain.MenuItems;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -16,4 +20,17 @@ public interface MenuItemsRepository extends JpaRepository<MenuItems, UUID> {
      * 이름에 포함된 메뉴 아이템 목록 찾기 (대소문자 무시)
      */
     List<MenuItems> findByNameContainingIgnoreCase(String name);
+
+    /**
+     * 재고 조건부 차감 (원자적)
+     * - stock >= quantity 인 경우에만 차감하며, 갱신된 행 수를 반환 (0 이면 재고 부족)
+     * - 읽기 후 쓰기 없이 DB 행 잠금만으로 동시 결제 간 lost update/oversell 방지
+     * - 실행 전 flush, 실행 후 영속성 컨텍스트를 비워 앞서 읽은 MenuItems 에 이전 재고가 남지 않게 함
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE MenuItems m SET m.stock = m.stock - :quantity, m.updatedAt = :updatedAt " +
+           "WHERE m.id = :id AND m.stock >= :quantity")
+    int decreaseStockIfAvailable(@Param("id") UUID id,
+                                 @Param("quantity") int quantity,
+                                 @Param("updatedAt") LocalDateTime updatedAt);
 }
@@ -1,5 +1,6 @@
 package com.saeal.MrDaebackService.menuItems.service;
 
+import com.saeal.MrDaebackService.catalog.event.CatalogChangedEvent;
 import com.saeal.MrDaebackService.menuItems.domain.MenuItems;
 import com.saeal.MrDaebackService.menuItems.dto.CreateMenuItemRequest;
 import com.saeal.MrDaebackService.menuItems.dto.MenuItemResponseDto;
@@ -7,6 +8,7 @@ import com.saeal.MrDaebackService.menuItems.dto.UpdateMenuItemStockRequest;
 import com.saeal.MrDaebackService.menuItems.repository.MenuItemsRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -19,6 +21,7 @@ import java.util.UUID;
 public class MenuItemsService {
 
     private final MenuItemsRepository menuItemsRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public MenuItemResponseDto createMenuItem(CreateMenuItemRequest request) {
@@ -34,6 +37,7 @@ public class MenuItemsService {
                 .build();
 
         MenuItems savedMenuItem = menuItemsRepository.save(menuItem);
+        eventPublisher.publishEvent(new CatalogChangedEvent("menu item created"));
         return MenuItemResponseDto.from(savedMenuItem);
     }
 
@@ -0,0 +1,43 @@
+package com.saeal.MrDaebackService.order.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 관리자 주문 검색용 trigram 인덱스 생성
+ * - JPA @Index 로는 표현할 수 없는 GIN(pg_trgm) 인덱스를 기동 시 보장
+ * - UPPER(order_number), LOWER(username) 에 대한 '%keyword%' LIKE 검색을 인덱스로 처리
+ * - 권한 부족 등으로 실패해도 검색은 동작하므로 경고만 남김
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderSearchIndexInitializer {
+
+    private static final List<String> STATEMENTS = List.of(
+            "CREATE EXTENSION IF NOT EXISTS pg_trgm",
+            "CREATE INDEX IF NOT EXISTS idx_orders_order_number_trgm "
+                    + "ON orders USING gin (UPPER(order_number) gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_app_user_username_trgm "
+                    + "ON app_user USING gin (LOWER(username) gin_trgm_ops)"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createSearchIndexes() {
+        for (String sql : STATEMENTS) {
+            try {
+                jdbcTemplate.execute(sql);
+            } catch (Exception e) {
+                log.warn("[OrderSearch] 인덱스 생성 실패: {} - {}", sql, e.getMessage());
+            }
+        }
+    }
+}
@@ -3,16 +3,21 @@ package com.saeal.MrDaebackService.order.controller;
 import com.saeal.MrDaebackService.order.dto.request.ApproveOrderRequest;
 import com.saeal.MrDaebackService.order.dto.request.UpdateDeliveryStatusRequest;
 import com.saeal.MrDaebackService.order.dto.response.OrderResponseDto;
+import com.saeal.MrDaebackService.order.dto.response.OrderSearchResponseDto;
 import com.saeal.MrDaebackService.order.service.OrderService;
 import com.saeal.MrDaebackService.user.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.UUID;
 
@@ -22,6 +27,10 @@ import java.util.UUID;
 @Tag(name = "Order API", description = "Order 조회 API 입니다.")
 public class OrderController {
 
+    public static final String HAS_NEXT_HEADER = "X-Has-Next";
+    public static final String NEXT_CURSOR_ORDERED_AT_HEADER = "X-Next-Cursor-Ordered-At";
+    public static final String NEXT_CURSOR_ID_HEADER = "X-Next-Cursor-Id";
+
     private final OrderService orderService;
     private final UserService userService;
 
@@ -53,27 +62,33 @@ public class OrderController {
 
     @GetMapping("/admin/search")
     @PreAuthorize("hasAuthority('ROLE_ADMIN')")
-    @Operation(summary = "주문 검색 (관리자)", description = "주문 번호나 사용자 아이디로 주문을 검색합니다.")
+    @Operation(summary = "주문 검색 (관리자)", description = "주문 번호나 사용자 아이디로 주문을 검색합니다. "
+            + "최신순 keyset 페이지네이션으로, 다음 페이지가 있으면 응답 헤더 "
+            + NEXT_CURSOR_ORDERED_AT_HEADER + "/" + NEXT_CURSOR_ID_HEADER
+            + " 값을 다음 요청의 cursorOrderedAt/cursorId 로 전달합니다.")
     public ResponseEntity<List<OrderResponseDto>> searchOrders(
             @RequestParam(required = false) String orderNumber,
-            @RequestParam(required = false) String username
+            @RequestParam(required = false) String username,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorOrderedAt,
+            @RequestParam(required = false) UUID cursorId,
+            @RequestParam(defaultValue = "20") int size
     ) {
-        List<OrderResponseDto> allOrders = orderService.getAllOrders();
-        
-        if (orderNumber != null && !orderNumber.isBlank()) {
-            allOrders = allOrders.stream()
-                    .filter(order -> order.getOrderNumber().toUpperCase().contains(orderNumber.toUpperCase()))
-                    .toList();
-        }
-        
-        if (username != null && !username.isBlank()) {
-            allOrders = allOrders.stream()
-                    .filter(order -> order.getUsername() != null && 
-                            order.getUsername().toLowerCase().contains(username.toLowerCase()))
-                    .toList();
+        OrderSearchResponseDto response = orderService.searchOrders(
+                orderNumber,
+                username,
+                cursorOrderedAt,
+                cursorId,
+                size
+        );
+        // 본문은 기존과 같은 주문 목록, 페이지 정보는 헤더로 전달
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HAS_NEXT_HEADER, String.valueOf(response.isHasNext()));
+        if (response.isHasNext()) {
+            headers.set(NEXT_CURSOR_ORDERED_AT_HEADER,
+                    DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(response.getNextCursorOrderedAt()));
+            headers.set(NEXT_CURSOR_ID_HEADER, response.getNextCursorId());
         }
-        
-        return ResponseEntity.ok(allOrders);
+        return ResponseEntity.ok().headers(headers).body(response.getItems());
     }
 
     @PostMapping("/admin/{orderId}/approve")
@@ -16,7 +16,14 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "orders")
+@Table(
+        name = "orders",
+        indexes = {
+                // 관리자 검색/최신 주문 피드의 keyset 페이지네이션 (orderedAt DESC, id DESC)
+                @Index(name = "idx_orders_ordered_at_id", columnList = "ordered_at, id"),
+                @Index(name = "idx_orders_user_ordered_at", columnList = "user_id, ordered_at")
+        }
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -29,7 +36,7 @@ public class Order {
     @Column(columnDefinition = "uuid", updatable = false, nullable = false)
     private UUID id;
 
-    @Column(nullable = false, unique = true, length = 40)
+    @Column(name = "order_number", nullable = false, unique = true, length = 40)
     private String orderNumber;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -108,7 +115,7 @@ public class Order {
     @Column(length = 500)
     private String rejectionReason; // 관리자 거절 사유
 
-    @Column(nullable = false)
+    @Column(name = "ordered_at", nullable = false)
     private LocalDateTime orderedAt;
 
     @Column(nullable = false)
@@ -0,0 +1,18 @@
+package com.saeal.MrDaebackService.order.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderSearchResponseDto {
+    private List<OrderResponseDto> items;
+    private boolean hasNext;
+    private LocalDateTime nextCursorOrderedAt; // 다음 페이지 요청 시 cursorOrderedAt 으로 전달
+    private String nextCursorId;               // 다음 페이지 요청 시 cursorId 로 전달
+}
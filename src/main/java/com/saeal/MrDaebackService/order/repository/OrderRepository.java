@@ -1,11 +1,14 @@
 package com.saeal.MrDaebackService.order.repository;
 
 import com.saeal.MrDaebackService.order.domain.Order;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -22,6 +25,7 @@ public interface OrderRepository extends JpaRepository<Order, UUID> {
     List<Order> findByUserIdWithDetails(@Param("userId") UUID userId);
     
     @Query("SELECT DISTINCT o FROM Order o " +
+           "LEFT JOIN FETCH o.user u " +
            "LEFT JOIN FETCH o.orderItems oi " +
            "LEFT JOIN FETCH oi.product p " +
            "WHERE o.id = :orderId")
@@ -33,4 +37,43 @@ public interface OrderRepository extends JpaRepository<Order, UUID> {
            "LEFT JOIN FETCH oi.product p " +
            "ORDER BY o.orderedAt DESC")
     List<Order> findAllWithDetails();
+
+    /**
+     * 주문 ID 목록으로 상세 정보(user, orderItems, product) 조회
+     * - 페이지 단위로 잘라낸 ID에 대해서만 컬렉션 fetch join 수행
+     */
+    @Query("SELECT DISTINCT o FROM Order o " +
+           "LEFT JOIN FETCH o.user u " +
+           "LEFT JOIN FETCH o.orderItems oi " +
+           "LEFT JOIN FETCH oi.product p " +
+           "WHERE o.id IN :orderIds")
+    List<Order> findAllWithDetailsByIdIn(@Param("orderIds") Collection<UUID> orderIds);
+
+    /**
+     * 최신 주문 ID 목록 조회 (orderedAt DESC, id DESC)
+     * - Pageable 의 크기가 SQL LIMIT 으로 적용됨
+     */
+    @Query("SELECT o.id FROM Order o ORDER BY o.orderedAt DESC, o.id DESC")
+    List<UUID> findRecentOrderIds(Pageable pageable);
+
+    /**
+     * 관리자 주문 검색 (keyset 페이지네이션)
+     * - 정렬: orderedAt DESC, id DESC
+     * - cursor(orderedAt, id)가 주어지면 그 이후 주문만 조회
+     * - 패턴은 서비스에서 '!' 이스케이프 후 '%' 로 감싸서 전달 (pg_trgm 인덱스 사용)
+     * - 컬렉션 fetch join이 없으므로 LIMIT이 DB에서 적용됨
+     */
+    @Query("SELECT o FROM Order o " +
+           "JOIN FETCH o.user u " +
+           "WHERE (:orderNumberPattern IS NULL OR UPPER(o.orderNumber) LIKE :orderNumberPattern ESCAPE '!') " +
+           "AND (:usernamePattern IS NULL OR LOWER(u.username) LIKE :usernamePattern ESCAPE '!') " +
+           "AND (:cursorOrderedAt IS NULL " +
+           "     OR o.orderedAt < :cursorOrderedAt " +
+           "     OR (o.orderedAt = :cursorOrderedAt AND o.id < :cursorId)) " +
+           "ORDER BY o.orderedAt DESC, o.id DESC")
+    List<Order> searchPage(@Param("orderNumberPattern") String orderNumberPattern,
+                           @Param("usernamePattern") String usernamePattern,
+                           @Param("cursorOrderedAt") LocalDateTime cursorOrderedAt,
+                           @Param("cursorId") UUID cursorId,
+                           Pageable pageable);
 }
@@ -0,0 +1,66 @@
+package com.saeal.MrDaebackService.order.service;
+
+import com.saeal.MrDaebackService.order.domain.Order;
+import com.saeal.MrDaebackService.order.domain.OrderItem;
+import com.saeal.MrDaebackService.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Order → OrderItem → Product → ProductMenuItem → MenuItems 그래프 일괄 로딩
+ *
+ * - Order/OrderItem/Product 는 OrderRepository 의 fetch join 으로 로딩된 상태를 전제로 함
+ * - ProductMenuItem/MenuItems 는 Product ID 를 모아 IN 쿼리로 한 번에 로딩
+ *   (bag 컬렉션 두 개를 동시에 fetch join 하면 MultipleBagFetchException 이 발생하므로 분리)
+ * - 주문 수와 무관하게 Product ID {@value #IN_CLAUSE_BATCH_SIZE}개당 쿼리 1회
+ *
+ * 반드시 트랜잭션 안에서 호출해야 함 (같은 영속성 컨텍스트의 Product 컬렉션을 초기화)
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderGraphLoader {
+
+    static final int IN_CLAUSE_BATCH_SIZE = 500;
+
+    private final ProductRepository productRepository;
+
+    /**
+     * 주문 목록에 포함된 모든 Product 의 productMenuItems, menuItem 을 초기화합니다.
+     */
+    public void loadProductMenuItems(Collection<Order> orders) {
+        Set<UUID> productIds = new LinkedHashSet<>();
+        for (Order order : orders) {
+            if (order.getOrderItems() == null) {
+                continue;
+            }
+            for (OrderItem orderItem : order.getOrderItems()) {
+                if (orderItem != null && orderItem.getProduct() != null) {
+                    productIds.add(orderItem.getProduct().getId());
+                }
+            }
+        }
+        loadProductMenuItemsOf(productIds);
+    }
+
+    /**
+     * 주어진 Product ID 들의 productMenuItems, menuItem 을 초기화합니다. (결제 시 재고 계산용)
+     */
+    public void loadProductMenuItemsOf(Collection<UUID> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+
+        List<UUID> ids = new ArrayList<>(new LinkedHashSet<>(productIds));
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_BATCH_SIZE) {
+            int to = Math.min(from + IN_CLAUSE_BATCH_SIZE, ids.size());
+            productRepository.findAllWithMenuItemsByIdIn(ids.subList(from, to));
+        }
+    }
+}
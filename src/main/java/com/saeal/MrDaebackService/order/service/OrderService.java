@@ -1,6 +1,7 @@
 package com.saeal.MrDaebackService.order.service;
 
 import com.saeal.MrDaebackService.cart.domain.Cart;
+import com.saeal.MrDaebackService.cart.domain.CartLine;
 import com.saeal.MrDaebackService.cart.enums.CartStatus;
 import com.saeal.MrDaebackService.order.domain.Order;
 import com.saeal.MrDaebackService.order.domain.OrderItem;
@@ -8,59 +9,59 @@ import com.saeal.MrDaebackService.order.enums.DeliveryStatus;
 import com.saeal.MrDaebackService.order.enums.OrderStatus;
 import com.saeal.MrDaebackService.order.enums.PaymentStatus;
 import com.saeal.MrDaebackService.order.dto.response.OrderResponseDto;
+import com.saeal.MrDaebackService.order.dto.response.OrderSearchResponseDto;
 import com.saeal.MrDaebackService.order.repository.OrderRepository;
 import com.saeal.MrDaebackService.menuItems.domain.MenuItems;
 import com.saeal.MrDaebackService.menuItems.repository.MenuItemsRepository;
+import com.saeal.MrDaebackService.pricing.domain.Money;
 import com.saeal.MrDaebackService.product.domain.Product;
 import com.saeal.MrDaebackService.product.domain.ProductMenuItem;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class OrderService {
 
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+
     private final OrderRepository orderRepository;
     private final MenuItemsRepository menuItemsRepository;
+    private final OrderGraphLoader orderGraphLoader;
 
+    /**
+     * Cart 로부터 Order 를 생성합니다. (저장은 saveOrder)
+     * - 재고 차감은 하지 않으므로 호출 전에 reserveStock 을 먼저 호출해야 함
+     */
     @Transactional
     public Order createOrderFromCart(Cart cart) {
-        // 재고 확인 및 차감
-        updateMenuItemStocks(cart);
-
-        BigDecimal subtotal = BigDecimal.ZERO;
-        for (Product product : cart.getProducts()) {
-            Integer quantity = cart.getProductQuantities().get(product.getId());
-            if (quantity == null) {
-                throw new IllegalStateException("Quantity not found for product: " + product.getId());
-            }
-            // ★ Cart에 저장된 unitPrice 사용 (프론트엔드에서 계산한 가격)
-            BigDecimal unitPrice = cart.getProductUnitPrices().get(product.getId());
-            if (unitPrice == null) {
-                unitPrice = product.getTotalPrice(); // fallback
-            }
-            BigDecimal lineTotal = unitPrice.multiply(BigDecimal.valueOf(quantity));
-            subtotal = subtotal.add(lineTotal);
-        }
+        // 응답 DTO 에서 사용할 ProductMenuItem 을 한 번에 로딩
+        orderGraphLoader.loadProductMenuItemsOf(cart.getLines().stream()
+                .map(line -> line.getProduct().getId())
+                .toList());
 
-        BigDecimal discountAmount = cart.getDiscountAmount();
-        BigDecimal deliveryFee = cart.getDeliveryFee();
-        BigDecimal grandTotal = subtotal.add(deliveryFee).subtract(discountAmount);
+        Money discountAmount = Money.of(cart.getDiscountAmount());
+        Money deliveryFee = Money.of(cart.getDeliveryFee());
 
         Order order = Order.builder()
                 .orderNumber(generateOrderNumber())
                 .user(cart.getUser())
                 .cart(cart)
-                .subtotal(subtotal)
-                .discountAmount(discountAmount)
-                .deliveryFee(deliveryFee)
-                .grandTotal(grandTotal)
+                .discountAmount(discountAmount.toBigDecimal())
+                .deliveryFee(deliveryFee.toBigDecimal())
                 .currency("KRW")
                 .orderStatus(OrderStatus.PENDING_APPROVAL) // 관리자 승인 대기
                 .paymentStatus(PaymentStatus.SUCCEEDED) // 결제 완료
@@ -79,26 +80,29 @@ public class OrderService {
                 .updatedAt(LocalDateTime.now())
                 .build();
 
-        for (Product product : cart.getProducts()) {
-            Integer quantity = cart.getProductQuantities().get(product.getId());
-            // ★ Cart에 저장된 unitPrice 사용 (프론트엔드에서 계산한 가격)
-            BigDecimal unitPrice = cart.getProductUnitPrices().get(product.getId());
-            if (unitPrice == null) {
-                unitPrice = product.getTotalPrice(); // fallback
-            }
-            BigDecimal lineTotal = unitPrice.multiply(BigDecimal.valueOf(quantity));
+        // CartLine 한 번 순회로 OrderItem 생성과 subtotal 계산을 함께 처리
+        Money subtotal = Money.ZERO;
+        for (CartLine line : cart.getLines()) {
+            Product product = line.getProduct();
+            // ★ Cart에 저장된 unitPrice 사용 (장바구니 생성 시 PricingService 로 계산한 가격)
+            Money unitPrice = line.getUnitPrice() != null ? line.getUnitPrice() : Money.of(product.getTotalPrice());
+            Money lineTotal = unitPrice.times(line.getQuantity());
+            subtotal = subtotal.plus(lineTotal);
 
             OrderItem orderItem = OrderItem.builder()
                     .order(order)
                     .product(product)
-                    .quantity(quantity)
-                    .unitPrice(unitPrice)
-                    .lineTotal(lineTotal)
+                    .quantity(line.getQuantity())
+                    .unitPrice(unitPrice.toBigDecimal())
+                    .lineTotal(lineTotal.toBigDecimal())
                     .optionSummary(product.getProductName())
                     .build();
             order.getOrderItems().add(orderItem);
         }
 
+        order.setSubtotal(subtotal.toBigDecimal());
+        order.setGrandTotal(subtotal.plus(deliveryFee).minus(discountAmount).toBigDecimal());
+
         return order;
     }
 
@@ -110,7 +114,7 @@ public class OrderService {
     @Transactional(readOnly = true)
     public List<OrderResponseDto> getOrdersByUserId(UUID userId) {
         List<Order> orders = orderRepository.findByUserIdWithDetails(userId);
-        initializeProductMenuItems(orders);
+        orderGraphLoader.loadProductMenuItems(orders);
         return orders.stream()
                 .map(OrderResponseDto::from)
                 .toList();
@@ -119,48 +123,107 @@ public class OrderService {
     @Transactional(readOnly = true)
     public List<OrderResponseDto> getAllOrders() {
         List<Order> orders = orderRepository.findAllWithDetails();
-        initializeProductMenuItems(orders);
+        orderGraphLoader.loadProductMenuItems(orders);
         return orders.stream()
                 .map(OrderResponseDto::from)
                 .toList();
     }
 
+    /**
+     * 최신 주문 조회 (관리자 대시보드)
+     * - 1단계: 최신 주문 ID를 LIMIT 으로 조회
+     * - 2단계: 해당 ID에 대해서만 상세 정보 조회
+     */
     @Transactional(readOnly = true)
     public List<OrderResponseDto> getRecentOrders(int limit) {
-        List<Order> orders = orderRepository.findAllWithDetails();
-        initializeProductMenuItems(orders);
+        if (limit <= 0) {
+            return new ArrayList<>();
+        }
+        List<UUID> ids = orderRepository.findRecentOrderIds(PageRequest.of(0, limit));
+        List<Order> orders = loadDetailsInOrder(ids);
+        orderGraphLoader.loadProductMenuItems(orders);
         return orders.stream()
-                .limit(limit)
                 .map(OrderResponseDto::from)
                 .toList();
     }
 
     /**
-     * Order 목록의 모든 Product의 productMenuItems를 초기화합니다.
-     * MultipleBagFetchException을 방지하기 위해 별도로 처리합니다.
+     * 관리자 주문 검색 (keyset 페이지네이션)
+     * - 주문 번호 / 사용자 아이디 부분 일치 검색을 DB에서 수행
+     * - 1단계: 조건에 맞는 주문을 size + 1 개만 조회 (다음 페이지 여부 판단)
+     * - 2단계: 해당 주문들에 대해서만 orderItems/product 상세 조회
      */
-    private void initializeProductMenuItems(List<Order> orders) {
-        orders.forEach(order -> {
-            if (order.getOrderItems() != null) {
-                order.getOrderItems().forEach(orderItem -> {
-                    if (orderItem != null && orderItem.getProduct() != null) {
-                        orderItem.getProduct().getProductMenuItems().size();
-                        orderItem.getProduct().getProductMenuItems().forEach(pmi -> {
-                            if (pmi != null && pmi.getMenuItem() != null) {
-                                pmi.getMenuItem().getName();
-                            }
-                        });
-                    }
-                });
-            }
-        });
+    @Transactional(readOnly = true)
+    public OrderSearchResponseDto searchOrders(String orderNumber, String username,
+                                               LocalDateTime cursorOrderedAt, UUID cursorId, int size) {
+        if ((cursorOrderedAt == null) != (cursorId == null)) {
+            throw new IllegalArgumentException("cursorOrderedAt and cursorId must be provided together");
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_SEARCH_PAGE_SIZE));
+
+        List<Order> page = orderRepository.searchPage(
+                toLikePattern(orderNumber == null ? null : orderNumber.toUpperCase()),
+                toLikePattern(username == null ? null : username.toLowerCase()),
+                cursorOrderedAt,
+                cursorId,
+                PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = page.size() > pageSize;
+        if (hasNext) {
+            page = page.subList(0, pageSize);
+        }
+
+        List<Order> orders = loadDetailsInOrder(page.stream().map(Order::getId).toList());
+        orderGraphLoader.loadProductMenuItems(orders);
+
+        LocalDateTime nextCursorOrderedAt = null;
+        String nextCursorId = null;
+        if (hasNext) {
+            Order last = page.get(page.size() - 1);
+            nextCursorOrderedAt = last.getOrderedAt();
+            nextCursorId = last.getId().toString();
+        }
+
+        List<OrderResponseDto> items = orders.stream()
+                .map(OrderResponseDto::from)
+                .toList();
+        return new OrderSearchResponseDto(items, hasNext, nextCursorOrderedAt, nextCursorId);
+    }
+
+    /**
+     * 페이지로 잘라낸 주문 ID들의 상세 정보를 조회하고 ID 순서대로 반환합니다.
+     */
+    private List<Order> loadDetailsInOrder(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<UUID, Order> byId = orderRepository.findAllWithDetailsByIdIn(ids).stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 부분 일치 LIKE 패턴 생성 (LIKE 특수문자는 '!' 로 이스케이프)
+     */
+    private String toLikePattern(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return null;
+        }
+        String escaped = keyword.trim()
+                .replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+        return "%" + escaped + "%";
     }
 
     @Transactional
     public OrderResponseDto getOrderById(UUID orderId) {
         Order order = orderRepository.findByIdWithDetails(orderId)
                 .orElseThrow(() -> new IllegalArgumentException("Order not found: " + orderId));
-        initializeProductMenuItems(List.of(order));
+        orderGraphLoader.loadProductMenuItems(List.of(order));
         return OrderResponseDto.from(order);
     }
 
@@ -208,14 +271,57 @@ public class OrderService {
 
     /**
      * Cart 내 Product의 메뉴 아이템 수량만큼 MenuItems 재고를 차감한다.
-     * 재고가 부족하면 IllegalStateException을 던져 결제를 중단한다.
+     * 재고가 부족하면 IllegalStateException을 던져 결제를 중단한다. (트랜잭션 롤백으로 앞선 차감도 취소)
+     *
+     * 1. 메뉴 아이템별 필요 수량 합산 (여러 Product 가 같은 MenuItems 를 공유해도 1건)
+     * 2. findAllById 한 번으로 조회한 스냅샷에 대해 모든 요구량을 먼저 검증
+     * 3. 메뉴 아이템당 1회 "stock >= n" 조건부 UPDATE 로 차감 (동시 결제 시 초과 판매 방지)
+     *
+     * - TreeMap 순서(menuItemId)로 행을 잠그므로 결제 간 교착 상태가 발생하지 않음
+     * - 조건부 UPDATE 가 영속성 컨텍스트를 비우므로, 호출자는 이후 Cart 를 다시 조회해서 사용해야 함
      */
-    private void updateMenuItemStocks(Cart cart) {
-        for (Product product : cart.getProducts()) {
-            Integer productQuantity = cart.getProductQuantities().get(product.getId());
-            if (productQuantity == null) {
-                throw new IllegalStateException("Quantity not found for product: " + product.getId());
+    @Transactional
+    public void reserveStock(Cart cart) {
+        SortedMap<UUID, Integer> requirements = aggregateStockRequirements(cart);
+        if (requirements.isEmpty()) {
+            return;
+        }
+
+        Map<UUID, MenuItems> snapshot = menuItemsRepository.findAllById(requirements.keySet()).stream()
+                .collect(Collectors.toMap(MenuItems::getId, Function.identity()));
+        for (Map.Entry<UUID, Integer> requirement : requirements.entrySet()) {
+            MenuItems menuItem = snapshot.get(requirement.getKey());
+            if (menuItem == null) {
+                throw new IllegalStateException("Menu item not found: " + requirement.getKey());
+            }
+            Integer currentStock = menuItem.getStock();
+            if (currentStock == null || currentStock < requirement.getValue()) {
+                throw new IllegalStateException("Insufficient stock for menu item: " + menuItem.getName());
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (Map.Entry<UUID, Integer> requirement : requirements.entrySet()) {
+            int updated = menuItemsRepository.decreaseStockIfAvailable(requirement.getKey(), requirement.getValue(), now);
+            if (updated == 0) {
+                throw new IllegalStateException("Insufficient stock for menu item: "
+                        + snapshot.get(requirement.getKey()).getName());
             }
+        }
+    }
+
+    /**
+     * 메뉴 아이템 ID별 필요 재고 합산
+     * - 필요 수량 = ProductMenuItem.quantity × Cart 내 Product 수량
+     */
+    private SortedMap<UUID, Integer> aggregateStockRequirements(Cart cart) {
+        SortedMap<UUID, Integer> requirements = new TreeMap<>();
+        orderGraphLoader.loadProductMenuItemsOf(cart.getLines().stream()
+                .map(line -> line.getProduct().getId())
+                .toList());
+        for (CartLine line : cart.getLines()) {
+            Product product = line.getProduct();
+            int productQuantity = line.getQuantity();
 
             for (ProductMenuItem productMenuItem : product.getProductMenuItems()) {
                 MenuItems menuItem = productMenuItem.getMenuItem();
@@ -224,15 +330,11 @@ public class OrderService {
                 }
 
                 int required = productMenuItem.getQuantity() * productQuantity;
-                Integer currentStock = menuItem.getStock();
-                if (currentStock == null || currentStock < required) {
-                    throw new IllegalStateException("Insufficient stock for menu item: " + menuItem.getName());
+                if (required > 0) {
+                    requirements.merge(menuItem.getId(), required, Integer::sum);
                 }
-
-                menuItem.setStock(currentStock - required);
-                // 명시적으로 저장해 재고 차감 반영
-                menuItemsRepository.save(menuItem);
             }
         }
+        return requirements;
     }
 }
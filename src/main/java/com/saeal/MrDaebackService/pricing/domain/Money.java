@@ -0,0 +1,104 @@
+package com.saeal.MrDaebackService.pricing.domain;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 원화 금액 (long minor unit = 1/100원)
+ *
+ * - DB 금액 컬럼(precision = 18, scale = 2)과 같은 단위로 보관하므로 변환 시 손실 없음
+ * - BigDecimal → Money 변환은 scale 2 로 HALF_UP 반올림
+ * - 덧셈/곱셈은 overflow 시 ArithmeticException (Math.*Exact)
+ * - 비율 적용(applyRate)은 basis point(1/10000) 단위, 0 에서 먼 쪽으로 HALF_UP 반올림 (BigDecimal HALF_UP 과 동일)
+ */
+public final class Money implements Comparable<Money> {
+
+    public static final int SCALE = 2;
+    public static final Money ZERO = new Money(0L);
+
+    private static final long BASIS_POINTS = 10_000L;
+
+    private final long minorUnits;
+
+    private Money(long minorUnits) {
+        this.minorUnits = minorUnits;
+    }
+
+    public static Money ofMinor(long minorUnits) {
+        return minorUnits == 0L ? ZERO : new Money(minorUnits);
+    }
+
+    public static Money of(BigDecimal amount) {
+        if (amount == null) {
+            return ZERO;
+        }
+        return ofMinor(amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+    }
+
+    public static Money won(long won) {
+        return ofMinor(Math.multiplyExact(won, 100L));
+    }
+
+    public long minorUnits() {
+        return minorUnits;
+    }
+
+    public Money plus(Money other) {
+        return other.minorUnits == 0L ? this : ofMinor(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    public Money minus(Money other) {
+        return other.minorUnits == 0L ? this : ofMinor(Math.subtractExact(minorUnits, other.minorUnits));
+    }
+
+    public Money times(int quantity) {
+        return quantity == 1 ? this : ofMinor(Math.multiplyExact(minorUnits, (long) quantity));
+    }
+
+    /**
+     * 비율 적용 (예: 1000bp = 10%)
+     */
+    public Money applyRate(int basisPoints) {
+        if (basisPoints == 0 || minorUnits == 0L) {
+            return ZERO;
+        }
+        long product = Math.multiplyExact(Math.abs(minorUnits), (long) basisPoints);
+        long rounded = (product + BASIS_POINTS / 2) / BASIS_POINTS;
+        return ofMinor(minorUnits < 0 ? -rounded : rounded);
+    }
+
+    public boolean isPositive() {
+        return minorUnits > 0L;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    /**
+     * 원 단위 정수 (소수점 이하 버림)
+     */
+    public int toWonInt() {
+        return Math.toIntExact(minorUnits / 100L);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof Money other && minorUnits == other.minorUnits);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
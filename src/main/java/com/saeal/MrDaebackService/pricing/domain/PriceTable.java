@@ -0,0 +1,183 @@
+package com.saeal.MrDaebackService.pricing.domain;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 불변 가격표 (카탈로그 버전별 스냅샷)
+ *
+ * - 모든 금액은 long minor unit (Money 와 같은 1/100원 단위) 으로 보관
+ * - 빌드 이후에는 읽기 전용이므로 여러 스레드에서 락 없이 공유
+ * - 가격 계산은 long 덧셈/곱셈만 사용 (BigDecimal 미사용)
+ *
+ * 커스터마이징 단가 = dinner.basePrice + style.extraPrice + Σ (최종수량 - 기본수량) × 메뉴 단가
+ */
+public final class PriceTable {
+
+    @Getter
+    private final long version;
+
+    private final Map<UUID, DinnerPrice> dinners;
+    private final Map<UUID, Long> styleExtraPrices;
+    private final Map<UUID, Long> menuItemUnitPrices;
+
+    private PriceTable(long version, Map<UUID, DinnerPrice> dinners, Map<UUID, Long> styleExtraPrices,
+                       Map<UUID, Long> menuItemUnitPrices) {
+        this.version = version;
+        this.dinners = dinners;
+        this.styleExtraPrices = styleExtraPrices;
+        this.menuItemUnitPrices = menuItemUnitPrices;
+    }
+
+    public static Builder builder(long version) {
+        return new Builder(version);
+    }
+
+    /**
+     * 커스터마이징 단가 (minor unit)
+     * @param menuItemQuantities 메뉴 아이템 ID → 최종 수량 (없는 기본 구성은 기본 수량 유지)
+     */
+    public long priceCustomization(UUID dinnerId, UUID servingStyleId, Map<UUID, Integer> menuItemQuantities) {
+        DinnerPrice dinner = requireDinner(dinnerId);
+        long price = dinner.basePrice + styleExtraPrice(servingStyleId);
+        if (menuItemQuantities == null) {
+            return price;
+        }
+        for (Map.Entry<UUID, Integer> entry : menuItemQuantities.entrySet()) {
+            int quantity = entry.getValue() == null ? 0 : entry.getValue();
+            int defaultQuantity = dinner.defaultQuantityOf(entry.getKey());
+            if (quantity != defaultQuantity) {
+                price += (quantity - defaultQuantity) * menuItemUnitPrice(entry.getKey());
+            }
+        }
+        return price;
+    }
+
+    /**
+     * 구성 전체 기준 단가의 고정 부분 (minor unit) = basePrice + extraPrice - Σ 기본수량 × 단가
+     * - 여기에 구성 메뉴 아이템마다 수량 × 단가를 더하면 구성 그대로의 단가 (Product 의 ProductMenuItem 목록으로 계산할 때 사용)
+     */
+    public long compositionBase(UUID dinnerId, UUID servingStyleId) {
+        DinnerPrice dinner = requireDinner(dinnerId);
+        return dinner.basePrice + styleExtraPrice(servingStyleId) - dinner.defaultMenuTotal;
+    }
+
+    public long menuItemUnitPrice(UUID menuItemId) {
+        Long unitPrice = menuItemUnitPrices.get(menuItemId);
+        if (unitPrice == null) {
+            throw new IllegalArgumentException("Menu item not found: " + menuItemId);
+        }
+        return unitPrice;
+    }
+
+    public long styleExtraPrice(UUID servingStyleId) {
+        if (servingStyleId == null) {
+            return 0L;
+        }
+        Long extraPrice = styleExtraPrices.get(servingStyleId);
+        if (extraPrice == null) {
+            throw new IllegalArgumentException("Serving style not found: " + servingStyleId);
+        }
+        return extraPrice;
+    }
+
+    public boolean containsDinner(UUID dinnerId) {
+        return dinners.containsKey(dinnerId);
+    }
+
+    private DinnerPrice requireDinner(UUID dinnerId) {
+        DinnerPrice dinner = dinners.get(dinnerId);
+        if (dinner == null) {
+            throw new IllegalArgumentException("Dinner not found: " + dinnerId);
+        }
+        return dinner;
+    }
+
+    /**
+     * 디너별 가격 정보 (기본 구성은 배열로 보관)
+     */
+    private static final class DinnerPrice {
+        final long basePrice;
+        final UUID[] defaultMenuItemIds;
+        final int[] defaultQuantities;
+        final long[] defaultUnitPrices;
+        final long defaultMenuTotal;       // Σ 기본수량 × 단가
+
+        DinnerPrice(long basePrice, UUID[] defaultMenuItemIds, int[] defaultQuantities, long[] defaultUnitPrices) {
+            this.basePrice = basePrice;
+            this.defaultMenuItemIds = defaultMenuItemIds;
+            this.defaultQuantities = defaultQuantities;
+            this.defaultUnitPrices = defaultUnitPrices;
+            long total = 0L;
+            for (int i = 0; i < defaultQuantities.length; i++) {
+                total += defaultQuantities[i] * defaultUnitPrices[i];
+            }
+            this.defaultMenuTotal = total;
+        }
+
+        int defaultQuantityOf(UUID menuItemId) {
+            for (int i = 0; i < defaultMenuItemIds.length; i++) {
+                if (defaultMenuItemIds[i].equals(menuItemId)) {
+                    return defaultQuantities[i];
+                }
+            }
+            return 0;
+        }
+    }
+
+    /**
+     * 가격표 빌더 (메뉴 아이템 → 서빙 스타일 → 디너 순으로 등록)
+     */
+    public static final class Builder {
+        private final long version;
+        private final Map<UUID, DinnerPrice> dinners = new HashMap<>();
+        private final Map<UUID, Long> styleExtraPrices = new HashMap<>();
+        private final Map<UUID, Long> menuItemUnitPrices = new HashMap<>();
+
+        private Builder(long version) {
+            this.version = version;
+        }
+
+        public Builder menuItem(UUID id, BigDecimal unitPrice) {
+            menuItemUnitPrices.put(id, Money.of(unitPrice).minorUnits());
+            return this;
+        }
+
+        public Builder servingStyle(UUID id, BigDecimal extraPrice) {
+            styleExtraPrices.put(id, Money.of(extraPrice).minorUnits());
+            return this;
+        }
+
+        /**
+         * @param defaultQuantities 기본 구성 메뉴 아이템 ID → 기본 수량 (menuItem 으로 먼저 등록되어 있어야 함)
+         */
+        public Builder dinner(UUID id, BigDecimal basePrice, Map<UUID, Integer> defaultQuantities) {
+            int size = defaultQuantities.size();
+            UUID[] ids = new UUID[size];
+            int[] quantities = new int[size];
+            long[] unitPrices = new long[size];
+            int i = 0;
+            for (Map.Entry<UUID, Integer> entry : defaultQuantities.entrySet()) {
+                Long unitPrice = menuItemUnitPrices.get(entry.getKey());
+                if (unitPrice == null) {
+                    throw new IllegalStateException("Menu item not registered in price table: " + entry.getKey());
+                }
+                ids[i] = entry.getKey();
+                quantities[i] = entry.getValue() == null ? 0 : entry.getValue();
+                unitPrices[i] = unitPrice;
+                i++;
+            }
+            dinners.put(id, new DinnerPrice(Money.of(basePrice).minorUnits(), ids, quantities, unitPrices));
+            return this;
+        }
+
+        public PriceTable build() {
+            return new PriceTable(version, Map.copyOf(dinners), Map.copyOf(styleExtraPrices),
+                    Map.copyOf(menuItemUnitPrices));
+        }
+    }
+}
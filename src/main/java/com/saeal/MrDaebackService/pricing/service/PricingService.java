@@ -0,0 +1,118 @@
+package com.saeal.MrDaebackService.pricing.service;
+
+import com.saeal.MrDaebackService.catalog.event.CatalogChangedEvent;
+import com.saeal.MrDaebackService.dinner.domain.Dinner;
+import com.saeal.MrDaebackService.dinner.domain.DinnerMenuItem;
+import com.saeal.MrDaebackService.dinner.repository.DinnerRepository;
+import com.saeal.MrDaebackService.menuItems.domain.MenuItems;
+import com.saeal.MrDaebackService.menuItems.repository.MenuItemsRepository;
+import com.saeal.MrDaebackService.pricing.domain.Money;
+import com.saeal.MrDaebackService.pricing.domain.PriceTable;
+import com.saeal.MrDaebackService.product.domain.Product;
+import com.saeal.MrDaebackService.product.domain.ProductMenuItem;
+import com.saeal.MrDaebackService.product.enums.ProductType;
+import com.saeal.MrDaebackService.servingStyle.domain.ServingStyle;
+import com.saeal.MrDaebackService.servingStyle.repository.ServingStyleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 서버 기준 가격 계산
+ *
+ * - 디너/서빙 스타일/메뉴 아이템 가격을 불변 PriceTable 로 컴파일해 메모리에 보관
+ * - GUI 장바구니, 음성 결제, 음성 주문 합계가 모두 같은 가격표로 계산
+ * - 관리자 카탈로그 변경(CatalogChangedEvent) 커밋 후에만 다시 빌드
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PricingService {
+
+    private final DinnerRepository dinnerRepository;
+    private final ServingStyleRepository servingStyleRepository;
+    private final MenuItemsRepository menuItemsRepository;
+
+    private final AtomicLong versionSequence = new AtomicLong();
+    private volatile PriceTable priceTable;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        log.info("[Pricing] 카탈로그 변경으로 가격표 재생성: {}", event.getReason());
+        rebuild();
+    }
+
+    /**
+     * 현재 가격표 (아직 없으면 생성)
+     */
+    public PriceTable currentTable() {
+        PriceTable table = priceTable;
+        if (table == null) {
+            table = rebuild();
+        }
+        return table;
+    }
+
+    /**
+     * 카탈로그 전체를 읽어 새 가격표로 교체
+     */
+    public synchronized PriceTable rebuild() {
+        PriceTable.Builder builder = PriceTable.builder(versionSequence.incrementAndGet());
+        for (MenuItems menuItem : menuItemsRepository.findAll()) {
+            builder.menuItem(menuItem.getId(), menuItem.getUnitPrice());
+        }
+        for (ServingStyle servingStyle : servingStyleRepository.findAll()) {
+            builder.servingStyle(servingStyle.getId(), servingStyle.getExtraPrice());
+        }
+        for (Dinner dinner : dinnerRepository.findAll()) {
+            Map<UUID, Integer> defaultQuantities = new LinkedHashMap<>();
+            for (DinnerMenuItem dinnerMenuItem : dinner.getDinnerMenuItems()) {
+                defaultQuantities.put(dinnerMenuItem.getMenuItem().getId(), dinnerMenuItem.getDefaultQuantity());
+            }
+            builder.dinner(dinner.getId(), dinner.getBasePrice(), defaultQuantities);
+        }
+
+        PriceTable table = builder.build();
+        priceTable = table;
+        log.info("[Pricing] 가격표 v{} 생성 완료", table.getVersion());
+        return table;
+    }
+
+    /**
+     * Product 1개(장바구니 수량 1)의 서버 기준 단가
+     * - 디너 상품: basePrice + extraPrice + Σ (구성 수량 - 기본 수량) × 메뉴 단가
+     * - 추가 메뉴 상품: Σ 구성 수량 × 메뉴 단가
+     * productMenuItems 가 로딩된 상태여야 함
+     * 구성 메뉴 아이템을 직접 순회해 long 으로 누적 (호출마다 Map 을 만들지 않음)
+     */
+    public Money unitPriceOf(Product product) {
+        PriceTable table = currentTable();
+        long price = 0L;
+        if (product.getProductType() != ProductType.ADDITIONAL_MENU_PRODUCT && product.getDinner() != null) {
+            UUID servingStyleId = product.getServingStyle() != null ? product.getServingStyle().getId() : null;
+            price = table.compositionBase(product.getDinner().getId(), servingStyleId);
+        }
+
+        List<ProductMenuItem> productMenuItems = product.getProductMenuItems();
+        for (int i = 0; i < productMenuItems.size(); i++) {
+            ProductMenuItem productMenuItem = productMenuItems.get(i);
+            int quantity = productMenuItem.getQuantity() == null ? 0 : productMenuItem.getQuantity();
+            price += quantity * table.menuItemUnitPrice(productMenuItem.getMenuItem().getId());
+        }
+        return Money.ofMinor(price);
+    }
+}
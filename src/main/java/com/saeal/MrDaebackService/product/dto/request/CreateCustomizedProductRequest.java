@@ -0,0 +1,34 @@
+package com.saeal.MrDaebackService.product.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Map;
+
+/**
+ * 커스터마이징이 반영된 Product 일괄 생성 요청 (주문 아이템 1건)
+ * - LLM: VoiceOrderService checkout 에서 사용
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CreateCustomizedProductRequest {
+
+    private String dinnerId;
+
+    private String servingStyleId;
+
+    private int quantity; // 주문 수량 (동일 커스터마이징은 하나의 Product 로 합쳐짐)
+
+    private String memo;
+
+    private String address;
+
+    // ★ 메뉴 아이템 ID → 최종 수량 (0 = 제외, 디너 기본 구성에 없으면 새로 추가)
+    private Map<String, Integer> menuItemQuantities;
+}
@@ -0,0 +1,16 @@
+package com.saeal.MrDaebackService.product.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomizedProductResponseDto {
+    private String productId;        // 생성된 Product ID
+    private int quantity;            // 동일 커스터마이징으로 합쳐진 수량
+    private BigDecimal unitPrice;    // 커스터마이징 반영 단가 (basePrice + extraPrice + 메뉴 차액)
+}
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -16,4 +17,14 @@ public interface ProductRepository extends JpaRepository<Product, UUID> {
      */
     @Query("SELECT p FROM Product p WHERE p.dinner.id = :dinnerId AND p.servingStyle.id = :servingStyleId ORDER BY p.createdAt DESC")
     List<Product> findByDinnerAndServingStyle(@Param("dinnerId") UUID dinnerId, @Param("servingStyleId") UUID servingStyleId);
+
+    /**
+     * Product ID 목록으로 productMenuItems, menuItem 을 한 번에 로딩
+     * - 이미 영속성 컨텍스트에 있는 Product 의 productMenuItems 컬렉션도 함께 초기화됨
+     */
+    @Query("SELECT DISTINCT p FROM Product p " +
+           "LEFT JOIN FETCH p.productMenuItems pmi " +
+           "LEFT JOIN FETCH pmi.menuItem mi " +
+           "WHERE p.id IN :productIds")
+    List<Product> findAllWithMenuItemsByIdIn(@Param("productIds") Collection<UUID> productIds);
 }
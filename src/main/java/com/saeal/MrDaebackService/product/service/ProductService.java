@@ -4,12 +4,17 @@ import com.saeal.MrDaebackService.dinner.domain.Dinner;
 import com.saeal.MrDaebackService.dinner.domain.DinnerMenuItem;
 import com.saeal.MrDaebackService.dinner.repository.DinnerMenuItemRepository;
 import com.saeal.MrDaebackService.dinner.repository.DinnerRepository;
+import com.saeal.MrDaebackService.pricing.domain.Money;
+import com.saeal.MrDaebackService.pricing.domain.PriceTable;
+import com.saeal.MrDaebackService.pricing.service.PricingService;
 import com.saeal.MrDaebackService.product.domain.Product;
 import com.saeal.MrDaebackService.product.domain.ProductMenuItem;
 import com.saeal.MrDaebackService.product.dto.request.CreateProductRequest;
 import com.saeal.MrDaebackService.product.dto.request.CreateAdditionalMenuProductRequest;
+import com.saeal.MrDaebackService.product.dto.request.CreateCustomizedProductRequest;
 import com.saeal.MrDaebackService.product.dto.request.UpdateProductMenuItemRequest;
 import com.saeal.MrDaebackService.product.enums.ProductType;
+import com.saeal.MrDaebackService.product.dto.response.CustomizedProductResponseDto;
 import com.saeal.MrDaebackService.product.dto.response.ProductResponseDto;
 import com.saeal.MrDaebackService.product.dto.response.ProductMenuItemResponseDto;
 import com.saeal.MrDaebackService.product.repository.ProductRepository;
@@ -22,8 +27,17 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -34,6 +48,7 @@ public class ProductService {
     private final ServingStyleRepository servingStyleRepository;
     private final DinnerMenuItemRepository dinnerMenuItemRepository;
     private final MenuItemsRepository menuItemsRepository;
+    private final PricingService pricingService;
 
     /**
      * Product 생성 (Dinner + Style 기반)
@@ -92,6 +107,192 @@ public class ProductService {
         return ProductResponseDto.from(savedProduct);
     }
 
+    /**
+     * 커스터마이징 반영 Product 일괄 생성
+     * - LLM: VoiceOrderService checkout 에서 호출
+     *
+     * Dinner, ServingStyle, 기본 메뉴 아이템, 추가 메뉴 아이템을 요청 전체에 대해 한 번씩만 조회하고
+     * 모든 Product/ProductMenuItem 을 메모리에서 구성한 뒤 saveAll 로 저장 (JDBC batch insert)
+     *
+     * 커스터마이징이 동일한 요청은 하나의 Product(quantity = 합계)로 합쳐서 생성
+     * - Cart/Order 에는 Product 1건 + 수량으로 담기고, 재고는 ProductMenuItem.quantity × 수량으로 차감됨
+     * unitPrice 는 PricingService 가격표로 계산 (dinner.basePrice + style.extraPrice + Σ (최종수량 - 기본수량) × 메뉴 단가)
+     */
+    @Transactional
+    public List<CustomizedProductResponseDto> createCustomizedProducts(List<CreateCustomizedProductRequest> requests) {
+        PriceTable priceTable = pricingService.currentTable();
+        Set<UUID> dinnerIds = new HashSet<>();
+        Set<UUID> servingStyleIds = new HashSet<>();
+        for (CreateCustomizedProductRequest request : requests) {
+            dinnerIds.add(UUID.fromString(request.getDinnerId()));
+            servingStyleIds.add(UUID.fromString(request.getServingStyleId()));
+        }
+
+        Map<UUID, Dinner> dinners = dinnerRepository.findAllById(dinnerIds).stream()
+                .collect(Collectors.toMap(Dinner::getId, Function.identity()));
+        Map<UUID, ServingStyle> servingStyles = servingStyleRepository.findAllById(servingStyleIds).stream()
+                .collect(Collectors.toMap(ServingStyle::getId, Function.identity()));
+        Map<UUID, List<DinnerMenuItem>> defaultMenuItems = dinnerMenuItemRepository
+                .findAllWithMenuItemByDinnerIdIn(dinnerIds).stream()
+                .collect(Collectors.groupingBy(dmi -> dmi.getDinner().getId()));
+
+        // 기본 구성에 없는 메뉴 아이템 (새로 추가되는 구성요소)
+        Map<UUID, MenuItems> menuItems = new HashMap<>();
+        defaultMenuItems.values().forEach(list ->
+                list.forEach(dmi -> menuItems.put(dmi.getMenuItem().getId(), dmi.getMenuItem())));
+        Set<UUID> extraMenuItemIds = new HashSet<>();
+        for (CreateCustomizedProductRequest request : requests) {
+            if (request.getMenuItemQuantities() == null) {
+                continue;
+            }
+            for (String menuItemId : request.getMenuItemQuantities().keySet()) {
+                UUID id = UUID.fromString(menuItemId);
+                if (!menuItems.containsKey(id)) {
+                    extraMenuItemIds.add(id);
+                }
+            }
+        }
+        if (!extraMenuItemIds.isEmpty()) {
+            menuItemsRepository.findAllById(extraMenuItemIds).forEach(mi -> menuItems.put(mi.getId(), mi));
+        }
+
+        // 커스터마이징 fingerprint → 생성할 Product (동일 구성은 1개 Product + 수량으로 합침)
+        Map<String, PendingProduct> pendingProducts = new LinkedHashMap<>();
+
+        for (CreateCustomizedProductRequest request : requests) {
+            if (request.getQuantity() <= 0) {
+                continue;
+            }
+            UUID dinnerId = UUID.fromString(request.getDinnerId());
+            UUID servingStyleId = UUID.fromString(request.getServingStyleId());
+            Dinner dinner = dinners.get(dinnerId);
+            if (dinner == null) {
+                throw new IllegalArgumentException("Dinner not found: " + dinnerId);
+            }
+            ServingStyle servingStyle = servingStyles.get(servingStyleId);
+            if (servingStyle == null) {
+                throw new IllegalArgumentException("Serving style not found: " + servingStyleId);
+            }
+
+            // 메뉴 아이템별 최종 수량 (기본 구성 → 커스터마이징 덮어쓰기)
+            Map<UUID, Integer> defaultQuantities = new LinkedHashMap<>();
+            for (DinnerMenuItem dinnerMenuItem : defaultMenuItems.getOrDefault(dinnerId, List.of())) {
+                defaultQuantities.put(dinnerMenuItem.getMenuItem().getId(), dinnerMenuItem.getDefaultQuantity());
+            }
+            Map<UUID, Integer> finalQuantities = new LinkedHashMap<>(defaultQuantities);
+            if (request.getMenuItemQuantities() != null) {
+                for (Map.Entry<String, Integer> entry : request.getMenuItemQuantities().entrySet()) {
+                    UUID menuItemId = UUID.fromString(entry.getKey());
+                    if (!menuItems.containsKey(menuItemId)) {
+                        throw new IllegalArgumentException("Menu item not found: " + menuItemId);
+                    }
+                    int quantity = entry.getValue() == null ? 0 : entry.getValue();
+                    if (quantity <= 0 && !defaultQuantities.containsKey(menuItemId)) {
+                        continue;
+                    }
+                    finalQuantities.put(menuItemId, Math.max(quantity, 0));
+                }
+            }
+
+            String fingerprint = customizationFingerprint(dinnerId, servingStyleId, finalQuantities,
+                    request.getMemo(), request.getAddress());
+            PendingProduct pending = pendingProducts.get(fingerprint);
+            if (pending != null) {
+                pending.quantity += request.getQuantity();
+                continue;
+            }
+
+            long unitPrice = priceTable.priceCustomization(dinnerId, servingStyleId, finalQuantities);
+
+            pendingProducts.put(fingerprint, new PendingProduct(dinner, servingStyle, finalQuantities,
+                    request.getMemo(), request.getAddress(), request.getQuantity(), unitPrice));
+        }
+
+        List<Product> products = new ArrayList<>();
+        for (PendingProduct pending : pendingProducts.values()) {
+            // totalPrice = dinner.basePrice + style.extraPrice (메뉴 아이템 미포함, createProduct 와 동일)
+            Money totalPrice = Money.ofMinor(
+                    priceTable.priceCustomization(pending.dinner.getId(), pending.servingStyle.getId(), null));
+
+            Product product = Product.builder()
+                    .dinner(pending.dinner)
+                    .servingStyle(pending.servingStyle)
+                    .productName(pending.dinner.getDinnerName() + " - " + pending.servingStyle.getStyleName())
+                    .totalPrice(totalPrice.toBigDecimal())
+                    .quantity(pending.quantity)
+                    .memo(pending.memo)
+                    .address(pending.address)
+                    .build();
+
+            // ProductMenuItem.quantity 는 Product 1개 기준 수량
+            for (Map.Entry<UUID, Integer> entry : pending.menuItemQuantities.entrySet()) {
+                MenuItems menuItem = menuItems.get(entry.getKey());
+                Money menuItemUnitPrice = Money.ofMinor(priceTable.menuItemUnitPrice(entry.getKey()));
+                int quantity = entry.getValue();
+
+                ProductMenuItem productMenuItem = ProductMenuItem.builder()
+                        .product(product)
+                        .menuItem(menuItem)
+                        .quantity(quantity)
+                        .unitPrice(menuItemUnitPrice.toBigDecimal())
+                        .lineTotal(menuItemUnitPrice.times(quantity).toBigDecimal())
+                        .build();
+                product.getProductMenuItems().add(productMenuItem);
+            }
+            products.add(product);
+        }
+
+        List<Product> saved = productRepository.saveAll(products);
+
+        List<CustomizedProductResponseDto> result = new ArrayList<>();
+        int index = 0;
+        for (PendingProduct pending : pendingProducts.values()) {
+            Product product = saved.get(index++);
+            result.add(new CustomizedProductResponseDto(product.getId().toString(), pending.quantity,
+                    Money.ofMinor(pending.unitPrice).toBigDecimal()));
+        }
+        return result;
+    }
+
+    /**
+     * 커스터마이징 fingerprint 생성
+     * - 디너, 스타일, 메뉴 아이템별 최종 수량(ID 정렬), 메모, 주소가 같으면 동일한 Product
+     */
+    private String customizationFingerprint(UUID dinnerId, UUID servingStyleId, Map<UUID, Integer> menuItemQuantities,
+                                            String memo, String address) {
+        StringBuilder sb = new StringBuilder()
+                .append(dinnerId).append('|')
+                .append(servingStyleId).append('|');
+        new TreeMap<>(menuItemQuantities).forEach((menuItemId, quantity) ->
+                sb.append(menuItemId).append('=').append(quantity).append(','));
+        sb.append('|').append(memo).append('|').append(address);
+        return sb.toString();
+    }
+
+    /**
+     * 일괄 생성 대기 중인 Product 정보
+     */
+    private static class PendingProduct {
+        final Dinner dinner;
+        final ServingStyle servingStyle;
+        final Map<UUID, Integer> menuItemQuantities;
+        final String memo;
+        final String address;
+        final long unitPrice; // minor unit (PriceTable)
+        int quantity;
+
+        PendingProduct(Dinner dinner, ServingStyle servingStyle, Map<UUID, Integer> menuItemQuantities,
+                       String memo, String address, int quantity, long unitPrice) {
+            this.dinner = dinner;
+            this.servingStyle = servingStyle;
+            this.menuItemQuantities = menuItemQuantities;
+            this.memo = memo;
+            this.address = address;
+            this.quantity = quantity;
+            this.unitPrice = unitPrice;
+        }
+    }
+
     /**
      * 추가 메뉴 Product 생성
      * - GUI: CheckoutStep에서 공통 추가 메뉴용
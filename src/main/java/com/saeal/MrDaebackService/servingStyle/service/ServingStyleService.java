@@ -1,11 +1,13 @@
 package com.saeal.MrDaebackService.servingStyle.service;
 
+import com.saeal.MrDaebackService.catalog.event.CatalogChangedEvent;
 import com.saeal.MrDaebackService.servingStyle.domain.ServingStyle;
 import com.saeal.MrDaebackService.servingStyle.dto.request.CreateServingStyleRequest;
 import com.saeal.MrDaebackService.servingStyle.dto.response.ServingStyleResponseDto;
 import com.saeal.MrDaebackService.servingStyle.repository.ServingStyleRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -16,6 +18,7 @@ import java.util.stream.Collectors;
 public class ServingStyleService {
 
     private final ServingStyleRepository servingStyleRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ServingStyleResponseDto createServingStyle(CreateServingStyleRequest request) {
@@ -29,6 +32,7 @@ public class ServingStyleService {
                 .build();
 
         ServingStyle saved = servingStyleRepository.save(servingStyle);
+        eventPublisher.publishEvent(new CatalogChangedEvent("serving style created"));
         return ServingStyleResponseDto.from(saved);
     }
 
@@ -14,4 +14,57 @@ public class GroqConfig {
     private String sttModel = "whisper-large-v3";
     private String llmModel = "llama-3.3-70b-versatile";
     private String baseUrl = "https://api.groq.com/openai/v1";
+
+    // STT/LLM 백엔드 (GROQ: Groq API, LOCAL: 녹화 응답 재생 - 부하 테스트/CI 용, groq.local.*)
+    private Engine engine = Engine.GROQ;
+    private Local local = new Local();
+
+    // HTTP 클라이언트 (JDK HttpClient, keep-alive 커넥션 재사용 + HTTP/2)
+    private boolean http2Enabled = true;
+    private long connectTimeoutMillis = 3000;
+    private long readTimeoutMillis = 30000;
+    private int maxConcurrentRequests = 32;         // Groq 동시 호출 상한
+    private long acquireTimeoutMillis = 2000;       // 동시 호출 슬롯 대기 한도
+
+    // LLM 응답 캐시 (같은 발화 + 같은 주문 상태 재사용)
+    private int responseCacheMaxEntries = 1000;
+    private long responseCacheTtlSeconds = 600;
+
+    // 대화 히스토리 (최근 메시지부터 개수/추정 토큰 한도 안에서만 전송)
+    private int historyMaxMessages = 4;
+    private int historyTokenBudget = 600;          // 0 이하면 토큰 한도 없음
+
+    // 장애 대응 (groq.resilience.*)
+    private Resilience resilience = new Resilience();
+
+    public enum Engine {
+        GROQ,
+        LOCAL
+    }
+
+    @Getter
+    @Setter
+    public static class Local {
+        private String recordingsPath;                 // 녹화 응답 JSON 파일 (없으면 내장 기본 응답)
+        private long seed = 42;                        // 지연 분포 난수 시드
+        private long chatLatencyMedianMillis = 400;
+        private long sttLatencyMedianMillis = 250;
+        private double latencySigma = 0.4;             // 로그정규 분포 σ (0 이면 항상 중앙값)
+        private int streamChunks = 8;                  // 스트리밍 응답을 몇 조각으로 나눠 보낼지
+    }
+
+    @Getter
+    @Setter
+    public static class Resilience {
+        private int breakerFailureThreshold = 5;       // 연속 실패 몇 번에 차단할지
+        private long breakerOpenMillis = 30000;        // 차단 유지 시간 (이후 1건 시험 호출)
+        private int bulkheadMaxConcurrent = 16;        // 엔드포인트별 동시 호출 상한
+        private long bulkheadWaitMillis = 500;
+        private long deadlineMillis = 15000;           // 재시도 포함 전체 시간 한도
+        private int maxRetries = 2;
+        private long retryBaseDelayMillis = 200;       // 지수 백오프 시작값 (jitter 적용)
+        private long retryMaxDelayMillis = 2000;
+        private boolean hedgingEnabled = false;        // p95 지연 후 같은 요청을 한 번 더 보냄 (LLM 만)
+        private long hedgeMinDelayMillis = 300;
+    }
 }
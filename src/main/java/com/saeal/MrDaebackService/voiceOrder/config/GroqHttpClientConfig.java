@@ -0,0 +1,44 @@
+package com.saeal.MrDaebackService.voiceOrder.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+@Configuration
+@RequiredArgsConstructor
+public class GroqHttpClientConfig {
+
+    private final GroqConfig groqConfig;
+
+    /**
+     * Groq 전용 HttpClient
+     * - 애플리케이션 전체에서 하나만 사용해 keep-alive 커넥션과 TLS 세션을 재사용
+     * - HTTP/2 가 협상되면 STT/LLM 호출이 한 커넥션에서 멀티플렉싱됨 (안 되면 HTTP/1.1 풀)
+     */
+    @Bean
+    public HttpClient groqHttpClient() {
+        return HttpClient.newBuilder()
+                .version(groqConfig.isHttp2Enabled() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(groqConfig.getConnectTimeoutMillis()))
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+    }
+
+    /**
+     * Groq 호출용 RestTemplate (동시 호출 제한 + 엔드포인트별 지표 인터셉터 포함)
+     */
+    @Bean
+    public RestTemplate groqRestTemplate(HttpClient groqHttpClient, GroqHttpMetricsInterceptor groqHttpMetricsInterceptor) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(groqHttpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(groqConfig.getReadTimeoutMillis()));
+
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        restTemplate.getInterceptors().add(groqHttpMetricsInterceptor);
+        return restTemplate;
+    }
+}
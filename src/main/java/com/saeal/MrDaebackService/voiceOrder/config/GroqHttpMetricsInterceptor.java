@@ -0,0 +1,222 @@
+package com.saeal.MrDaebackService.voiceOrder.config;
+
+import com.saeal.MrDaebackService.voiceOrder.service.resilience.GroqOverloadedException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Groq HTTP 호출 공통 처리
+ *
+ * - 동시 호출 수를 groq.max-concurrent-requests 로 제한 (슬롯 대기는 groq.acquire-timeout-millis 까지, 초과 시 GroqOverloadedException)
+ * - 엔드포인트(경로)별 호출/실패 횟수, 첫 응답까지 시간, 본문 수신 완료까지 시간 집계
+ * - 슬롯과 전체 시간은 응답이 close 될 때 반납/기록 (스트리밍 응답도 끝까지 읽은 뒤 반납)
+ * - JDK HttpClient 로 직접 보내는 호출(STT 스트리밍 업로드)은 send() 로 같은 슬롯/지표 적용
+ */
+@Component
+@Slf4j
+public class GroqHttpMetricsInterceptor implements ClientHttpRequestInterceptor {
+
+    static final int STATS_LOG_INTERVAL = 100;
+
+    private final GroqConfig groqConfig;
+    private final Semaphore permits;
+    private final Map<String, EndpointStats> statsByEndpoint = new ConcurrentHashMap<>();
+
+    public GroqHttpMetricsInterceptor(GroqConfig groqConfig) {
+        this.groqConfig = groqConfig;
+        this.permits = new Semaphore(Math.max(1, groqConfig.getMaxConcurrentRequests()), true);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        EndpointStats stats = statsByEndpoint.computeIfAbsent(request.getURI().getPath(), EndpointStats::new);
+        acquirePermit(stats);
+
+        long startedAt = System.nanoTime();
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            stats.firstByteNanos.addAndGet(System.nanoTime() - startedAt);
+            return new TrackedResponse(response, stats, startedAt);
+        } catch (IOException | RuntimeException e) {
+            permits.release();
+            stats.record(System.nanoTime() - startedAt, true);
+            throw e;
+        }
+    }
+
+    /**
+     * RestTemplate 을 거치지 않는 Groq 호출 (JDK HttpClient 로 직접 보내는 스트리밍 업로드)
+     * - intercept 와 같은 동시 호출 슬롯과 엔드포인트별 지표를 적용
+     * - send 가 끝나면 슬롯을 반납하므로 본문을 끝까지 받는 BodyHandler(ofByteArray 등)와 함께 사용
+     */
+    public <T> HttpResponse<T> send(HttpClient client, java.net.http.HttpRequest request,
+                                    HttpResponse.BodyHandler<T> bodyHandler) throws IOException, InterruptedException {
+        EndpointStats stats = statsByEndpoint.computeIfAbsent(request.uri().getPath(), EndpointStats::new);
+        acquirePermit(stats);
+
+        long startedAt = System.nanoTime();
+        boolean failed = true;
+        try {
+            HttpResponse<T> response = client.send(request, bodyHandler);
+            stats.firstByteNanos.addAndGet(System.nanoTime() - startedAt);
+            failed = response.statusCode() >= 400;
+            return response;
+        } finally {
+            permits.release();
+            stats.record(System.nanoTime() - startedAt, failed);
+        }
+    }
+
+    /**
+     * 엔드포인트별 누적 지표 (키: 요청 경로)
+     */
+    public Map<String, EndpointStats> getEndpointStats() {
+        return Collections.unmodifiableMap(statsByEndpoint);
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    private void acquirePermit(EndpointStats stats) {
+        try {
+            if (!permits.tryAcquire(groqConfig.getAcquireTimeoutMillis(), TimeUnit.MILLISECONDS)) {
+                stats.rejected.incrementAndGet();
+                throw new GroqOverloadedException("Groq 동시 호출 한도를 초과했습니다: " + stats.endpoint);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GroqOverloadedException("Groq 호출 대기 중 인터럽트", e);
+        }
+    }
+
+    public static final class EndpointStats {
+        private final String endpoint;
+        private final AtomicLong calls = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final AtomicLong firstByteNanos = new AtomicLong();
+        private final AtomicLong totalNanos = new AtomicLong();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        private EndpointStats(String endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        public long getCalls() {
+            return calls.get();
+        }
+
+        public long getFailures() {
+            return failures.get();
+        }
+
+        public long getRejected() {
+            return rejected.get();
+        }
+
+        public double getAverageFirstByteMillis() {
+            long count = calls.get();
+            return count == 0 ? 0.0 : firstByteNanos.get() / 1_000_000.0 / count;
+        }
+
+        public double getAverageMillis() {
+            long count = calls.get();
+            return count == 0 ? 0.0 : totalNanos.get() / 1_000_000.0 / count;
+        }
+
+        public double getMaxMillis() {
+            return maxNanos.get() / 1_000_000.0;
+        }
+
+        private void record(long elapsedNanos, boolean failed) {
+            long count = calls.incrementAndGet();
+            if (failed) {
+                failures.incrementAndGet();
+            }
+            totalNanos.addAndGet(elapsedNanos);
+            maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+            if (count % STATS_LOG_INTERVAL == 0) {
+                log.info("[GroqHttp] {} 호출 {}회, 실패 {}회, 거절 {}회, 첫 응답 평균 {}ms, 전체 평균 {}ms, 최대 {}ms",
+                        endpoint, count, failures.get(), rejected.get(),
+                        String.format("%.1f", getAverageFirstByteMillis()),
+                        String.format("%.1f", getAverageMillis()),
+                        String.format("%.1f", getMaxMillis()));
+            }
+        }
+    }
+
+    /**
+     * close 시점에 슬롯 반납 + 전체 시간 기록
+     */
+    private final class TrackedResponse implements ClientHttpResponse {
+        private final ClientHttpResponse delegate;
+        private final EndpointStats stats;
+        private final long startedAt;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private TrackedResponse(ClientHttpResponse delegate, EndpointStats stats, long startedAt) {
+            this.delegate = delegate;
+            this.stats = stats;
+            this.startedAt = startedAt;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            boolean failed;
+            try {
+                failed = delegate.getStatusCode().isError();
+            } catch (IOException e) {
+                failed = true;
+            }
+            try {
+                delegate.close();
+            } finally {
+                permits.release();
+                stats.record(System.nanoTime() - startedAt, failed);
+            }
+        }
+    }
+}
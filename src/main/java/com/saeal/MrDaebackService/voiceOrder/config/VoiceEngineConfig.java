@@ -0,0 +1,51 @@
+package com.saeal.MrDaebackService.voiceOrder.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.saeal.MrDaebackService.voiceOrder.service.GroqService;
+import com.saeal.MrDaebackService.voiceOrder.service.engine.ChatCompletionEngine;
+import com.saeal.MrDaebackService.voiceOrder.service.engine.LocalReplayEngine;
+import com.saeal.MrDaebackService.voiceOrder.service.engine.SpeechToTextEngine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class VoiceEngineConfig {
+
+    private final GroqConfig groqConfig;
+    private final GroqService groqService;
+    private final ObjectMapper objectMapper;
+
+    private LocalReplayEngine localReplayEngine;
+
+    /**
+     * STT 백엔드 - groq.engine 에 따라 Groq API 또는 로컬 재생 엔진
+     * - GroqService 도 같은 타입이므로 VoiceOrderService 에는 이 빈이 주입되도록 @Primary
+     */
+    @Bean
+    @Primary
+    public SpeechToTextEngine speechToTextEngine() {
+        return groqConfig.getEngine() == GroqConfig.Engine.LOCAL ? localReplayEngine() : groqService;
+    }
+
+    /**
+     * LLM 백엔드 - groq.engine 에 따라 Groq API 또는 로컬 재생 엔진
+     */
+    @Bean
+    @Primary
+    public ChatCompletionEngine chatCompletionEngine() {
+        return groqConfig.getEngine() == GroqConfig.Engine.LOCAL ? localReplayEngine() : groqService;
+    }
+
+    private synchronized LocalReplayEngine localReplayEngine() {
+        if (localReplayEngine == null) {
+            log.warn("[VoiceEngine] groq.engine=LOCAL - Groq API 대신 녹화 응답을 재생합니다");
+            localReplayEngine = new LocalReplayEngine(groqConfig.getLocal(), objectMapper);
+        }
+        return localReplayEngine;
+    }
+}
@@ -0,0 +1,32 @@
+package com.saeal.MrDaebackService.voiceOrder.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@RequiredArgsConstructor
+public class VoiceOrderAsyncConfig {
+
+    private final VoiceOrderProperties voiceOrderProperties;
+
+    /**
+     * 음성 주문(STT + LLM) 전용 스레드 풀
+     * - 스레드 수/대기열이 고정이라 음성 요청이 몰려도 카탈로그·주문 API 의 Tomcat 스레드를 잠식하지 않음
+     * - 대기열까지 가득 차면 RejectedExecutionException → 컨트롤러에서 503 (load shedding)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor voiceOrderExecutor() {
+        int maxConcurrency = Math.max(1, voiceOrderProperties.getMaxConcurrency());
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrency);
+        executor.setMaxPoolSize(maxConcurrency);
+        executor.setQueueCapacity(Math.max(0, voiceOrderProperties.getQueueCapacity()));
+        executor.setThreadNamePrefix("voice-order-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
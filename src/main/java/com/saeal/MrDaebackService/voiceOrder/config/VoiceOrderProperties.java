@@ -0,0 +1,30 @@
+package com.saeal.MrDaebackService.voiceOrder.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "voice-order")
+@Getter
+@Setter
+public class VoiceOrderProperties {
+    // true 면 /chat 도 전용 스레드 풀에서 처리 (Tomcat 요청 스레드를 STT/LLM 대기에 묶지 않음)
+    private boolean dedicatedExecutorEnabled = false;
+
+    // 전용 스레드 풀 (스트리밍 채팅은 항상 사용)
+    private int maxConcurrency = 16;        // 동시에 처리하는 음성 주문 요청 수
+    private int queueCapacity = 32;         // 대기열 - 가득 차면 503 으로 거절
+    private int busyRetryAfterSeconds = 3;  // 503 응답의 Retry-After
+
+    // 오디오 업로드 (/chat/audio) 제한
+    // - multipart 파싱 한도(spring.servlet.multipart.max-file-size, voice 프로필)는 이 값 이상이어야 컨트롤러까지 도달
+    private long maxAudioBytes = 5 * 1024 * 1024;  // 클립 최대 크기 - 초과 시 413
+    private int maxAudioSeconds = 60;              // 클립 최대 길이 (WAV 헤더 기준) - 초과 시 400
+
+    // 서버 측 대화 세션 (요청에 sessionId / serverSession=true 를 보낸 클라이언트만 사용)
+    private int sessionMaxEntries = 10000;      // 보관하는 최대 세션 수 (LRU)
+    private int sessionTtlSeconds = 1800;       // 마지막 사용 후 만료까지
+    private int sessionHistoryMessages = 10;    // 세션에 남기는 최근 대화 메시지 수
+}
@@ -0,0 +1,50 @@
+package com.saeal.MrDaebackService.voiceOrder.controller;
+
+import com.saeal.MrDaebackService.voiceOrder.dto.response.ChatResponseDto;
+import com.saeal.MrDaebackService.voiceOrder.service.ChatStreamListener;
+import com.saeal.MrDaebackService.voiceOrder.service.ClientDisconnectedException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * ChatStreamListener → SSE 이벤트 변환
+ * - intent: {"intent": "..."} / delta: {"text": "..."} / result: ChatResponseDto
+ * - 클라이언트 연결이 끊기면 ClientDisconnectedException 으로 처리를 중단 (LLM 스트림도 함께 닫힘)
+ */
+class SseChatStreamListener implements ChatStreamListener {
+
+    private final SseEmitter emitter;
+
+    SseChatStreamListener(SseEmitter emitter) {
+        this.emitter = emitter;
+    }
+
+    @Override
+    public void onIntent(String intent) {
+        send("intent", Map.of("intent", intent != null ? intent : ""));
+    }
+
+    @Override
+    public void onMessageDelta(String delta) {
+        send("delta", Map.of("text", delta));
+    }
+
+    @Override
+    public void onComplete(ChatResponseDto response) {
+        send("result", response);
+    }
+
+    void onError(String message) {
+        send("error", Map.of("message", message != null ? message : ""));
+    }
+
+    private void send(String eventName, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(eventName).data(data));
+        } catch (IOException e) {
+            throw new ClientDisconnectedException("SSE 전송 실패 (클라이언트 연결 종료)", e);
+        }
+    }
+}
@@ -1,18 +1,34 @@
 package com.saeal.MrDaebackService.voiceOrder.controller;
 
 import com.saeal.MrDaebackService.security.JwtUserDetails;
+import com.saeal.MrDaebackService.voiceOrder.config.VoiceOrderProperties;
 import com.saeal.MrDaebackService.voiceOrder.dto.request.ChatRequestDto;
 import com.saeal.MrDaebackService.voiceOrder.dto.request.VoiceCheckoutRequest;
 import com.saeal.MrDaebackService.voiceOrder.dto.response.ChatResponseDto;
 import com.saeal.MrDaebackService.voiceOrder.dto.response.VoiceCheckoutResponse;
+import com.saeal.MrDaebackService.voiceOrder.service.ClientDisconnectedException;
 import com.saeal.MrDaebackService.voiceOrder.service.VoiceOrderService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/voice-order")
@@ -21,11 +37,62 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "Voice Order", description = "음성 주문 API")
 public class VoiceOrderController {
 
+    private static final long CHAT_STREAM_TIMEOUT_MS = 60_000;
+
     private final VoiceOrderService voiceOrderService;
+    private final VoiceOrderProperties voiceOrderProperties;
+    private final ThreadPoolTaskExecutor voiceOrderExecutor;
 
     @PostMapping("/chat")
-    @Operation(summary = "음성/텍스트 채팅", description = "음성 또는 텍스트로 주문 대화를 진행합니다 (Stateless)")
-    public ResponseEntity<ChatResponseDto> chat(
+    @Operation(summary = "음성/텍스트 채팅", description = "음성 또는 텍스트로 주문 대화를 진행합니다 (기본 Stateless, sessionId/serverSession 으로 서버 측 세션 사용)")
+    public CompletableFuture<ResponseEntity<ChatResponseDto>> chat(
+            @RequestBody ChatRequestDto request,
+            @AuthenticationPrincipal JwtUserDetails userDetails
+    ) {
+        if (userDetails == null) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(401).build());
+        }
+        UUID userId = userDetails.getId();
+        return dispatch(() -> ResponseEntity.ok(voiceOrderService.processChat(request, userId)));
+    }
+
+    @PostMapping(value = "/chat/audio", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "음성 채팅 (오디오 업로드)",
+            description = "Base64 대신 multipart 로 오디오(audio)와 대화 상태(request, JSON)를 전송합니다")
+    public CompletableFuture<ResponseEntity<ChatResponseDto>> chatAudio(
+            @RequestPart("audio") MultipartFile audio,
+            @RequestPart(value = "request", required = false) ChatRequestDto request,
+            @AuthenticationPrincipal JwtUserDetails userDetails
+    ) {
+        if (userDetails == null) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(401).build());
+        }
+        if (audio.isEmpty()) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+        if (audio.getSize() > voiceOrderProperties.getMaxAudioBytes()) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build());
+        }
+        UUID userId = userDetails.getId();
+        String audioFormat = resolveAudioFormat(audio, request);
+
+        return dispatch(() -> {
+            try (InputStream audioStream = audio.getInputStream()) {
+                return ResponseEntity.ok(voiceOrderService.processAudioChat(
+                        request, audioStream, audio.getSize(), audioFormat, userId));
+            } catch (IllegalArgumentException e) {
+                log.warn("Voice audio rejected: {}", e.getMessage());
+                return ResponseEntity.badRequest().<ChatResponseDto>build();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    @PostMapping(value = "/chat/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "음성/텍스트 채팅 (스트리밍)",
+            description = "SSE 로 intent → 메시지 조각(delta) → 최종 응답(result) 순서로 전달합니다")
+    public ResponseEntity<SseEmitter> chatStream(
             @RequestBody ChatRequestDto request,
             @AuthenticationPrincipal JwtUserDetails userDetails
     ) {
@@ -33,12 +100,72 @@ public class VoiceOrderController {
             return ResponseEntity.status(401).build();
         }
 
-        ChatResponseDto response = voiceOrderService.processChat(
-                request,
-                userDetails.getId()
-        );
+        SseEmitter emitter = new SseEmitter(CHAT_STREAM_TIMEOUT_MS);
+        SseChatStreamListener listener = new SseChatStreamListener(emitter);
+        UUID userId = userDetails.getId();
+
+        try {
+            voiceOrderExecutor.execute(() -> {
+                try {
+                    voiceOrderService.processChatStream(request, userId, listener);
+                    emitter.complete();
+                } catch (ClientDisconnectedException e) {
+                    log.debug("Voice chat stream client disconnected: {}", e.getMessage());
+                    emitter.completeWithError(e);
+                } catch (Exception e) {
+                    log.error("Voice chat stream failed", e);
+                    try {
+                        listener.onError(e.getMessage());
+                        emitter.complete();
+                    } catch (Exception sendFailure) {
+                        emitter.completeWithError(e);
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Voice chat stream rejected (executor saturated)");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(voiceOrderProperties.getBusyRetryAfterSeconds()))
+                    .build();
+        }
+
+        return ResponseEntity.ok(emitter);
+    }
+
+    /**
+     * 요청 스레드에서 바로 처리하거나, 전용 스레드 풀 모드면 풀에 넘기고 요청 스레드는 바로 반환
+     */
+    private CompletableFuture<ResponseEntity<ChatResponseDto>> dispatch(
+            Supplier<ResponseEntity<ChatResponseDto>> task) {
+        if (!voiceOrderProperties.isDedicatedExecutorEnabled()) {
+            return CompletableFuture.completedFuture(task.get());
+        }
+        try {
+            return CompletableFuture.supplyAsync(task, voiceOrderExecutor);
+        } catch (RejectedExecutionException e) {
+            log.warn("Voice chat rejected (executor saturated)");
+            return CompletableFuture.completedFuture(busyResponse());
+        }
+    }
+
+    /**
+     * 오디오 포맷: request.audioFormat → 파일 확장자 순
+     */
+    private String resolveAudioFormat(MultipartFile audio, ChatRequestDto request) {
+        if (request != null && request.getAudioFormat() != null && !request.getAudioFormat().isEmpty()) {
+            return request.getAudioFormat();
+        }
+        String fileName = audio.getOriginalFilename();
+        if (fileName != null && fileName.lastIndexOf('.') >= 0) {
+            return fileName.substring(fileName.lastIndexOf('.') + 1).toLowerCase();
+        }
+        return null;
+    }
 
-        return ResponseEntity.ok(response);
+    private ResponseEntity<ChatResponseDto> busyResponse() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(voiceOrderProperties.getBusyRetryAfterSeconds()))
+                .body(ChatResponseDto.busy());
     }
 
     @PostMapping("/checkout")
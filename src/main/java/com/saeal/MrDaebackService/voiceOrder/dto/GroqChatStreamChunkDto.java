@@ -0,0 +1,43 @@
+package com.saeal.MrDaebackService.voiceOrder.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * stream: true 호출 시 SSE "data:" 한 줄에 담겨 오는 chat.completion.chunk
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class GroqChatStreamChunkDto {
+    private List<Choice> choices;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Choice {
+        private Delta delta;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Delta {
+        private String content;
+    }
+
+    public String getContent() {
+        if (choices != null && !choices.isEmpty() && choices.get(0).getDelta() != null) {
+            String content = choices.get(0).getDelta().getContent();
+            return content != null ? content : "";
+        }
+        return "";
+    }
+}
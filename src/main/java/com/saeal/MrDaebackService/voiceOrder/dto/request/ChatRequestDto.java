@@ -23,6 +23,8 @@ public class ChatRequestDto {
     private String currentFlowState;             // 현재 주문 흐름 상태 (프론트에서 전달)
     private LocalDateTime requestedDeliveryTime; // 희망 배달 시간
     private String occasionType;                 // 기념일 종류 (생일, 기념일, 프로포즈 등)
+    private String sessionId;                    // 서버 측 세션 ID (있으면 히스토리/장바구니는 서버 상태 사용)
+    private Boolean serverSession;               // true 면 서버 측 세션을 새로 시작
 
     @Getter
     @Setter
@@ -27,6 +27,7 @@ public class VoiceCheckoutRequest {
     private String memo;
     private LocalDateTime requestedDeliveryTime; // 희망 배달 시간
     private String occasionType; // 기념일 종류 (생일, 기념일, 프로포즈 등)
+    private String sessionId; // 서버 측 음성 주문 세션 ID (있으면 결제 완료 후 세션 종료)
 
     @Data
     @NoArgsConstructor
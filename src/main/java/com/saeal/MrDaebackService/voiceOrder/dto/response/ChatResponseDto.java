@@ -6,6 +6,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -26,4 +27,16 @@ public class ChatResponseDto {
     private String memo;               // 메모/요청사항
     private LocalDateTime requestedDeliveryTime; // 희망 배달 시간
     private String occasionType;       // 기념일 종류 (생일, 기념일, 프로포즈 등)
+    @Setter
+    private String sessionId;          // 서버 측 세션 ID (세션 모드일 때만)
+
+    /**
+     * 음성 주문 요청이 몰려 처리하지 못했을 때의 응답 (503 과 함께 사용, 장바구니는 클라이언트 상태 유지)
+     */
+    public static ChatResponseDto busy() {
+        return ChatResponseDto.builder()
+                .assistantMessage("지금 주문이 많아 처리하지 못했어요. 잠시 후 다시 말씀해주세요!")
+                .uiAction(UiAction.NONE)
+                .build();
+    }
 }
@@ -2,9 +2,13 @@ package com.saeal.MrDaebackService.voiceOrder.service;
 
 import com.saeal.MrDaebackService.dinner.dto.response.DinnerMenuItemResponseDto;
 import com.saeal.MrDaebackService.dinner.dto.response.DinnerResponseDto;
+import com.saeal.MrDaebackService.pricing.domain.Money;
+import com.saeal.MrDaebackService.pricing.domain.PriceTable;
+import com.saeal.MrDaebackService.pricing.service.PricingService;
 import com.saeal.MrDaebackService.servingStyle.dto.response.ServingStyleResponseDto;
 import com.saeal.MrDaebackService.voiceOrder.dto.request.ChatRequestDto.OrderItemRequestDto;
 import com.saeal.MrDaebackService.voiceOrder.dto.response.OrderItemDto;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -12,14 +16,19 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 /**
  * 임시 장바구니 관리
  */
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class CartManager {
 
+    private final PricingService pricingService;
+    private final MenuMatcher menuMatcher;
+
     /**
      * 기존 장바구니를 OrderItemDto 리스트로 변환
      */
@@ -55,6 +64,30 @@ public class CartManager {
         return result;
     }
 
+    /**
+     * OrderItemDto 리스트를 요청 형태(OrderItemRequestDto)로 변환 (서버 측 세션 보관용)
+     */
+    public List<OrderItemRequestDto> convertToOrderItemRequestDtoList(List<OrderItemDto> orderItems) {
+        List<OrderItemRequestDto> result = new ArrayList<>();
+        if (orderItems == null) return result;
+
+        for (OrderItemDto item : orderItems) {
+            result.add(new OrderItemRequestDto(
+                    item.getDinnerId(),
+                    item.getDinnerName(),
+                    item.getServingStyleId(),
+                    item.getServingStyleName(),
+                    item.getQuantity(),
+                    item.getBasePrice(),
+                    item.getUnitPrice(),
+                    item.getTotalPrice(),
+                    item.getExcludedItems() != null ? new ArrayList<>(item.getExcludedItems()) : new ArrayList<>(),
+                    item.getComponents() != null ? new LinkedHashMap<>(item.getComponents()) : new LinkedHashMap<>(),
+                    item.getItemIndex()));
+        }
+        return result;
+    }
+
     /**
      * 메뉴 추가
      */
@@ -164,10 +197,49 @@ public class CartManager {
 
     /**
      * 총 가격 계산
+     * - 디너가 가격표에 있는 아이템은 PricingService 가격표로 다시 계산 (결제 시 가격과 동일)
+     * - 구성요소/제외 이름은 결제와 같은 MenuMatcher.resolveMenuItemQuantities 로 메뉴 아이템 ID 로 바꾼 뒤 ID 기준으로 계산
+     * - 그 외(가격표에 없는 디너 등)는 아이템의 totalPrice 사용
      */
     public int calculateTotalPrice(List<OrderItemDto> orderItems) {
-        return orderItems.stream()
-                .mapToInt(OrderItemDto::getTotalPrice)
-                .sum();
+        PriceTable priceTable = pricingService.currentTable();
+        Money total = Money.ZERO;
+        for (OrderItemDto item : orderItems) {
+            UUID dinnerId = parseUuid(item.getDinnerId());
+            if (dinnerId == null || !priceTable.containsDinner(dinnerId)) {
+                total = total.plus(Money.won(item.getTotalPrice()));
+                continue;
+            }
+            try {
+                Map<String, Integer> menuItemQuantities = menuMatcher.resolveMenuItemQuantities(
+                        item.getDinnerId(), item.getComponents(), item.getExcludedItems());
+                long unitPrice = priceTable.priceCustomization(dinnerId, parseUuid(item.getServingStyleId()),
+                        toMenuItemIds(menuItemQuantities));
+                total = total.plus(Money.ofMinor(unitPrice).times(item.getQuantity()));
+            } catch (IllegalArgumentException e) {
+                log.warn("[CartManager] 가격표 계산 실패, 아이템 가격 사용: {}", e.getMessage());
+                total = total.plus(Money.won(item.getTotalPrice()));
+            }
+        }
+        return total.toWonInt();
+    }
+
+    private Map<UUID, Integer> toMenuItemIds(Map<String, Integer> menuItemQuantities) {
+        Map<UUID, Integer> result = new LinkedHashMap<>();
+        for (Map.Entry<String, Integer> entry : menuItemQuantities.entrySet()) {
+            result.put(UUID.fromString(entry.getKey()), entry.getValue());
+        }
+        return result;
+    }
+
+    private UUID parseUuid(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
     }
 }
@@ -0,0 +1,25 @@
+package com.saeal.MrDaebackService.voiceOrder.service;
+
+import com.saeal.MrDaebackService.voiceOrder.dto.response.ChatResponseDto;
+
+/**
+ * 스트리밍 채팅 진행 상황 수신자 (컨트롤러에서 SSE 이벤트로 변환)
+ * - 클라이언트 연결이 끊기면 ClientDisconnectedException 을 던져 처리를 중단
+ */
+public interface ChatStreamListener {
+
+    /**
+     * LLM 응답의 intent 가 확정됨 (핸들러 실행 전)
+     */
+    void onIntent(String intent);
+
+    /**
+     * 어시스턴트 메시지 텍스트 조각
+     */
+    void onMessageDelta(String delta);
+
+    /**
+     * 핸들러 처리까지 끝난 최종 응답
+     */
+    void onComplete(ChatResponseDto response);
+}
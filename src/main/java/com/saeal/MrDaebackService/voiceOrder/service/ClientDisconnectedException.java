@@ -0,0 +1,12 @@
+package com.saeal.MrDaebackService.voiceOrder.service;
+
+/**
+ * 스트리밍 중 클라이언트(브라우저) 연결이 끊김
+ * - ChatStreamListener 구현체가 던지며, Groq 장애가 아니므로 회로 차단기에는 반영하지 않음
+ */
+public class ClientDisconnectedException extends IllegalStateException {
+
+    public ClientDisconnectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,8 +1,16 @@
 package com.saeal.MrDaebackService.voiceOrder.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.saeal.MrDaebackService.voiceOrder.config.GroqConfig;
+import com.saeal.MrDaebackService.voiceOrder.config.GroqHttpMetricsInterceptor;
 import com.saeal.MrDaebackService.voiceOrder.dto.GroqChatResponseDto;
+import com.saeal.MrDaebackService.voiceOrder.dto.GroqChatStreamChunkDto;
 import com.saeal.MrDaebackService.voiceOrder.dto.GroqSttResponseDto;
+import com.saeal.MrDaebackService.voiceOrder.service.engine.ChatCompletionEngine;
+import com.saeal.MrDaebackService.voiceOrder.service.engine.SpeechToTextEngine;
+import com.saeal.MrDaebackService.voiceOrder.service.resilience.GroqEndpoint;
+import com.saeal.MrDaebackService.voiceOrder.service.resilience.GroqResilience;
+import com.saeal.MrDaebackService.voiceOrder.service.resilience.GroqUnavailableException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.ByteArrayResource;
@@ -10,21 +18,48 @@ import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.*;
+import java.util.function.Predicate;
 
+/**
+ * Groq API 기반 STT/LLM 엔진 (groq.engine=GROQ, 기본값)
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class GroqService {
+public class GroqService implements SpeechToTextEngine, ChatCompletionEngine {
+
+    private static final String SSE_DATA_PREFIX = "data:";
+    private static final String SSE_DONE = "[DONE]";
 
     private final GroqConfig groqConfig;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final ObjectMapper objectMapper;
+    private final GroqResilience groqResilience;
+    private final RestTemplate groqRestTemplate;
+    private final HttpClient groqHttpClient;
+    private final GroqHttpMetricsInterceptor groqHttpMetricsInterceptor;
 
     /**
      * 음성을 텍스트로 변환 (STT)
      */
+    @Override
     public String transcribe(byte[] audioData, String format) {
         String url = groqConfig.getBaseUrl() + "/audio/transcriptions";
 
@@ -48,37 +83,187 @@ public class GroqService {
         HttpEntity<MultiValueMap<String, Object>> requestEntity = new HttpEntity<>(body, headers);
 
         try {
-            ResponseEntity<GroqSttResponseDto> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.POST,
-                    requestEntity,
-                    GroqSttResponseDto.class);
-
-            if (response.getBody() != null) {
-                return response.getBody().getText();
-            }
-            return "";
-        } catch (Exception e) {
+            return groqResilience.call(GroqEndpoint.STT, () -> {
+                ResponseEntity<GroqSttResponseDto> response = groqRestTemplate.exchange(
+                        url,
+                        HttpMethod.POST,
+                        requestEntity,
+                        GroqSttResponseDto.class);
+
+                if (response.getBody() != null) {
+                    return response.getBody().getText();
+                }
+                return "";
+            });
+        } catch (GroqUnavailableException e) {
             log.error("[STT] 변환 실패: {}", e.getMessage());
-            throw new RuntimeException("음성 인식 실패", e);
+            throw e;
+        }
+    }
+
+    /**
+     * 음성을 텍스트로 변환 (STT, 스트리밍 업로드)
+     * - 오디오 InputStream 을 multipart 본문 사이에 그대로 이어 붙여 전송 (클립 전체를 메모리에 올리지 않음)
+     * - 스트림은 한 번만 읽을 수 있으므로 재시도/hedging 없이 1회 호출
+     */
+    @Override
+    public String transcribeStream(InputStream audio, String format) {
+        String url = groqConfig.getBaseUrl() + "/audio/transcriptions";
+        String boundary = "mrdaeback-" + UUID.randomUUID();
+        String fileName = "audio." + (format != null ? format : "webm");
+
+        byte[] head = (formField(boundary, "model", groqConfig.getSttModel())
+                + formField(boundary, "language", "ko")
+                + "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"" + fileName + "\"\r\n"
+                + "Content-Type: application/octet-stream\r\n\r\n").getBytes(StandardCharsets.UTF_8);
+        byte[] tail = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8);
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofMillis(groqConfig.getReadTimeoutMillis()))
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + groqConfig.getApiKey())
+                .header(HttpHeaders.CONTENT_TYPE, "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofInputStream(() -> new SequenceInputStream(Collections.enumeration(
+                        List.of(new ByteArrayInputStream(head), audio, new ByteArrayInputStream(tail))))))
+                .build();
+
+        try {
+            return groqResilience.callOnce(GroqEndpoint.STT, () -> sendTranscription(request));
+        } catch (GroqUnavailableException e) {
+            log.error("[STT] 스트리밍 변환 실패: {}", e.getMessage());
+            throw e;
         }
     }
 
+    private String sendTranscription(HttpRequest request) {
+        try {
+            // RestTemplate 호출과 같은 동시 호출 슬롯/지표 적용 (응답은 작은 JSON 이라 본문까지 받은 뒤 반납)
+            HttpResponse<byte[]> response = groqHttpMetricsInterceptor.send(groqHttpClient, request,
+                    HttpResponse.BodyHandlers.ofByteArray());
+            HttpStatusCode status = HttpStatusCode.valueOf(response.statusCode());
+            if (status.is5xxServerError()) {
+                throw HttpServerErrorException.create(status, "", new HttpHeaders(), response.body(),
+                        StandardCharsets.UTF_8);
+            }
+            if (status.isError()) {
+                throw HttpClientErrorException.create(status, "", new HttpHeaders(), response.body(),
+                        StandardCharsets.UTF_8);
+            }
+            String text = objectMapper.readValue(response.body(), GroqSttResponseDto.class).getText();
+            return text != null ? text : "";
+        } catch (IOException e) {
+            throw new ResourceAccessException("STT 업로드 실패: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResourceAccessException("STT 업로드 중 인터럽트");
+        }
+    }
+
+    private static String formField(String boundary, String name, String value) {
+        return "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"" + name + "\"\r\n\r\n"
+                + value + "\r\n";
+    }
+
     /**
      * LLM 채팅 완성
      */
-    public String chat(String systemPrompt, List<Map<String, String>> conversationHistory, String userMessage) {
+    @Override
+    public String chat(String systemPrompt, List<Map<String, String>> conversationHistory, String context,
+                       String userMessage) {
         String url = groqConfig.getBaseUrl() + "/chat/completions";
-        String apiKey = groqConfig.getApiKey();
 
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setBearerAuth(apiKey);
+        headers.setBearerAuth(groqConfig.getApiKey());
+
+        Map<String, Object> requestBody = buildChatRequestBody(systemPrompt, conversationHistory, context, userMessage,
+                false);
+        HttpEntity<Map<String, Object>> requestEntity = new HttpEntity<>(requestBody, headers);
+
+        try {
+            return groqResilience.call(GroqEndpoint.CHAT, () -> {
+                ResponseEntity<GroqChatResponseDto> response = groqRestTemplate.exchange(
+                        url,
+                        HttpMethod.POST,
+                        requestEntity,
+                        GroqChatResponseDto.class);
+
+                if (response.getBody() != null) {
+                    return response.getBody().getContent();
+                }
+                return "";
+            });
+        } catch (GroqUnavailableException e) {
+            log.error("[LLM] 호출 실패: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * LLM 채팅 완성 (stream: true)
+     * - SSE "data:" 줄마다 토큰 조각을 onDelta 로 전달
+     * - onDelta 가 false 를 반환하면 남은 스트림을 읽지 않고 연결을 닫음
+     * - 반환값: 지금까지 받은 전체 응답 텍스트
+     */
+    @Override
+    public String chatStream(String systemPrompt, List<Map<String, String>> conversationHistory, String context,
+                             String userMessage, Predicate<String> onDelta) {
+        String url = groqConfig.getBaseUrl() + "/chat/completions";
+        Map<String, Object> requestBody = buildChatRequestBody(systemPrompt, conversationHistory, context, userMessage,
+                true);
+
+        // 이미 클라이언트로 내보낸 조각이 있을 수 있으므로 재시도/hedging 없이 1회만 호출
+        try {
+            return groqResilience.callOnce(GroqEndpoint.CHAT, () -> groqRestTemplate.execute(url, HttpMethod.POST,
+                    request -> {
+                        request.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                        request.getHeaders().setAccept(List.of(MediaType.TEXT_EVENT_STREAM));
+                        request.getHeaders().setBearerAuth(groqConfig.getApiKey());
+                        objectMapper.writeValue(request.getBody(), requestBody);
+                    },
+                    response -> readStream(response.getBody(), onDelta)));
+        } catch (GroqUnavailableException e) {
+            log.error("[LLM] 스트리밍 호출 실패: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    private String readStream(InputStream body, Predicate<String> onDelta) throws IOException {
+        StringBuilder content = new StringBuilder();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (!line.startsWith(SSE_DATA_PREFIX)) {
+                continue;
+            }
+            String data = line.substring(SSE_DATA_PREFIX.length()).trim();
+            if (SSE_DONE.equals(data)) {
+                break;
+            }
+            String delta = objectMapper.readValue(data, GroqChatStreamChunkDto.class).getContent();
+            if (delta.isEmpty()) {
+                continue;
+            }
+            content.append(delta);
+            if (!onDelta.test(delta)) {
+                log.debug("[LLM] 스트림 조기 종료 ({}자 수신)", content.length());
+                break;
+            }
+        }
+        return content.toString();
+    }
 
+    /**
+     * 요청 본문 구성 - 시스템 프롬프트 → 히스토리 → 컨텍스트 → 사용자 메시지 순
+     * - 자주 바뀌는 컨텍스트를 뒤쪽에 두어 앞부분(시스템 프롬프트 + 히스토리)이 프로바이더 prefix 캐시에 걸리도록 함
+     */
+    private Map<String, Object> buildChatRequestBody(String systemPrompt, List<Map<String, String>> conversationHistory,
+                                                     String context, String userMessage, boolean stream) {
         // 메시지 구성
         List<Map<String, String>> messages = new ArrayList<>();
 
-        // 시스템 프롬프트
+        // 시스템 프롬프트 (카탈로그 버전이 같으면 매 턴 동일)
         messages.add(Map.of("role", "system", "content", systemPrompt));
 
         // 대화 히스토리
@@ -86,6 +271,11 @@ public class GroqService {
             messages.addAll(conversationHistory);
         }
 
+        // 현재 주문/주소 컨텍스트
+        if (context != null && !context.isEmpty()) {
+            messages.add(Map.of("role", "system", "content", context));
+        }
+
         // 현재 사용자 메시지
         messages.add(Map.of("role", "user", "content", userMessage));
 
@@ -94,23 +284,9 @@ public class GroqService {
         requestBody.put("messages", messages);
         requestBody.put("temperature", 0.7);
         requestBody.put("max_tokens", 1024);
-
-        HttpEntity<Map<String, Object>> requestEntity = new HttpEntity<>(requestBody, headers);
-
-        try {
-            ResponseEntity<GroqChatResponseDto> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.POST,
-                    requestEntity,
-                    GroqChatResponseDto.class);
-
-            if (response.getBody() != null) {
-                return response.getBody().getContent();
-            }
-            return "";
-        } catch (Exception e) {
-            log.error("[LLM] 호출 실패: {}", e.getMessage());
-            throw new RuntimeException("AI 응답 생성 실패", e);
+        if (stream) {
+            requestBody.put("stream", true);
         }
+        return requestBody;
     }
 }
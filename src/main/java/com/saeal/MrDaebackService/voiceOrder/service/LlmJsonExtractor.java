@@ -0,0 +1,88 @@
+package com.saeal.MrDaebackService.voiceOrder.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.saeal.MrDaebackService.voiceOrder.dto.LlmResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Optional;
+
+/**
+ * LLM 응답 원문에서 첫 번째 JSON 객체를 찾아 LlmResponseDto 로 변환
+ *
+ * - 첫 '{' 위치부터 Jackson 파서가 원문을 직접 읽고 객체가 닫히면 멈춤
+ *   (```json 코드 블록, 앞뒤 설명 문장을 잘라내는 substring 복사 없음)
+ * - LLM 이 자주 틀리는 형식 허용: 끝에 붙은 쉼표, 작은따옴표 문자열, 따옴표 없는 키, 문자열 안 줄바꿈
+ * - 앞 설명 문장의 '{' 때문에 실패하면 다음 '{' 부터 다시 시도 (최대 {@value #MAX_START_ATTEMPTS}번, intent 가 있는 객체만 인정)
+ * - 실패 시 WARN 에는 원문 앞부분만, 전체 원문은 DEBUG 로만 남김
+ */
+@Component
+@Slf4j
+public class LlmJsonExtractor {
+
+    private static final int LOG_PREVIEW_LENGTH = 120;
+    private static final int MAX_START_ATTEMPTS = 4;
+
+    private final ObjectReader lenientReader;
+
+    public LlmJsonExtractor(ObjectMapper objectMapper) {
+        this.lenientReader = objectMapper.readerFor(LlmResponseDto.class)
+                .withFeatures(
+                        JsonReadFeature.ALLOW_TRAILING_COMMA,
+                        JsonReadFeature.ALLOW_SINGLE_QUOTES,
+                        JsonReadFeature.ALLOW_UNQUOTED_FIELD_NAMES,
+                        JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS);
+    }
+
+    /**
+     * 원문에서 LLM 응답 추출 (JSON 객체가 없거나 깨졌으면 empty)
+     */
+    public Optional<LlmResponseDto> extract(String rawResponse) {
+        if (rawResponse == null) {
+            return Optional.empty();
+        }
+        int start = rawResponse.indexOf('{');
+        if (start < 0) {
+            log.warn("LLM 응답에 JSON 객체 없음 ({}자): {}", rawResponse.length(), preview(rawResponse));
+            log.debug("LLM Raw Response: {}", rawResponse);
+            return Optional.empty();
+        }
+
+        JsonProcessingException firstFailure = null;
+        for (int attempt = 0; start >= 0 && attempt < MAX_START_ATTEMPTS; attempt++) {
+            try (StringReader reader = new StringReader(rawResponse)) {
+                reader.skip(start);
+                LlmResponseDto response = lenientReader.readValue(reader);
+                // 다시 시도한 위치는 응답 안쪽 객체(entities 등)일 수 있으므로 intent 가 있어야 인정
+                if (attempt == 0 || (response != null && response.getIntent() != null)) {
+                    return Optional.ofNullable(response);
+                }
+            } catch (JsonProcessingException e) {
+                if (firstFailure == null) {
+                    firstFailure = e;
+                }
+            } catch (IOException e) {
+                log.warn("LLM 응답 읽기 실패: {}", e.getMessage());
+                return Optional.empty();
+            }
+            start = rawResponse.indexOf('{', start + 1);
+        }
+
+        // getMessage() 는 원문 일부를 포함하므로 원래 메시지만 기록
+        log.warn("LLM 응답 JSON 파싱 실패 ({}자): {} - {}", rawResponse.length(),
+                firstFailure.getOriginalMessage(), preview(rawResponse));
+        log.debug("LLM Raw Response: {}", rawResponse);
+        return Optional.empty();
+    }
+
+    private static String preview(String rawResponse) {
+        return rawResponse.length() <= LOG_PREVIEW_LENGTH
+                ? rawResponse
+                : rawResponse.substring(0, LOG_PREVIEW_LENGTH) + "...";
+    }
+}
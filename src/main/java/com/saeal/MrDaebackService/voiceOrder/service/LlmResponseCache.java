@@ -0,0 +1,164 @@
+package com.saeal.MrDaebackService.voiceOrder.service;
+
+import com.saeal.MrDaebackService.catalog.event.CatalogChangedEvent;
+import com.saeal.MrDaebackService.voiceOrder.config.GroqConfig;
+import com.saeal.MrDaebackService.voiceOrder.dto.LlmResponseDto;
+import com.saeal.MrDaebackService.voiceOrder.dto.request.ChatRequestDto.OrderItemRequestDto;
+import com.saeal.MrDaebackService.voiceOrder.service.matching.HangulJamo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 파싱된 LLM 응답 캐시
+ *
+ * - 키: 카탈로그 버전 + 주문 상태 해시 + 정규화된 발화 ("두 개요" == "두개요")
+ * - 최대 groq.response-cache-max-entries 개 (LRU), groq.response-cache-ttl-seconds 후 만료
+ * - 카탈로그 변경(CatalogChangedEvent) 시 전체 비움 (키의 버전이 바뀌므로 이전 항목은 어차피 재사용되지 않음)
+ * - 캐시된 LlmResponseDto 는 여러 요청이 공유하므로 핸들러에서 수정하면 안 됨
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LlmResponseCache {
+
+    static final int STATS_LOG_INTERVAL = 100;
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final GroqConfig groqConfig;
+    private final MenuMatcher menuMatcher;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    // access-order LinkedHashMap: 가장 오래 사용되지 않은 항목부터 제거
+    private final LinkedHashMap<String, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+            return size() > groqConfig.getResponseCacheMaxEntries();
+        }
+    };
+
+    /**
+     * 캐시 키 생성 - 발화가 비어 있으면 캐시하지 않음
+     */
+    public Optional<String> keyOf(String userMessage, List<OrderItemRequestDto> currentOrder, String selectedAddress) {
+        String normalized = HangulJamo.normalize(userMessage);
+        if (normalized.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(menuMatcher.getCatalogVersion() + ":"
+                + Long.toHexString(orderHash(currentOrder, selectedAddress)) + ":" + normalized);
+    }
+
+    public Optional<LlmResponseDto> get(String key) {
+        CacheEntry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+            if (entry != null && entry.expiresAt <= System.currentTimeMillis()) {
+                entries.remove(key);
+                entry = null;
+            }
+        }
+        record(entry != null);
+        return entry != null ? Optional.of(entry.response) : Optional.empty();
+    }
+
+    public void put(String key, LlmResponseDto response) {
+        if (groqConfig.getResponseCacheMaxEntries() <= 0) {
+            return;
+        }
+        long expiresAt = System.currentTimeMillis() + groqConfig.getResponseCacheTtlSeconds() * 1000;
+        synchronized (entries) {
+            entries.put(key, new CacheEntry(response, expiresAt));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        int cleared;
+        synchronized (entries) {
+            cleared = entries.size();
+            entries.clear();
+        }
+        log.info("[LlmCache] 카탈로그 변경으로 응답 캐시 {}건 삭제: {}", cleared, event.getReason());
+    }
+
+    /**
+     * 캐시 적중률 (0.0 ~ 1.0)
+     */
+    public double getHitRate() {
+        long hitCount = hits.get();
+        long total = hitCount + misses.get();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * 주문 상태 요약의 64비트 FNV-1a 해시
+     * - 프롬프트에 들어가는 값(디너/스타일/수량/구성요소/제외 항목/배달 주소)만 반영
+     */
+    private long orderHash(List<OrderItemRequestDto> currentOrder, String selectedAddress) {
+        StringBuilder summary = new StringBuilder();
+        summary.append(selectedAddress).append('|');
+        if (currentOrder != null) {
+            for (OrderItemRequestDto item : currentOrder) {
+                summary.append(item.getDinnerId()).append(',')
+                        .append(item.getServingStyleId()).append(',')
+                        .append(item.getQuantity()).append(',')
+                        .append(item.getComponents() != null ? new TreeMap<>(item.getComponents()) : null).append(',')
+                        .append(item.getExcludedItems()).append(';');
+            }
+        }
+
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < summary.length(); i++) {
+            hash ^= summary.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private void record(boolean hit) {
+        long hitCount = hit ? hits.incrementAndGet() : hits.get();
+        long missCount = hit ? misses.get() : misses.incrementAndGet();
+        long total = hitCount + missCount;
+        if (total % STATS_LOG_INTERVAL == 0) {
+            log.info("[LlmCache] 응답 캐시 적중률 {}% ({}/{}), 항목 {}개",
+                    String.format("%.1f", getHitRate() * 100), hitCount, total, size());
+        }
+    }
+
+    private static final class CacheEntry {
+        private final LlmResponseDto response;
+        private final long expiresAt;
+
+        private CacheEntry(LlmResponseDto response, long expiresAt) {
+            this.response = response;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.saeal.MrDaebackService.voiceOrder.service;
+
+/**
+ * 스트리밍으로 들어오는 LLM JSON 응답 점진 파서
+ *
+ * - {"intent":"...","entities":{...},"message":"..."} 형태를 토큰 조각 단위로 받아 한 글자씩 상태 전이
+ * - intent 문자열이 닫히는 순간 getIntent(), entities 객체가 닫히는 순간 getEntitiesJson() 사용 가능
+ * - message 문자열 값은 이스케이프를 풀어 조각마다 delta 로 돌려줌 (클라이언트로 바로 스트리밍)
+ * - 첫 '{' 이전 텍스트(```json 등)는 무시, 최상위 객체가 닫히면 이후 입력은 무시
+ *
+ * 요청 하나에서만 사용 (스레드 안전하지 않음)
+ */
+public class LlmStreamParser {
+
+    private static final String INTENT_KEY = "intent";
+    private static final String ENTITIES_KEY = "entities";
+    private static final String MESSAGE_KEY = "message";
+
+    private final StringBuilder raw = new StringBuilder();
+    private final StringBuilder message = new StringBuilder();
+    private final StringBuilder currentString = new StringBuilder();
+    private final StringBuilder unicodeHex = new StringBuilder();
+
+    private boolean started;
+    private boolean complete;
+    private int depth;
+    private boolean inString;
+    private boolean escape;
+    private int unicodeRemaining;
+
+    // 최상위(depth 1) 키/값 추적
+    private boolean expectingKey;
+    private boolean currentStringIsKey;
+    private boolean inMessageValue;
+    private String currentKey;
+    private int entitiesStart = -1;
+
+    private String intent;
+    private String entitiesJson;
+
+    /**
+     * 토큰 조각 추가
+     * - 반환값: 이번 조각에서 새로 확정된 message 텍스트 (없으면 빈 문자열)
+     */
+    public String append(String chunk) {
+        int from = raw.length();
+        raw.append(chunk);
+        int messageLength = message.length();
+        for (int i = from; i < raw.length() && !complete; i++) {
+            accept(raw.charAt(i), i);
+        }
+        return message.substring(messageLength);
+    }
+
+    public String getIntent() {
+        return intent;
+    }
+
+    public String getEntitiesJson() {
+        return entitiesJson;
+    }
+
+    public String getMessage() {
+        return message.toString();
+    }
+
+    public String getRaw() {
+        return raw.toString();
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    private void accept(char c, int index) {
+        if (!started) {
+            if (c == '{') {
+                started = true;
+                depth = 1;
+                expectingKey = true;
+            }
+            return;
+        }
+
+        if (inString) {
+            acceptStringChar(c);
+            return;
+        }
+
+        switch (c) {
+            case '"' -> {
+                inString = true;
+                currentString.setLength(0);
+                if (depth == 1) {
+                    currentStringIsKey = expectingKey;
+                    inMessageValue = !expectingKey && MESSAGE_KEY.equals(currentKey);
+                }
+            }
+            case ':' -> {
+                if (depth == 1) expectingKey = false;
+            }
+            case ',' -> {
+                if (depth == 1) expectingKey = true;
+            }
+            case '{', '[' -> {
+                depth++;
+                if (depth == 2 && c == '{' && ENTITIES_KEY.equals(currentKey) && entitiesJson == null) {
+                    entitiesStart = index;
+                }
+            }
+            case '}', ']' -> {
+                depth--;
+                if (depth == 1 && entitiesStart >= 0 && entitiesJson == null) {
+                    entitiesJson = raw.substring(entitiesStart, index + 1);
+                }
+                if (depth == 0) {
+                    complete = true;
+                }
+            }
+            default -> {
+                // 숫자/true/false/null, 공백은 구조에 영향 없음
+            }
+        }
+    }
+
+    private void acceptStringChar(char c) {
+        if (unicodeRemaining > 0) {
+            unicodeHex.append(c);
+            if (--unicodeRemaining == 0) {
+                try {
+                    appendStringChar((char) Integer.parseInt(unicodeHex.toString(), 16));
+                } catch (NumberFormatException e) {
+                    // 잘못된 유니코드 이스케이프는 버림
+                }
+            }
+            return;
+        }
+        if (escape) {
+            escape = false;
+            switch (c) {
+                case 'n' -> appendStringChar('\n');
+                case 't' -> appendStringChar('\t');
+                case 'r' -> appendStringChar('\r');
+                case 'b' -> appendStringChar('\b');
+                case 'f' -> appendStringChar('\f');
+                case 'u' -> {
+                    unicodeHex.setLength(0);
+                    unicodeRemaining = 4;
+                }
+                default -> appendStringChar(c);
+            }
+            return;
+        }
+        if (c == '\\') {
+            escape = true;
+            return;
+        }
+        if (c == '"') {
+            inString = false;
+            endString();
+            return;
+        }
+        appendStringChar(c);
+    }
+
+    private void appendStringChar(char c) {
+        if (depth != 1) {
+            return;
+        }
+        currentString.append(c);
+        if (inMessageValue) {
+            message.append(c);
+        }
+    }
+
+    private void endString() {
+        if (depth != 1) {
+            return;
+        }
+        if (currentStringIsKey) {
+            currentKey = currentString.toString();
+        } else {
+            if (INTENT_KEY.equals(currentKey) && intent == null) {
+                intent = currentString.toString();
+            }
+            inMessageValue = false;
+        }
+    }
+}
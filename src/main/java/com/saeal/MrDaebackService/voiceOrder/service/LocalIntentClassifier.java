@@ -0,0 +1,207 @@
+package com.saeal.MrDaebackService.voiceOrder.service;
+
+import com.saeal.MrDaebackService.voiceOrder.dto.LlmResponseDto;
+import com.saeal.MrDaebackService.voiceOrder.dto.response.OrderItemDto;
+import com.saeal.MrDaebackService.voiceOrder.enums.UserIntent;
+import com.saeal.MrDaebackService.voiceOrder.service.matching.KoreanNumber;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 짧은 발화용 로컬 Intent 분류기 (LLM 호출 생략)
+ *
+ * - "네", "결제할게요", "두 개요", "그랜드 스타일로" 처럼 발화 전체가 규칙에 맞을 때만 분류
+ * - 진행 중인 아이템 상태와 맞지 않거나 조금이라도 애매하면 empty → GroqService 로 위임
+ * - 적중/위임 횟수를 집계해 {@value #STATS_LOG_INTERVAL}회마다 적중률 로그
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LocalIntentClassifier {
+
+    static final int STATS_LOG_INTERVAL = 100;
+
+    private static final Pattern TRAILING_PUNCTUATION = Pattern.compile("[\\s.!?~,ㅎ]+$");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    // "응", "네", "결제할게요", "주문해주세요" (PromptBuilder 의 PROCEED_CHECKOUT 예시와 동일 범위)
+    private static final Pattern CHECKOUT_PATTERN = Pattern.compile(
+            "^(?:응|웅|네|넵|예|ㅇ|ㅇㅇ|확인|(?:결제|주문)\\s*(?:할게요?|할래요?|해\\s*줘|해\\s*주세요|하기|진행(?:할게요?|해\\s*줘|해\\s*주세요)?)?)$");
+
+    // "취소", "주문 취소해주세요", "안 할래요"
+    private static final Pattern CANCEL_PATTERN = Pattern.compile(
+            "^(?:주문\\s*)?(?:취소(?:할게요?|해\\s*줘|해\\s*주세요|요)?|안\\s*할래요?)$");
+
+    // "안녕", "안녕하세요", "하이"
+    private static final Pattern GREETING_PATTERN = Pattern.compile(
+            "^(?:안녕(?:하세요)?|하이|헬로|hi|hello)$");
+
+    // "두 개요", "3개로 할게요"
+    private static final Pattern QUANTITY_PATTERN = Pattern.compile(
+            "^(" + KoreanNumber.PATTERN + ")\\s*(?:개|인분)\\s*(?:요|로|으로|로요|주세요|할게요|로\\s*할게요|로\\s*해\\s*주세요)?$");
+
+    // 문장 안의 수량 ("발렌타인 디너 2개 주세요")
+    private static final Pattern QUANTITY_IN_SENTENCE_PATTERN = Pattern.compile(
+            "(" + KoreanNumber.PATTERN + ")\\s*(?:개|인분)");
+
+    // "그랜드 스타일로", "디럭스로 해주세요" - 이름 부분은 MenuMatcher 로 정확 일치 확인
+    private static final Pattern STYLE_PATTERN = Pattern.compile(
+            "^(.+?)\\s*(?:으로|로)?\\s*(?:요|할게요?|해\\s*줘|해\\s*주세요|주세요)?$");
+
+    private final MenuMatcher menuMatcher;
+
+    private final AtomicLong localHits = new AtomicLong();
+    private final AtomicLong llmFallbacks = new AtomicLong();
+
+    /**
+     * 발화를 로컬 규칙으로 분류
+     * - pendingItem: 스타일/수량이 아직 정해지지 않은 디너 아이템 (없으면 null)
+     * - 분류되면 LLM 응답과 같은 형태의 LlmResponseDto 반환 (message 는 핸들러가 채움)
+     */
+    public Optional<LlmResponseDto> classify(String userMessage, OrderItemDto pendingItem) {
+        Optional<LlmResponseDto> result = doClassify(normalize(userMessage), pendingItem);
+        record(result.isPresent());
+        result.ifPresent(response -> log.debug("[LocalIntent] '{}' → {}", userMessage, response.getIntent()));
+        return result;
+    }
+
+    /**
+     * Groq 를 쓸 수 없을 때의 축소 모드 분류 (항상 응답을 만듦)
+     * - 발화 안의 키워드/메뉴 이름을 느슨하게 찾아 결제/취소/메뉴 주문/스타일 선택만 처리
+     * - 그 외에는 메뉴와 스타일을 직접 말해 달라는 안내 (ASK_MENU_INFO + 메시지)
+     */
+    public LlmResponseDto classifyDegraded(String userMessage, OrderItemDto pendingItem) {
+        String message = normalize(userMessage);
+        Optional<LlmResponseDto> strict = doClassify(message, pendingItem);
+        if (strict.isPresent()) {
+            return strict.get();
+        }
+
+        if (message.contains("결제")) {
+            return response(UserIntent.PROCEED_CHECKOUT, new LlmResponseDto.ExtractedEntities());
+        }
+        if (message.contains("취소")) {
+            return response(UserIntent.CANCEL_ORDER, new LlmResponseDto.ExtractedEntities());
+        }
+
+        var style = menuMatcher.findStyleByName(message);
+        var dinner = menuMatcher.findDinnerByName(message);
+        // "샴페인 2병"처럼 구성요소 이름이 디너 별칭과 겹칠 수 있으므로 "디너"나 스타일이 함께 있을 때만 주문으로 판단
+        if (dinner.isPresent() && (message.contains("디너") || style.isPresent())) {
+            LlmResponseDto.ExtractedEntities entities = new LlmResponseDto.ExtractedEntities();
+            entities.setMenuName(dinner.get().getDinnerName());
+            style.ifPresent(s -> entities.setStyleName(s.getStyleName()));
+            Matcher quantityMatcher = QUANTITY_IN_SENTENCE_PATTERN.matcher(message);
+            if (quantityMatcher.find()) {
+                // 0개처럼 주문할 수 없는 수량은 비워 두고 핸들러가 다시 묻게 함
+                KoreanNumber.parseQuantity(quantityMatcher.group(1)).ifPresent(entities::setQuantity);
+            }
+            return response(UserIntent.ORDER_MENU, entities);
+        }
+        if (pendingItem != null && style.isPresent()) {
+            LlmResponseDto.ExtractedEntities entities = new LlmResponseDto.ExtractedEntities();
+            entities.setStyleName(style.get().getStyleName());
+            return response(UserIntent.ORDER_MENU, entities);
+        }
+
+        return new LlmResponseDto(UserIntent.ASK_MENU_INFO.name(), new LlmResponseDto.ExtractedEntities(),
+                "지금은 주문 도우미 연결이 원활하지 않아요. '발렌타인 디너 그랜드 스타일'처럼 메뉴와 스타일을 말씀해주시거나, "
+                        + "'결제할게요'라고 말씀해주세요!");
+    }
+
+    /**
+     * 로컬 분류 적중률 (0.0 ~ 1.0)
+     */
+    public double getHitRate() {
+        long hits = localHits.get();
+        long total = hits + llmFallbacks.get();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    public long getLocalHits() {
+        return localHits.get();
+    }
+
+    public long getLlmFallbacks() {
+        return llmFallbacks.get();
+    }
+
+    private Optional<LlmResponseDto> doClassify(String message, OrderItemDto pendingItem) {
+        if (message.isEmpty()) {
+            return Optional.empty();
+        }
+
+        if (GREETING_PATTERN.matcher(message).matches()) {
+            return Optional.of(response(UserIntent.GREETING, new LlmResponseDto.ExtractedEntities()));
+        }
+
+        if (CANCEL_PATTERN.matcher(message).matches()) {
+            return Optional.of(response(UserIntent.CANCEL_ORDER, new LlmResponseDto.ExtractedEntities()));
+        }
+
+        // 미완성 아이템이 있으면 "네"가 스타일/수량 답변일 수 있으므로 LLM 에 맡김
+        if (CHECKOUT_PATTERN.matcher(message).matches()) {
+            return pendingItem == null
+                    ? Optional.of(response(UserIntent.PROCEED_CHECKOUT, new LlmResponseDto.ExtractedEntities()))
+                    : Optional.empty();
+        }
+
+        if (pendingItem == null) {
+            return Optional.empty();
+        }
+
+        // 스타일이 정해진 아이템의 수량 답변
+        Matcher quantityMatcher = QUANTITY_PATTERN.matcher(message);
+        if (quantityMatcher.matches()) {
+            OptionalInt quantity = KoreanNumber.parseQuantity(quantityMatcher.group(1));
+            if (pendingItem.getServingStyleId() == null || quantity.isEmpty()) {
+                return Optional.empty();
+            }
+            LlmResponseDto.ExtractedEntities entities = new LlmResponseDto.ExtractedEntities();
+            entities.setQuantity(quantity.getAsInt());
+            return Optional.of(response(UserIntent.ORDER_MENU, entities));
+        }
+
+        // 진행 중인 아이템의 스타일 답변
+        Matcher styleMatcher = STYLE_PATTERN.matcher(message);
+        if (styleMatcher.matches()) {
+            return menuMatcher.findStyleByExactName(styleMatcher.group(1))
+                    .map(style -> {
+                        LlmResponseDto.ExtractedEntities entities = new LlmResponseDto.ExtractedEntities();
+                        entities.setStyleName(style.getStyleName());
+                        return response(UserIntent.ORDER_MENU, entities);
+                    });
+        }
+
+        return Optional.empty();
+    }
+
+    private LlmResponseDto response(UserIntent intent, LlmResponseDto.ExtractedEntities entities) {
+        return new LlmResponseDto(intent.name(), entities, null);
+    }
+
+    private String normalize(String userMessage) {
+        if (userMessage == null) {
+            return "";
+        }
+        String trimmed = TRAILING_PUNCTUATION.matcher(userMessage.trim()).replaceAll("");
+        return WHITESPACE.matcher(trimmed).replaceAll(" ").toLowerCase();
+    }
+
+    private void record(boolean hit) {
+        long hits = hit ? localHits.incrementAndGet() : localHits.get();
+        long fallbacks = hit ? llmFallbacks.get() : llmFallbacks.incrementAndGet();
+        long total = hits + fallbacks;
+        if (total % STATS_LOG_INTERVAL == 0) {
+            log.info("[LocalIntent] 로컬 분류 적중률 {}% ({}/{})",
+                    String.format("%.1f", getHitRate() * 100), hits, total);
+        }
+    }
+}
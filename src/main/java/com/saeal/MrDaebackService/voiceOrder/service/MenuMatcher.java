@@ -1,20 +1,39 @@
 package com.saeal.MrDaebackService.voiceOrder.service;
 
+import com.saeal.MrDaebackService.catalog.event.CatalogChangedEvent;
+import com.saeal.MrDaebackService.dinner.dto.response.DinnerMenuItemResponseDto;
 import com.saeal.MrDaebackService.dinner.dto.response.DinnerResponseDto;
 import com.saeal.MrDaebackService.dinner.service.DinnerService;
+import com.saeal.MrDaebackService.menuItems.dto.MenuItemResponseDto;
+import com.saeal.MrDaebackService.menuItems.service.MenuItemsService;
 import com.saeal.MrDaebackService.servingStyle.dto.response.ServingStyleResponseDto;
 import com.saeal.MrDaebackService.servingStyle.service.ServingStyleService;
+import com.saeal.MrDaebackService.voiceOrder.service.matching.HangulJamo;
+import com.saeal.MrDaebackService.voiceOrder.service.matching.NameIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 /**
  * 디너/스타일 이름 매칭 서비스
+ *
+ * - 디너/스타일 목록은 불변 CatalogSnapshot 으로 보관하고 AtomicReference 로 통째로 교체
+ * - 기동 시 미리 생성하고, 관리자 카탈로그 변경(CatalogChangedEvent) 커밋 후 다시 생성
+ * - 음성 주문 요청은 DB 조회 없이 스냅샷만 읽음
+ * - 이름 매칭은 스냅샷마다 미리 만든 NameIndex(정규화 이름 + 한글/영문 별칭 + 자모 편집 거리)로 처리
  */
 @Component
 @RequiredArgsConstructor
@@ -23,10 +42,14 @@ public class MenuMatcher {
 
     private final DinnerService dinnerService;
     private final ServingStyleService servingStyleService;
+    private final MenuItemsService menuItemsService;
 
-    // 캐시
-    private List<DinnerResponseDto> cachedDinners;
-    private List<ServingStyleResponseDto> cachedStyles;
+    // 추천 후보로 보여줄 최소 발음 유사도
+    private static final double SUGGESTION_MIN_CONFIDENCE = 0.5;
+
+    // 카탈로그 스냅샷 (불변, 통째로 교체)
+    private final AtomicReference<CatalogSnapshot> snapshot = new AtomicReference<>();
+    private final AtomicLong snapshotVersion = new AtomicLong();
 
     // 한글-영어 디너 이름 매핑 (영문 → 한글)
     private static final Map<String, String> KOREAN_DINNER_NAMES = Map.of(
@@ -98,127 +121,132 @@ public class MenuMatcher {
             // 디저트
             Map.entry("dessert", List.of("디저트", "dessert", "후식")),
             Map.entry("cake", List.of("케이크", "cake", "케익")),
-            Map.entry("icecream", List.of("아이스크림", "ice cream", "icecream"))
+            Map.entry("icecream", List.of("아이스크림", "ice cream", "icecream")),
+            Map.entry("coffee", List.of("커피", "coffee")),
+            Map.entry("baguette", List.of("바게트빵", "바게트", "baguette")),
+            Map.entry("eggscramble", List.of("에그 스크램블", "egg scramble", "스크램블"))
     );
 
     /**
-     * 캐시 로드 (menuItems 포함)
+     * 기동 시 카탈로그 스냅샷 미리 생성
      */
-    public void loadCache() {
-        if (cachedDinners == null) {
-            cachedDinners = dinnerService.getAllDinnersWithMenuItems();
-        }
-        if (cachedStyles == null) {
-            cachedStyles = servingStyleService.getAllServingStyles();
-        }
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refreshCache();
     }
 
     /**
-     * 캐시 강제 새로고침
+     * 관리자 카탈로그 변경 커밋 후 스냅샷 재생성
      */
-    public void refreshCache() {
-        cachedDinners = null;
-        cachedStyles = null;
-        loadCache();
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        log.info("[MenuMatcher] 카탈로그 변경으로 스냅샷 재생성: {}", event.getReason());
+        refreshCache();
     }
 
     /**
-     * 메뉴 이름으로 Dinner 찾기 (한글/영문 모두 지원)
+     * 캐시 로드 (menuItems 포함) - 스냅샷이 없을 때만 생성
      */
-    public Optional<DinnerResponseDto> findDinnerByName(String menuName) {
-        loadCache();
-        if (menuName == null) return Optional.empty();
+    public void loadCache() {
+        catalog();
+    }
 
-        String trimmedName = menuName.trim();
+    /**
+     * 캐시 강제 새로고침 - 새 스냅샷을 만든 뒤 한 번에 교체
+     */
+    public synchronized void refreshCache() {
+        CatalogSnapshot next = new CatalogSnapshot(
+                snapshotVersion.incrementAndGet(),
+                dinnerService.getAllDinnersWithMenuItems(),
+                servingStyleService.getAllServingStyles(),
+                menuItemsService.getAllMenuItems());
+        snapshot.set(next);
+        log.info("[MenuMatcher] 카탈로그 스냅샷 v{} (디너 {}개, 스타일 {}개)",
+                next.version, next.dinners.size(), next.styles.size());
+    }
 
-        // 1. 한글 이름을 영문으로 변환 시도
-        String englishName = ENGLISH_DINNER_NAMES.get(trimmedName);
-        if (englishName != null) {
-            Optional<DinnerResponseDto> koreanMatch = cachedDinners.stream()
-                    .filter(d -> d.isActive() && d.getDinnerName().equalsIgnoreCase(englishName))
-                    .findFirst();
-            if (koreanMatch.isPresent()) {
-                return koreanMatch;
+    /**
+     * 현재 카탈로그 스냅샷
+     * - 한 요청 안에서는 같은 스냅샷을 계속 사용해야 일관된 결과를 얻음
+     */
+    private CatalogSnapshot catalog() {
+        CatalogSnapshot current = snapshot.get();
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot.get();
+                if (current == null) {
+                    refreshCache();
+                    current = snapshot.get();
+                }
             }
         }
+        return current;
+    }
 
-        // 2. 정확히 일치하는 경우 (영문)
-        Optional<DinnerResponseDto> exactMatch = cachedDinners.stream()
-                .filter(d -> d.isActive() && d.getDinnerName().equalsIgnoreCase(trimmedName))
-                .findFirst();
-
-        if (exactMatch.isPresent()) {
-            return exactMatch;
-        }
+    /**
+     * 현재 카탈로그 스냅샷 버전 (카탈로그 변경 시마다 증가)
+     */
+    public long getCatalogVersion() {
+        return catalog().version;
+    }
 
-        // 3. 부분 매칭 (대소문자 무시, 공백 무시)
-        String normalizedInput = trimmedName.toLowerCase()
-                .replace(" ", "")
-                .replace("피스트", "feast")
-                .replace("축제", "feast")
-                .replace("디너", "dinner");
-
-        return cachedDinners.stream()
-                .filter(d -> {
-                    if (!d.isActive()) return false;
-                    String normalizedDinner = d.getDinnerName().toLowerCase().replace(" ", "");
-                    return normalizedDinner.contains(normalizedInput) ||
-                           normalizedInput.contains(normalizedDinner) ||
-                           isMatchingMenu(d.getDinnerName(), menuName);
-                })
-                .findFirst();
+    /**
+     * 메뉴 이름으로 Dinner 찾기 (한글/영문/별칭, 부분 일치, STT 오인식 허용)
+     */
+    public Optional<DinnerResponseDto> findDinnerByName(String menuName) {
+        if (menuName == null) return Optional.empty();
+        return catalog().dinnerIndex.find(menuName);
     }
 
     /**
-     * 스타일 이름으로 ServingStyle 찾기 (한글/영문 모두 지원)
+     * 스타일 이름으로 ServingStyle 찾기 (한글/영문/별칭, 부분 일치, STT 오인식 허용)
      */
     public Optional<ServingStyleResponseDto> findStyleByName(String styleName) {
-        loadCache();
         if (styleName == null) return Optional.empty();
+        return catalog().styleIndex.find(styleName);
+    }
 
-        String trimmedName = styleName.trim();
-
-        // 1. 한글 이름을 영문으로 변환 시도
-        String englishName = ENGLISH_STYLE_NAMES.get(trimmedName);
-        if (englishName != null) {
-            Optional<ServingStyleResponseDto> koreanMatch = cachedStyles.stream()
-                    .filter(s -> s.isActive() && s.getStyleName().equalsIgnoreCase(englishName))
-                    .findFirst();
-            if (koreanMatch.isPresent()) {
-                return koreanMatch;
-            }
-        }
+    /**
+     * 스타일 이름/별칭이 정확히 일치할 때만 ServingStyle 반환 (부분 일치, 오인식 허용 없음)
+     */
+    public Optional<ServingStyleResponseDto> findStyleByExactName(String styleName) {
+        if (styleName == null) return Optional.empty();
+        return catalog().styleIndex.findExact(styleName);
+    }
 
-        // 2. 정확히 일치하는 경우 (영문)
-        Optional<ServingStyleResponseDto> exactMatch = cachedStyles.stream()
-                .filter(s -> s.isActive() && s.getStyleName().equalsIgnoreCase(trimmedName))
-                .findFirst();
+    /**
+     * 이름이 정확히 매칭되지 않을 때 추천할 디너 후보 (한글 이름, 신뢰도 순)
+     */
+    public List<String> suggestDinnerNames(String menuName, int limit) {
+        if (menuName == null) return List.of();
+        return catalog().dinnerIndex.rank(menuName, limit, SUGGESTION_MIN_CONFIDENCE).stream()
+                .map(candidate -> toKoreanDinnerName(candidate.getValue().getDinnerName()))
+                .toList();
+    }
 
-        if (exactMatch.isPresent()) {
-            return exactMatch;
-        }
+    /**
+     * 이름이 정확히 매칭되지 않을 때 추천할 스타일 후보 (한글 이름, 신뢰도 순)
+     */
+    public List<String> suggestStyleNames(String styleName, int limit) {
+        if (styleName == null) return List.of();
+        return catalog().styleIndex.rank(styleName, limit, SUGGESTION_MIN_CONFIDENCE).stream()
+                .map(candidate -> toKoreanStyleName(candidate.getValue().getStyleName()))
+                .toList();
+    }
 
-        // 3. 부분 매칭 (대소문자 무시)
-        String normalizedInput = trimmedName.toLowerCase()
-                .replace(" ", "")
-                .replace("스타일", "style");
-
-        return cachedStyles.stream()
-                .filter(s -> {
-                    if (!s.isActive()) return false;
-                    String normalizedStyle = s.getStyleName().toLowerCase().replace(" ", "");
-                    return normalizedStyle.contains(normalizedInput) ||
-                           normalizedInput.contains(normalizedStyle);
-                })
-                .findFirst();
+    /**
+     * 이름으로 MenuItem 찾기 (한글/영문/별칭, 부분 일치, STT 오인식 허용)
+     */
+    public Optional<MenuItemResponseDto> findMenuItemByName(String menuItemName) {
+        if (menuItemName == null) return Optional.empty();
+        return catalog().menuItemIndex.find(menuItemName);
     }
 
     /**
      * 활성 디너 목록 (프롬프트용) - 한글 이름 포함
      */
     public String getMenuListForPrompt() {
-        loadCache();
-        return cachedDinners.stream()
+        return catalog().dinners.stream()
                 .filter(DinnerResponseDto::isActive)
                 .map(d -> {
                     String koreanName = KOREAN_DINNER_NAMES.getOrDefault(d.getDinnerName(), d.getDinnerName());
@@ -235,8 +263,7 @@ public class MenuMatcher {
      * 활성 스타일 목록 (프롬프트용) - 한글 이름 포함
      */
     public String getStyleListForPrompt() {
-        loadCache();
-        return cachedStyles.stream()
+        return catalog().styles.stream()
                 .filter(ServingStyleResponseDto::isActive)
                 .map(s -> {
                     String koreanName = KOREAN_STYLE_NAMES.getOrDefault(s.getStyleName(), s.getStyleName());
@@ -315,20 +342,10 @@ public class MenuMatcher {
      * @return 메뉴 아이템 단가 (없으면 0)
      */
     public int getMenuItemPrice(String dinnerId, String menuItemName) {
-        loadCache();
         if (dinnerId == null || menuItemName == null) return 0;
 
-        return cachedDinners.stream()
-                .filter(d -> d.getId().equals(dinnerId))
-                .findFirst()
-                .map(dinner -> {
-                    if (dinner.getMenuItems() == null) return 0;
-                    return dinner.getMenuItems().stream()
-                            .filter(mi -> isMatchingMenuItem(mi.getMenuItemName(), menuItemName))
-                            .findFirst()
-                            .map(mi -> mi.getUnitPrice() != null ? mi.getUnitPrice().intValue() : 0)
-                            .orElse(0);
-                })
+        return findDinnerMenuItem(dinnerId, menuItemName)
+                .map(mi -> mi.getUnitPrice() != null ? mi.getUnitPrice().intValue() : 0)
                 .orElse(0);
     }
 
@@ -336,23 +353,70 @@ public class MenuMatcher {
      * ★ 디너의 메뉴 아이템 기본 수량 조회
      */
     public int getMenuItemDefaultQuantity(String dinnerId, String menuItemName) {
-        loadCache();
         if (dinnerId == null || menuItemName == null) return 0;
 
-        return cachedDinners.stream()
-                .filter(d -> d.getId().equals(dinnerId))
-                .findFirst()
-                .map(dinner -> {
-                    if (dinner.getMenuItems() == null) return 0;
-                    return dinner.getMenuItems().stream()
-                            .filter(mi -> isMatchingMenuItem(mi.getMenuItemName(), menuItemName))
-                            .findFirst()
-                            .map(mi -> mi.getDefaultQuantity() != null ? mi.getDefaultQuantity() : 0)
-                            .orElse(0);
-                })
+        return findDinnerMenuItem(dinnerId, menuItemName)
+                .map(mi -> mi.getDefaultQuantity() != null ? mi.getDefaultQuantity() : 0)
                 .orElse(0);
     }
 
+    /**
+     * ★ 음성 주문 커스터마이징(이름 기준)을 메뉴 아이템 ID별 최종 수량으로 변환
+     * - 장바구니 합계(CartManager)와 결제(VoiceOrderService)가 같은 결과를 쓰도록 한곳에서 처리
+     * - 이름(한글/영문/별칭, STT 오인식)은 디너 기본 구성 NameIndex 에서 먼저 찾고, 없으면 전체 메뉴 아이템에서 찾음
+     * - components 수량을 먼저 반영하고, 제외 목록은 마지막에 0 으로 덮어씀
+     * @return 메뉴 아이템 ID → 최종 수량 (언급되지 않은 기본 구성은 포함하지 않음)
+     */
+    public Map<String, Integer> resolveMenuItemQuantities(String dinnerId, Map<String, Integer> components,
+                                                          List<String> excludedItems) {
+        Map<String, Integer> result = new LinkedHashMap<>();
+        CatalogSnapshot catalog = catalog();
+        NameIndex<DinnerMenuItemResponseDto> defaults =
+                dinnerId == null ? null : catalog.dinnerMenuItemIndexes.get(dinnerId);
+
+        if (components != null) {
+            for (Map.Entry<String, Integer> entry : components.entrySet()) {
+                String menuItemId = resolveMenuItemId(catalog, defaults, entry.getKey());
+                if (menuItemId == null) {
+                    log.warn("[MenuMatcher] MenuItem not found for component: {}", entry.getKey());
+                    continue;
+                }
+                result.put(menuItemId, entry.getValue() == null ? 0 : entry.getValue());
+            }
+        }
+        if (excludedItems != null) {
+            for (String excludedItem : excludedItems) {
+                String menuItemId = resolveMenuItemId(catalog, defaults, excludedItem);
+                if (menuItemId == null) {
+                    log.warn("[MenuMatcher] MenuItem not found for excluded item: {}", excludedItem);
+                    continue;
+                }
+                result.put(menuItemId, 0);
+            }
+        }
+        return result;
+    }
+
+    private static String resolveMenuItemId(CatalogSnapshot catalog, NameIndex<DinnerMenuItemResponseDto> defaults,
+                                            String name) {
+        if (name == null) return null;
+        if (defaults != null) {
+            Optional<DinnerMenuItemResponseDto> defaultItem = defaults.find(name);
+            if (defaultItem.isPresent()) {
+                return defaultItem.get().getMenuItemId();
+            }
+        }
+        return catalog.menuItemIndex.find(name).map(MenuItemResponseDto::getId).orElse(null);
+    }
+
+    /**
+     * 디너 기본 구성 중 이름이 일치하는 메뉴 아이템
+     */
+    private Optional<DinnerMenuItemResponseDto> findDinnerMenuItem(String dinnerId, String menuItemName) {
+        NameIndex<DinnerMenuItemResponseDto> index = catalog().dinnerMenuItemIndexes.get(dinnerId);
+        return index == null ? Optional.empty() : index.find(menuItemName);
+    }
+
     /**
      * ★ 메뉴 아이템 이름이 매칭되는지 확인 (한글/영문 양방향)
      * 사용자 입력(한글)과 DB의 메뉴 아이템 이름(영문 가능)을 매칭
@@ -388,4 +452,107 @@ public class MenuMatcher {
 
         return false;
     }
+
+    /**
+     * 영문 디너 이름의 별칭 (한글 이름 + 역방향 매핑 키)
+     */
+    private static List<String> dinnerAliases(String dinnerName) {
+        List<String> aliases = new ArrayList<>();
+        String koreanName = KOREAN_DINNER_NAMES.get(dinnerName);
+        if (koreanName != null) {
+            aliases.add(koreanName);
+        }
+        ENGLISH_DINNER_NAMES.forEach((alias, englishName) -> {
+            if (englishName.equalsIgnoreCase(dinnerName)) {
+                aliases.add(alias);
+            }
+        });
+        return aliases;
+    }
+
+    /**
+     * 영문 스타일 이름의 별칭 (한글 이름 + 역방향 매핑 키)
+     */
+    private static List<String> styleAliases(String styleName) {
+        List<String> aliases = new ArrayList<>();
+        String koreanName = KOREAN_STYLE_NAMES.get(styleName);
+        if (koreanName != null) {
+            aliases.add(koreanName);
+        }
+        ENGLISH_STYLE_NAMES.forEach((alias, englishName) -> {
+            if (englishName.equalsIgnoreCase(styleName)) {
+                aliases.add(alias);
+            }
+        });
+        return aliases;
+    }
+
+    /**
+     * 메뉴 아이템 이름의 별칭 (이름이 속한 MENU_ITEM_KEYWORDS 카테고리의 키워드 전체)
+     */
+    private static List<String> menuItemAliases(String menuItemName) {
+        List<String> aliases = new ArrayList<>();
+        String normalizedName = HangulJamo.normalize(menuItemName);
+        for (List<String> keywords : MENU_ITEM_KEYWORDS.values()) {
+            boolean matches = keywords.stream()
+                    .anyMatch(kw -> normalizedName.contains(HangulJamo.normalize(kw)));
+            if (matches) {
+                aliases.addAll(keywords);
+            }
+        }
+        return aliases;
+    }
+
+    /**
+     * 음성 주문용 카탈로그 스냅샷 (생성 후 변경되지 않음)
+     * - 디너/스타일/메뉴 아이템 이름 인덱스를 함께 미리 만들어 둠
+     */
+    private static final class CatalogSnapshot {
+        final long version;
+        final List<DinnerResponseDto> dinners;
+        final List<ServingStyleResponseDto> styles;
+        final NameIndex<DinnerResponseDto> dinnerIndex;
+        final NameIndex<ServingStyleResponseDto> styleIndex;
+        final NameIndex<MenuItemResponseDto> menuItemIndex;
+        final Map<String, NameIndex<DinnerMenuItemResponseDto>> dinnerMenuItemIndexes;
+
+        CatalogSnapshot(long version, List<DinnerResponseDto> dinners, List<ServingStyleResponseDto> styles,
+                        List<MenuItemResponseDto> menuItems) {
+            this.version = version;
+            this.dinners = List.copyOf(dinners);
+            this.styles = List.copyOf(styles);
+
+            NameIndex.Builder<DinnerResponseDto> dinnerIndexBuilder = NameIndex.builder();
+            Map<String, NameIndex<DinnerMenuItemResponseDto>> menuItemIndexesByDinner = new HashMap<>();
+            for (DinnerResponseDto dinner : this.dinners) {
+                if (dinner.isActive()) {
+                    dinnerIndexBuilder.add(dinner, dinner.getDinnerName(), dinnerAliases(dinner.getDinnerName()));
+                }
+                NameIndex.Builder<DinnerMenuItemResponseDto> dinnerMenuItemIndexBuilder = NameIndex.builder();
+                if (dinner.getMenuItems() != null) {
+                    for (DinnerMenuItemResponseDto menuItem : dinner.getMenuItems()) {
+                        dinnerMenuItemIndexBuilder.add(menuItem, menuItem.getMenuItemName(),
+                                menuItemAliases(menuItem.getMenuItemName()));
+                    }
+                }
+                menuItemIndexesByDinner.put(dinner.getId(), dinnerMenuItemIndexBuilder.build());
+            }
+            this.dinnerIndex = dinnerIndexBuilder.build();
+            this.dinnerMenuItemIndexes = Map.copyOf(menuItemIndexesByDinner);
+
+            NameIndex.Builder<ServingStyleResponseDto> styleIndexBuilder = NameIndex.builder();
+            for (ServingStyleResponseDto style : this.styles) {
+                if (style.isActive()) {
+                    styleIndexBuilder.add(style, style.getStyleName(), styleAliases(style.getStyleName()));
+                }
+            }
+            this.styleIndex = styleIndexBuilder.build();
+
+            NameIndex.Builder<MenuItemResponseDto> menuItemIndexBuilder = NameIndex.builder();
+            for (MenuItemResponseDto menuItem : menuItems) {
+                menuItemIndexBuilder.add(menuItem, menuItem.getName(), menuItemAliases(menuItem.getName()));
+            }
+            this.menuItemIndex = menuItemIndexBuilder.build();
+        }
+    }
 }
@@ -1,10 +1,14 @@
 package com.saeal.MrDaebackService.voiceOrder.service;
 
+import com.saeal.MrDaebackService.voiceOrder.config.GroqConfig;
 import com.saeal.MrDaebackService.voiceOrder.dto.request.ChatRequestDto.OrderItemRequestDto;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * LLM 시스템 프롬프트 생성 담당 (간소화 버전)
@@ -18,58 +22,192 @@ import java.util.List;
  */
 @Component
 @RequiredArgsConstructor
+@Slf4j
 public class PromptBuilder {
 
+    static final int STATS_LOG_INTERVAL = 100;
+
+    // 턴마다 새로 만들지 않고 스레드별로 재사용하는 버퍼 (프롬프트 크기 이상으로 커지면 버림)
+    private static final int BUFFER_CAPACITY = 8 * 1024;
+    private static final ThreadLocal<StringBuilder> BUFFER =
+            ThreadLocal.withInitial(() -> new StringBuilder(BUFFER_CAPACITY));
+
+    // 히스토리 메시지 1개당 role/구분자 토큰 (추정)
+    private static final int MESSAGE_OVERHEAD_TOKENS = 4;
+
     private final MenuMatcher menuMatcher;
+    private final GroqConfig groqConfig;
+
+    private volatile RenderedPrompt renderedPrompt;
+
+    private final AtomicLong builds = new AtomicLong();
+    private final AtomicLong estimatedTokens = new AtomicLong();
+
+    /**
+     * LLM 시스템 프롬프트 (지시문 + 메뉴 카탈로그 + 예시)
+     * - 카탈로그 버전이 같으면 항상 같은 문자열 → 프로바이더의 prefix 캐시 재사용 가능
+     * - 턴마다 바뀌는 주문/주소 정보는 넣지 않음 (buildContext)
+     */
+    public String buildSystemPrompt() {
+        return rendered().text;
+    }
+
+    /**
+     * 턴마다 바뀌는 주문 요약 + 배달 주소 (히스토리 뒤, 사용자 메시지 앞의 별도 메시지로 전송)
+     */
+    public String buildContext(List<OrderItemRequestDto> currentOrder, String selectedAddress) {
+        StringBuilder sb = BUFFER.get();
+        sb.setLength(0);
+        appendOrderSummary(sb, currentOrder);
+        sb.append('\n');
+        appendAddressInfo(sb, selectedAddress);
+
+        String context = sb.toString();
+        if (sb.capacity() > BUFFER_CAPACITY * 4) {
+            BUFFER.remove();
+        }
+        record(rendered().tokens + estimateTokens(context, 0, context.length()));
+        return context;
+    }
+
+    /**
+     * 최근 대화만 남김
+     * - 최대 groq.history-max-messages 개, 추정 토큰 합이 groq.history-token-budget 이하가 되도록 오래된 것부터 제외
+     */
+    public List<Map<String, String>> trimHistory(List<Map<String, String>> history) {
+        if (history == null || history.isEmpty()) {
+            return List.of();
+        }
+        int budget = groqConfig.getHistoryTokenBudget();
+        int oldest = Math.max(0, history.size() - Math.max(0, groqConfig.getHistoryMaxMessages()));
+        int start = history.size();
+        int tokens = 0;
+        while (start > oldest) {
+            String content = history.get(start - 1).get("content");
+            int messageTokens = MESSAGE_OVERHEAD_TOKENS
+                    + (content != null ? estimateTokens(content, 0, content.length()) : 0);
+            if (budget > 0 && tokens + messageTokens > budget) {
+                break;
+            }
+            tokens += messageTokens;
+            start--;
+        }
+        return history.subList(start, history.size());
+    }
+
+    /**
+     * 프롬프트 1회당 추정 토큰 수 평균 (시스템 프롬프트 + 주문/주소 컨텍스트)
+     */
+    public double getAverageEstimatedTokens() {
+        long count = builds.get();
+        return count == 0 ? 0.0 : (double) estimatedTokens.get() / count;
+    }
+
+    public long getBuildCount() {
+        return builds.get();
+    }
+
+    /**
+     * 토큰 수 추정 (토크나이저 없이 근사)
+     * - ASCII 는 4글자당 1토큰, 한글 등 비 ASCII 문자는 글자당 1토큰
+     */
+    static int estimateTokens(CharSequence text, int from, int to) {
+        int ascii = 0;
+        int other = 0;
+        for (int i = from; i < to; i++) {
+            if (text.charAt(i) < 0x80) {
+                ascii++;
+            } else {
+                other++;
+            }
+        }
+        return other + (ascii + 3) / 4;
+    }
 
     /**
-     * LLM 시스템 프롬프트 생성
+     * 카탈로그 버전이 바뀌었을 때만 시스템 프롬프트 다시 렌더링
      */
-    public String build(List<OrderItemRequestDto> currentOrder,
-                        String selectedAddress,
-                        List<String> userAddresses,
-                        String currentFlowState) {
-
-        String orderSummary = buildOrderSummary(currentOrder);
-        String addressInfo = buildAddressInfo(selectedAddress);
-
-        return String.format(
-                BASE_PROMPT_TEMPLATE,
-                menuMatcher.getMenuListForPrompt(),
-                orderSummary,
-                addressInfo
-        );
+    private RenderedPrompt rendered() {
+        long version = menuMatcher.getCatalogVersion();
+        RenderedPrompt current = renderedPrompt;
+        if (current != null && current.catalogVersion == version) {
+            return current;
+        }
+        String text = PROMPT_HEAD + menuMatcher.getMenuListForPrompt() + "\n\n" + PROMPT_TAIL;
+        RenderedPrompt rendered = new RenderedPrompt(version, text, estimateTokens(text, 0, text.length()));
+        renderedPrompt = rendered;
+        return rendered;
     }
 
-    private String buildOrderSummary(List<OrderItemRequestDto> currentOrder) {
+    private void appendOrderSummary(StringBuilder sb, List<OrderItemRequestDto> currentOrder) {
         if (currentOrder == null || currentOrder.isEmpty()) {
-            return "## Current Order: 없음";
+            sb.append("## Current Order: 없음");
+            return;
         }
 
-        StringBuilder sb = new StringBuilder("## Current Order\n");
+        sb.append("## Current Order\n");
         for (int i = 0; i < currentOrder.size(); i++) {
             OrderItemRequestDto item = currentOrder.get(i);
-            sb.append(String.format("%d. %s (%s) x%d = %,d원\n",
-                    i + 1,
-                    item.getDinnerName(),
-                    item.getServingStyleName() != null ? item.getServingStyleName() : "스타일 미선택",
-                    item.getQuantity(),
-                    item.getTotalPrice()));
+            sb.append(i + 1).append(". ")
+                    .append(item.getDinnerName())
+                    .append(" (")
+                    .append(item.getServingStyleName() != null ? item.getServingStyleName() : "스타일 미선택")
+                    .append(") x").append(item.getQuantity())
+                    .append(" = ");
+            appendGrouped(sb, item.getTotalPrice());
+            sb.append("원\n");
         }
-        return sb.toString();
     }
 
-    private String buildAddressInfo(String selectedAddress) {
+    private void appendAddressInfo(StringBuilder sb, String selectedAddress) {
         if (selectedAddress != null && !selectedAddress.isEmpty()) {
-            return "## 배달 주소: " + selectedAddress;
+            sb.append("## 배달 주소: ").append(selectedAddress);
+            return;
+        }
+        sb.append("## 배달 주소: 자동 설정됨");
+    }
+
+    /**
+     * 천 단위 구분 기호를 붙여 정수 추가 (String.format("%,d") 와 같은 결과)
+     */
+    private static void appendGrouped(StringBuilder sb, int value) {
+        String digits = Long.toString(Math.abs((long) value));
+        if (value < 0) {
+            sb.append('-');
+        }
+        int firstGroup = digits.length() % 3 == 0 ? 3 : digits.length() % 3;
+        sb.append(digits, 0, firstGroup);
+        for (int i = firstGroup; i < digits.length(); i += 3) {
+            sb.append(',').append(digits, i, i + 3);
+        }
+    }
+
+    private void record(int tokens) {
+        long count = builds.incrementAndGet();
+        estimatedTokens.addAndGet(tokens);
+        if (count % STATS_LOG_INTERVAL == 0) {
+            log.info("[PromptBuilder] 프롬프트 {}회, 평균 추정 토큰 {}", count,
+                    String.format("%.0f", getAverageEstimatedTokens()));
+        }
+    }
+
+    private static final class RenderedPrompt {
+        private final long catalogVersion;
+        private final String text;
+        private final int tokens;
+
+        private RenderedPrompt(long catalogVersion, String text, int tokens) {
+            this.catalogVersion = catalogVersion;
+            this.text = text;
+            this.tokens = tokens;
         }
-        return "## 배달 주소: 자동 설정됨";
     }
 
     // ============================================================
     // 기본 프롬프트 템플릿 (초간소화 버전)
+    // - 시스템 프롬프트: PROMPT_HEAD + 메뉴 상세 + PROMPT_TAIL
     // ============================================================
-    private static final String BASE_PROMPT_TEMPLATE = """
+    private static final String PROMPT_HEAD = """
             RESPOND ONLY WITH A SINGLE JSON OBJECT. NO OTHER TEXT.
 
             {"intent":"INTENT_NAME","entities":{},"message":"한글 응답"}
@@ -97,11 +235,9 @@ public class PromptBuilder {
             ⚠️ Champagne Feast Dinner는 Simple Style 불가!
 
             ## Menu Details
-            %s
-
-            %s
-            %s
+            """;
 
+    private static final String PROMPT_TAIL = """
             ## EXAMPLES
 
             User: "안녕하세요" / "주문할게요"
@@ -7,14 +7,15 @@ import com.saeal.MrDaebackService.cart.dto.response.CartResponseDto;
 import com.saeal.MrDaebackService.cart.enums.DeliveryMethod;
 import com.saeal.MrDaebackService.cart.service.CartService;
 import com.saeal.MrDaebackService.order.dto.response.OrderResponseDto;
-import com.saeal.MrDaebackService.product.dto.request.CreateProductRequest;
 import com.saeal.MrDaebackService.product.dto.request.CreateAdditionalMenuProductRequest;
+import com.saeal.MrDaebackService.product.dto.request.CreateCustomizedProductRequest;
+import com.saeal.MrDaebackService.product.dto.response.CustomizedProductResponseDto;
 import com.saeal.MrDaebackService.product.dto.response.ProductResponseDto;
 import com.saeal.MrDaebackService.product.service.ProductService;
-import com.saeal.MrDaebackService.menuItems.domain.MenuItems;
-import com.saeal.MrDaebackService.menuItems.repository.MenuItemsRepository;
+import com.saeal.MrDaebackService.menuItems.dto.MenuItemResponseDto;
 import com.saeal.MrDaebackService.user.domain.User;
 import com.saeal.MrDaebackService.user.repository.UserRepository;
+import com.saeal.MrDaebackService.voiceOrder.config.VoiceOrderProperties;
 import com.saeal.MrDaebackService.voiceOrder.dto.LlmResponseDto;
 import com.saeal.MrDaebackService.voiceOrder.dto.request.ChatRequestDto;
 import com.saeal.MrDaebackService.voiceOrder.dto.request.ChatRequestDto.ChatMessageDto;
@@ -25,18 +26,21 @@ import com.saeal.MrDaebackService.voiceOrder.dto.response.OrderItemDto;
 import com.saeal.MrDaebackService.voiceOrder.dto.response.VoiceCheckoutResponse;
 import com.saeal.MrDaebackService.voiceOrder.enums.UiAction;
 import com.saeal.MrDaebackService.voiceOrder.enums.UserIntent;
+import com.saeal.MrDaebackService.voiceOrder.service.engine.ChatCompletionEngine;
+import com.saeal.MrDaebackService.voiceOrder.service.engine.SpeechToTextEngine;
 import com.saeal.MrDaebackService.voiceOrder.service.intent.IntentContext;
 import com.saeal.MrDaebackService.voiceOrder.service.intent.IntentHandlerRegistry;
 import com.saeal.MrDaebackService.voiceOrder.service.intent.IntentResult;
+import com.saeal.MrDaebackService.voiceOrder.service.resilience.GroqUnavailableException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.saeal.MrDaebackService.product.dto.request.UpdateProductMenuItemRequest;
-import com.saeal.MrDaebackService.product.dto.response.ProductMenuItemResponseDto;
-
-import java.math.BigDecimal;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.*;
 
 /**
@@ -59,7 +63,8 @@ import java.util.*;
 @Slf4j
 public class VoiceOrderService {
 
-    private final GroqService groqService;
+    private final SpeechToTextEngine speechToTextEngine;
+    private final ChatCompletionEngine chatCompletionEngine;
     private final PromptBuilder promptBuilder;
     private final IntentHandlerRegistry intentHandlerRegistry;
     private final ResponseMessageBuilder responseMessageBuilder;
@@ -68,8 +73,16 @@ public class VoiceOrderService {
     private final ObjectMapper objectMapper;
     private final ProductService productService;
     private final CartService cartService;
-    private final MenuItemsRepository menuItemsRepository;
     private final MenuMatcher menuMatcher;
+    private final LocalIntentClassifier localIntentClassifier;
+    private final LlmResponseCache llmResponseCache;
+    private final LlmJsonExtractor llmJsonExtractor;
+    private final VoiceOrderProperties voiceOrderProperties;
+    private final VoiceSessionStore voiceSessionStore;
+
+    // 핸들러가 LLM 메시지를 그대로 사용하는 intent (스트리밍 시 메시지 조각을 클라이언트에 전달)
+    private static final Set<UserIntent> LLM_MESSAGE_INTENTS =
+            EnumSet.of(UserIntent.ASK_MENU_INFO, UserIntent.ADD_ADDITIONAL_MENU);
 
     /**
      * 채팅 메시지 처리 (간소화 버전)
@@ -77,55 +90,207 @@ public class VoiceOrderService {
      * - 기념일/배달시간은 첫 메시지에서 자동 추출
      */
     public ChatResponseDto processChat(ChatRequestDto request, UUID userId) {
+        return handleChat(request, userId, null);
+    }
+
+    /**
+     * 채팅 메시지 처리 (스트리밍 버전)
+     * - LLM 을 stream: true 로 호출하고 intent 가 확정되는 즉시 listener 에 알림
+     * - LLM 메시지를 그대로 쓰는 intent 는 메시지 조각을 바로 전달
+     * - intent/entities 만 필요한 intent 는 entities 가 닫히는 순간 스트림을 끊고 핸들러 실행
+     */
+    public void processChatStream(ChatRequestDto request, UUID userId, ChatStreamListener listener) {
+        listener.onComplete(handleChat(request, userId, listener));
+    }
+
+    /**
+     * 오디오 업로드 채팅 처리 (Base64 JSON 대신 multipart 스트림)
+     * - 클립 크기/길이 제한 확인 후 STT 업로드 본문으로 그대로 흘려보냄 (클립 전체를 힙에 올리지 않음)
+     * - 변환된 텍스트로 일반 채팅과 같은 흐름 처리
+     */
+    public ChatResponseDto processAudioChat(ChatRequestDto request, InputStream audio, long audioBytes,
+            String audioFormat, UUID userId) {
+        ChatRequestDto chatRequest = request != null ? request : new ChatRequestDto();
+        chatRequest.setAudioBase64(null);
+        chatRequest.setMessage(transcribeUpload(audio, audioBytes, audioFormat));
+        return processChat(chatRequest, userId);
+    }
+
+    /**
+     * 세션 모드면 세션 상태로 턴을 처리하고 결과를 세션에 저장
+     * - 같은 세션의 턴은 순서대로 처리 (이전 턴의 장바구니 상태를 이어받아야 하므로)
+     */
+    private ChatResponseDto handleChat(ChatRequestDto request, UUID userId, ChatStreamListener listener) {
+        VoiceSession session = resolveSession(request, userId);
+        if (session == null) {
+            return handleTurn(request, userId, null, listener);
+        }
+        synchronized (session) {
+            ChatResponseDto response = handleTurn(request, userId, session, listener);
+            saveSession(session, response);
+            response.setSessionId(session.getSessionId());
+            return response;
+        }
+    }
+
+    private ChatResponseDto handleTurn(ChatRequestDto request, UUID userId, VoiceSession session,
+            ChatStreamListener listener) {
         // 1. 입력 데이터 추출
         String userMessage = extractUserMessage(request);
-        List<Map<String, String>> history = convertHistory(request.getConversationHistory());
-        List<OrderItemRequestDto> currentOrder = Optional.ofNullable(request.getCurrentOrder())
-                .orElse(new ArrayList<>());
-        List<String> userAddresses = getUserAddresses(userId);
-        String occasionType = request.getOccasionType();
-        java.time.LocalDateTime requestedDeliveryTime = request.getRequestedDeliveryTime();
+        List<Map<String, String>> history;
+        List<OrderItemRequestDto> currentOrder;
+        List<String> userAddresses;
+        String occasionType;
+        java.time.LocalDateTime requestedDeliveryTime;
+        String selectedAddress;
+        if (session != null) {
+            // 서버 측 세션 - 요청의 히스토리/장바구니 대신 세션 상태 사용 (주소 DB 조회 생략)
+            history = session.getHistory();
+            currentOrder = session.getCurrentOrder();
+            userAddresses = session.getUserAddresses();
+            occasionType = session.getOccasionType();
+            requestedDeliveryTime = session.getRequestedDeliveryTime();
+            selectedAddress = session.getSelectedAddress();
+        } else {
+            history = convertHistory(request.getConversationHistory());
+            currentOrder = Optional.ofNullable(request.getCurrentOrder()).orElse(new ArrayList<>());
+            userAddresses = getUserAddresses(userId);
+            occasionType = request.getOccasionType();
+            requestedDeliveryTime = request.getRequestedDeliveryTime();
+            selectedAddress = request.getSelectedAddress();
+        }
 
         // ★ 주소 자동 선택: 첫 번째 주소를 기본으로 사용
-        String selectedAddress = request.getSelectedAddress();
         if ((selectedAddress == null || selectedAddress.isEmpty()) && !userAddresses.isEmpty()) {
             selectedAddress = userAddresses.get(0);
             log.info("주소 자동 선택: {}", selectedAddress);
         }
 
-        // 2. LLM 호출
-        String systemPrompt = promptBuilder.build(currentOrder, selectedAddress, userAddresses, null);
-        List<Map<String, String>> recentHistory = getRecentHistory(history, 4);
-        String llmRawResponse = groqService.chat(systemPrompt, recentHistory, userMessage);
+        List<OrderItemDto> orderItems = cartManager.convertToOrderItemDtoList(currentOrder);
+        OrderItemDto pendingItem = findPendingItem(orderItems);
 
-        // 3. JSON 파싱
-        LlmResponseDto llmResponse = parseLlmResponse(llmRawResponse);
+        // 2. 짧은 발화는 로컬 규칙으로 분류, 애매하면 캐시 → LLM 순으로 조회
+        LlmResponseDto llmResponse = localIntentClassifier.classify(userMessage, pendingItem).orElse(null);
+        if (llmResponse != null) {
+            notifyIntent(listener, llmResponse);
+        } else {
+            llmResponse = requestLlmResponse(userMessage, history, currentOrder, pendingItem, selectedAddress,
+                    listener);
+        }
 
-        // 4. Intent 처리
-        ChatResponseDto response = processIntent(userMessage, llmResponse, currentOrder, selectedAddress,
-                userAddresses, occasionType, requestedDeliveryTime);
+        // 3. Intent 처리
+        ChatResponseDto response = processIntent(userMessage, llmResponse, orderItems, pendingItem,
+                selectedAddress, userAddresses, occasionType, requestedDeliveryTime);
 
         return response;
     }
 
+    /**
+     * LLM 응답 조회
+     * - 같은 발화 + 같은 카탈로그/주문 상태면 캐시된 응답 재사용
+     * - listener 가 있으면 스트리밍 호출, 없으면 일반 호출
+     * - JSON 파싱에 성공한 응답만 캐시
+     */
+    private LlmResponseDto requestLlmResponse(String userMessage, List<Map<String, String>> history,
+            List<OrderItemRequestDto> currentOrder, OrderItemDto pendingItem, String selectedAddress,
+            ChatStreamListener listener) {
+        Optional<String> cacheKey = llmResponseCache.keyOf(userMessage, currentOrder, selectedAddress);
+        Optional<LlmResponseDto> cached = cacheKey.flatMap(llmResponseCache::get);
+        if (cached.isPresent()) {
+            notifyIntent(listener, cached.get());
+            return cached.get();
+        }
+
+        String systemPrompt = promptBuilder.buildSystemPrompt();
+        String context = promptBuilder.buildContext(currentOrder, selectedAddress);
+        List<Map<String, String>> recentHistory = promptBuilder.trimHistory(history);
+
+        // JSON 파싱 (성공한 응답만 캐시)
+        Optional<LlmResponseDto> parsed;
+        try {
+            parsed = listener != null
+                    ? streamLlmResponse(systemPrompt, recentHistory, context, userMessage, listener)
+                    : llmJsonExtractor.extract(
+                            chatCompletionEngine.chat(systemPrompt, recentHistory, context, userMessage));
+        } catch (GroqUnavailableException e) {
+            // Groq 장애 - 로컬 규칙 기반 축소 모드로 응답 (캐시하지 않음)
+            log.warn("LLM 사용 불가, 축소 모드로 처리: {}", e.getMessage());
+            LlmResponseDto degraded = localIntentClassifier.classifyDegraded(userMessage, pendingItem);
+            notifyIntent(listener, degraded);
+            return degraded;
+        }
+        if (parsed.isPresent()) {
+            cacheKey.ifPresent(key -> llmResponseCache.put(key, parsed.get()));
+            return parsed.get();
+        }
+        LlmResponseDto fallback = new LlmResponseDto();
+        fallback.setIntent("ASK_MENU_INFO");
+        fallback.setMessage("죄송해요, 다시 말씀해주세요!");
+        return fallback;
+    }
+
+    /**
+     * 스트리밍 LLM 호출 + 점진 파싱
+     */
+    private Optional<LlmResponseDto> streamLlmResponse(String systemPrompt, List<Map<String, String>> recentHistory,
+            String context, String userMessage, ChatStreamListener listener) {
+        LlmStreamParser parser = new LlmStreamParser();
+        chatCompletionEngine.chatStream(systemPrompt, recentHistory, context, userMessage, chunk -> {
+            boolean intentKnown = parser.getIntent() != null;
+            String delta = parser.append(chunk);
+            if (!intentKnown && parser.getIntent() != null) {
+                listener.onIntent(parser.getIntent());
+            }
+
+            boolean usesLlmMessage = LLM_MESSAGE_INTENTS.contains(parseIntent(parser.getIntent()));
+            if (usesLlmMessage && !delta.isEmpty()) {
+                listener.onMessageDelta(delta);
+            }
+
+            // intent + entities 가 확정됐고 LLM 메시지가 필요 없으면 나머지 토큰은 받지 않음
+            boolean readyForHandler = parser.getIntent() != null && parser.getEntitiesJson() != null
+                    && !usesLlmMessage;
+            return !parser.isComplete() && !readyForHandler;
+        });
+
+        if (parser.getIntent() == null) {
+            return llmJsonExtractor.extract(parser.getRaw());
+        }
+        try {
+            LlmResponseDto.ExtractedEntities entities = parser.getEntitiesJson() != null
+                    ? objectMapper.readValue(parser.getEntitiesJson(), LlmResponseDto.ExtractedEntities.class)
+                    : null;
+            String message = parser.getMessage().isEmpty() ? null : parser.getMessage();
+            return Optional.of(new LlmResponseDto(parser.getIntent(), entities, message));
+        } catch (JsonProcessingException e) {
+            log.warn("LLM 스트리밍 entities 파싱 실패: {}", e.getMessage());
+            return llmJsonExtractor.extract(parser.getRaw());
+        }
+    }
+
+    private void notifyIntent(ChatStreamListener listener, LlmResponseDto llmResponse) {
+        if (listener != null) {
+            listener.onIntent(llmResponse.getIntent());
+        }
+    }
+
     /**
      * Intent 처리 - 핸들러 레지스트리에 위임 (간소화 버전)
      * - 주소 체크 제거 (자동 선택됨)
      */
     private ChatResponseDto processIntent(String userMessage, LlmResponseDto llmResponse,
-            List<OrderItemRequestDto> currentOrder,
+            List<OrderItemDto> orderItems,
+            OrderItemDto pendingItem,
             String selectedAddress,
             List<String> userAddresses,
             String occasionType,
             java.time.LocalDateTime requestedDeliveryTime) {
 
         UserIntent intent = parseIntent(llmResponse.getIntent());
-        List<OrderItemDto> orderItems = cartManager.convertToOrderItemDtoList(currentOrder);
 
         // ★ 주소 체크 제거 - 이미 자동 선택됨
 
-        // 진행 중인 아이템 찾기
-        OrderItemDto pendingItem = findPendingItem(orderItems);
+        // 진행 중인 아이템 위치
         int pendingIdx = pendingItem != null ? orderItems.indexOf(pendingItem) : -1;
 
         // IntentContext 생성
@@ -193,11 +358,76 @@ public class VoiceOrderService {
     private String extractUserMessage(ChatRequestDto request) {
         if (request.getAudioBase64() != null && !request.getAudioBase64().isEmpty()) {
             byte[] audioData = Base64.getDecoder().decode(request.getAudioBase64());
-            return groqService.transcribe(audioData, request.getAudioFormat());
+            return speechToTextEngine.transcribe(audioData, request.getAudioFormat());
         }
         return request.getMessage();
     }
 
+    private String transcribeUpload(InputStream audio, long audioBytes, String audioFormat) {
+        if (audioBytes > voiceOrderProperties.getMaxAudioBytes()) {
+            throw new IllegalArgumentException("오디오 크기가 제한을 초과했습니다: " + audioBytes + " bytes");
+        }
+        InputStream buffered = new BufferedInputStream(audio, WavDuration.HEADER_READ_LIMIT);
+        try {
+            OptionalDouble seconds = WavDuration.read(buffered, audioBytes);
+            if (seconds.isPresent() && seconds.getAsDouble() > voiceOrderProperties.getMaxAudioSeconds()) {
+                throw new IllegalArgumentException(String.format("오디오 길이가 제한(%d초)을 초과했습니다: %.1f초",
+                        voiceOrderProperties.getMaxAudioSeconds(), seconds.getAsDouble()));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("오디오 업로드를 읽을 수 없습니다", e);
+        }
+        return speechToTextEngine.transcribeStream(buffered, audioFormat);
+    }
+
+    /**
+     * 요청의 세션 정보로 서버 측 세션 조회/생성 (세션 모드가 아니면 null)
+     * - 세션이 만료됐거나 없으면 새로 만들고, 요청에 담긴 상태가 있으면 이어받음
+     */
+    private VoiceSession resolveSession(ChatRequestDto request, UUID userId) {
+        boolean hasSessionId = request.getSessionId() != null && !request.getSessionId().isBlank();
+        if (!hasSessionId && !Boolean.TRUE.equals(request.getServerSession())) {
+            return null;
+        }
+        if (hasSessionId) {
+            Optional<VoiceSession> existing = voiceSessionStore.find(request.getSessionId(), userId);
+            if (existing.isPresent()) {
+                return existing.get();
+            }
+            log.info("음성 주문 세션 없음(만료), 새 세션 시작: {}", request.getSessionId());
+        }
+
+        VoiceSession session = voiceSessionStore.create(userId, getUserAddresses(userId));
+        session.update(
+                Optional.ofNullable(request.getCurrentOrder()).orElse(new ArrayList<>()),
+                convertHistory(request.getConversationHistory()),
+                voiceOrderProperties.getSessionHistoryMessages(),
+                request.getSelectedAddress(),
+                request.getOccasionType(),
+                request.getRequestedDeliveryTime());
+        return session;
+    }
+
+    /**
+     * 턴 결과를 세션에 저장 (장바구니/주소/기념일 + 이번 턴 대화)
+     */
+    private void saveSession(VoiceSession session, ChatResponseDto response) {
+        List<Map<String, String>> history = new ArrayList<>(session.getHistory());
+        if (response.getUserMessage() != null) {
+            history.add(Map.of("role", "user", "content", response.getUserMessage()));
+        }
+        if (response.getAssistantMessage() != null) {
+            history.add(Map.of("role", "assistant", "content", response.getAssistantMessage()));
+        }
+        session.update(
+                cartManager.convertToOrderItemRequestDtoList(response.getCurrentOrder()),
+                history,
+                voiceOrderProperties.getSessionHistoryMessages(),
+                response.getSelectedAddress(),
+                response.getOccasionType(),
+                response.getRequestedDeliveryTime());
+    }
+
     private List<Map<String, String>> convertHistory(List<ChatMessageDto> history) {
         List<Map<String, String>> result = new ArrayList<>();
         if (history != null) {
@@ -208,13 +438,6 @@ public class VoiceOrderService {
         return result;
     }
 
-    private List<Map<String, String>> getRecentHistory(List<Map<String, String>> history, int maxTurns) {
-        if (history.size() > maxTurns) {
-            return history.subList(history.size() - maxTurns, history.size());
-        }
-        return history;
-    }
-
     private List<String> getUserAddresses(UUID userId) {
         try {
             User user = userRepository.findById(userId).orElse(null);
@@ -227,86 +450,6 @@ public class VoiceOrderService {
         return new ArrayList<>();
     }
 
-    private LlmResponseDto parseLlmResponse(String rawResponse) {
-        try {
-            String jsonContent = rawResponse.trim();
-            log.debug("LLM Raw Response: {}", jsonContent);
-
-            // ```json ... ``` 블록 제거
-            if (jsonContent.contains("```json")) {
-                int start = jsonContent.indexOf("```json") + 7;
-                int end = jsonContent.indexOf("```", start);
-                if (end > start) {
-                    jsonContent = jsonContent.substring(start, end).trim();
-                }
-            } else if (jsonContent.contains("```")) {
-                int start = jsonContent.indexOf("```") + 3;
-                int end = jsonContent.indexOf("```", start);
-                if (end > start) {
-                    jsonContent = jsonContent.substring(start, end).trim();
-                }
-            }
-
-            // ★ JSON 객체만 추출 (다른 텍스트 완전 제거)
-            int jsonStart = jsonContent.indexOf("{");
-            int jsonEnd = findMatchingBrace(jsonContent, jsonStart);
-            if (jsonStart >= 0 && jsonEnd > jsonStart) {
-                jsonContent = jsonContent.substring(jsonStart, jsonEnd + 1);
-            }
-
-            log.debug("Extracted JSON: {}", jsonContent);
-            return objectMapper.readValue(jsonContent, LlmResponseDto.class);
-        } catch (JsonProcessingException e) {
-            log.warn("LLM 응답 JSON 파싱 실패: {} - Raw: {}", e.getMessage(), rawResponse);
-            LlmResponseDto fallback = new LlmResponseDto();
-            fallback.setIntent("ASK_MENU_INFO");
-            fallback.setMessage("죄송해요, 다시 말씀해주세요!");
-            return fallback;
-        }
-    }
-
-    /**
-     * 매칭되는 닫는 중괄호 찾기 (중첩된 JSON 처리)
-     */
-    private int findMatchingBrace(String content, int openIndex) {
-        if (openIndex < 0 || openIndex >= content.length()) return -1;
-
-        int depth = 0;
-        boolean inString = false;
-        boolean escape = false;
-
-        for (int i = openIndex; i < content.length(); i++) {
-            char c = content.charAt(i);
-
-            if (escape) {
-                escape = false;
-                continue;
-            }
-
-            if (c == '\\') {
-                escape = true;
-                continue;
-            }
-
-            if (c == '"') {
-                inString = !inString;
-                continue;
-            }
-
-            if (!inString) {
-                if (c == '{') {
-                    depth++;
-                } else if (c == '}') {
-                    depth--;
-                    if (depth == 0) {
-                        return i;
-                    }
-                }
-            }
-        }
-        return content.lastIndexOf("}");
-    }
-
     private UserIntent parseIntent(String intentStr) {
         if (intentStr == null)
             return UserIntent.UNKNOWN;
@@ -344,9 +487,9 @@ public class VoiceOrderService {
      * ★ GUI와 동일한 가격 계산 로직:
      * 1. Product 생성 (totalPrice = basePrice + styleExtraPrice)
      * 2. ProductMenuItem 수량 업데이트 (커스터마이징 반영)
-     * 3. unitPrice 계산 (basePrice + 메뉴차액)
-     * 4. Cart 생성 (unitPrice 포함)
-     * 5. Order 생성
+     * 3. Cart 생성 (단가는 CartService 가 PricingService 로 계산)
+     * 4. Order 생성
+     * 5. 서버 측 세션(sessionId)이 있으면 종료
      */
     @Transactional
     public VoiceCheckoutResponse checkout(VoiceCheckoutRequest request, UUID userId) {
@@ -356,22 +499,25 @@ public class VoiceOrderService {
             }
 
             // 1. Product 생성 및 커스터마이징 반영
-            List<ProductWithPrice> productsWithPrices = createProductsWithCustomization(request);
+            List<CartProduct> cartProducts = createProductsWithCustomization(request);
 
             // 2. 추가 메뉴 Product 생성
-            List<ProductWithPrice> additionalMenuProducts = createAdditionalMenuProducts(request);
-            productsWithPrices.addAll(additionalMenuProducts);
+            List<CartProduct> additionalMenuProducts = createAdditionalMenuProducts(request);
+            cartProducts.addAll(additionalMenuProducts);
 
-            if (productsWithPrices.isEmpty()) {
+            if (cartProducts.isEmpty()) {
                 return VoiceCheckoutResponse.failure("유효한 주문 상품이 없습니다.");
             }
 
-            // 3. Cart 생성 (커스터마이징 반영된 unitPrice 포함)
-            CartResponseDto cart = createCartWithPrices(request, productsWithPrices);
+            // 3. Cart 생성 (단가는 서버에서 Product 구성으로 계산)
+            CartResponseDto cart = createCart(request, cartProducts);
 
             // 4. Checkout
             OrderResponseDto order = cartService.checkout(UUID.fromString(cart.getId()));
 
+            // 5. 주문이 끝난 대화 세션 정리 (다음 주문은 새 세션으로 시작)
+            voiceSessionStore.remove(request.getSessionId(), userId);
+
             return VoiceCheckoutResponse.success(
                     order.getId().toString(),
                     order.getOrderNumber(),
@@ -384,11 +530,11 @@ public class VoiceOrderService {
 
     /**
      * Product 생성 및 커스터마이징 반영
-     * - ProductMenuItem 수량 업데이트
-     * - 커스터마이징 반영된 unitPrice 계산
+     * - 커스터마이징(components, excludedItems)을 메뉴 아이템 ID별 최종 수량으로 변환
+     * - ProductService 일괄 생성 API로 전체 주문을 한 번에 생성
      */
-    private List<ProductWithPrice> createProductsWithCustomization(VoiceCheckoutRequest request) {
-        List<ProductWithPrice> result = new ArrayList<>();
+    private List<CartProduct> createProductsWithCustomization(VoiceCheckoutRequest request) {
+        List<CreateCustomizedProductRequest> productRequests = new ArrayList<>();
 
         for (VoiceCheckoutRequest.OrderItemRequest item : request.getOrderItems()) {
             if (item.getDinnerId() == null || item.getQuantity() <= 0) {
@@ -409,194 +555,42 @@ public class VoiceOrderService {
                 }
             }
 
-            // 1. Product 생성
-            CreateProductRequest productRequest = CreateProductRequest.builder()
+            log.info("[Checkout] Item: {}, components: {}, excludedItems: {}",
+                    item.getDinnerName(), item.getComponents(), item.getExcludedItems());
+
+            productRequests.add(CreateCustomizedProductRequest.builder()
                     .dinnerId(item.getDinnerId())
                     .servingStyleId(servingStyleId)
-                    .quantity(1) // 각 Product는 1개 단위
+                    .quantity(item.getQuantity())
                     .memo(request.getMemo())
                     .address(request.getDeliveryAddress())
-                    .build();
-
-            ProductResponseDto product = productService.createProduct(productRequest);
-            UUID productId = UUID.fromString(product.getId().toString());
-
-            // 2. 커스터마이징 반영 (ProductMenuItem 수량 업데이트)
-            BigDecimal menuItemDiff = BigDecimal.ZERO;
-            boolean hasComponents = item.getComponents() != null && !item.getComponents().isEmpty();
-            boolean hasExcludedItems = item.getExcludedItems() != null && !item.getExcludedItems().isEmpty();
-
-            log.info("[Checkout] Item: {}, components: {}, excludedItems: {}",
-                    item.getDinnerName(), item.getComponents(), item.getExcludedItems());
-
-            if (hasComponents || hasExcludedItems) {
-                menuItemDiff = applyCustomization(productId, product, item.getComponents(), item.getExcludedItems());
-                log.info("[Checkout] Applied customization, menuItemDiff: {}", menuItemDiff);
-            }
-
-            // 3. unitPrice 계산: basePrice + styleExtraPrice + menuItemDiff
-            BigDecimal baseUnitPrice = product.getTotalPrice(); // dinner.basePrice + style.extraPrice
-            BigDecimal finalUnitPrice = baseUnitPrice.add(menuItemDiff);
-
-            // quantity 개수만큼 반복 추가
-            for (int i = 0; i < item.getQuantity(); i++) {
-                if (i == 0) {
-                    // 첫 번째는 이미 생성된 Product 사용
-                    result.add(new ProductWithPrice(productId.toString(), finalUnitPrice));
-                } else {
-                    // 두 번째부터는 새로운 Product 생성
-                    ProductResponseDto additionalProduct = productService.createProduct(productRequest);
-                    UUID additionalProductId = UUID.fromString(additionalProduct.getId().toString());
-
-                    // 동일한 커스터마이징 적용
-                    if (hasComponents || hasExcludedItems) {
-                        applyCustomization(additionalProductId, additionalProduct, item.getComponents(),
-                                item.getExcludedItems());
-                    }
-
-                    result.add(new ProductWithPrice(additionalProductId.toString(), finalUnitPrice));
-                }
-            }
+                    .menuItemQuantities(menuMatcher.resolveMenuItemQuantities(
+                            item.getDinnerId(), item.getComponents(), item.getExcludedItems()))
+                    .build());
         }
 
-        return result;
-    }
-
-    /**
-     * 커스터마이징 적용 (ProductMenuItem 수량 업데이트 + 새로운 구성요소 추가)
-     *
-     * @return 메뉴 아이템 차액 (양수: 추가, 음수: 감소)
-     */
-    private BigDecimal applyCustomization(UUID productId, ProductResponseDto product,
-            Map<String, Integer> components,
-            List<String> excludedItems) {
-        BigDecimal totalDiff = BigDecimal.ZERO;
-
-        // ProductMenuItem 목록 가져오기
-        List<ProductMenuItemResponseDto> productMenuItems = product.getProductMenuItems();
-
-        // 처리된 component 키 추적 (새로운 구성요소 추가 시 사용)
-        Set<String> processedComponentKeys = new HashSet<>();
-
-        // 1. 기존 ProductMenuItem 처리 (수량 변경, 제외)
-        if (productMenuItems != null && !productMenuItems.isEmpty()) {
-            for (ProductMenuItemResponseDto pmi : productMenuItems) {
-                String menuItemName = pmi.getMenuItemName();
-                UUID menuItemId = UUID.fromString(pmi.getMenuItemId());
-                int defaultQty = pmi.getQuantity();
-                BigDecimal unitPrice = pmi.getUnitPrice();
-
-                // 제외된 아이템 처리
-                if (excludedItems != null && isMenuItemExcluded(menuItemName, excludedItems)) {
-                    // 수량을 0으로 설정
-                    UpdateProductMenuItemRequest updateRequest = new UpdateProductMenuItemRequest();
-                    updateRequest.setQuantity(0);
-                    productService.updateProductMenuItem(productId, menuItemId, updateRequest);
-
-                    // 차액 계산 (기본 수량 × 단가 만큼 감소)
-                    totalDiff = totalDiff.subtract(unitPrice.multiply(BigDecimal.valueOf(defaultQty)));
-                    continue;
-                }
-
-                // components에서 현재 수량 찾기
-                String matchedKey = findComponentKey(menuItemName, components);
-                if (matchedKey != null) {
-                    processedComponentKeys.add(matchedKey);
-                    int currentQty = components.get(matchedKey);
-
-                    if (currentQty != defaultQty) {
-                        // 수량 업데이트
-                        UpdateProductMenuItemRequest updateRequest = new UpdateProductMenuItemRequest();
-                        updateRequest.setQuantity(currentQty);
-                        productService.updateProductMenuItem(productId, menuItemId, updateRequest);
-
-                        // 차액 계산: (현재수량 - 기본수량) × 단가
-                        int qtyDiff = currentQty - defaultQty;
-                        BigDecimal priceDiff = unitPrice.multiply(BigDecimal.valueOf(qtyDiff));
-                        totalDiff = totalDiff.add(priceDiff);
-                    }
-                }
-            }
-        }
-
-        // 2. 새로운 구성요소 추가 (Product에 없는 MenuItem)
-        if (components != null && !components.isEmpty()) {
-            for (Map.Entry<String, Integer> entry : components.entrySet()) {
-                String componentKey = entry.getKey();
-                int quantity = entry.getValue();
-
-                // 이미 처리된 경우 건너뛰기
-                if (processedComponentKeys.contains(componentKey)) {
-                    continue;
-                }
-
-                // MenuItem 찾기
-                MenuItems menuItem = findMenuItemByName(componentKey);
-                if (menuItem == null) {
-                    log.warn("MenuItem not found for component: {}", componentKey);
-                    continue;
-                }
-
-                // Product에 새로운 MenuItem 추가
-                try {
-                    productService.addProductMenuItem(productId, menuItem.getId(), quantity);
-
-                    // 차액 계산: 새로운 구성요소 전체 가격 추가
-                    BigDecimal unitPrice = menuItem.getUnitPrice();
-                    BigDecimal priceDiff = unitPrice.multiply(BigDecimal.valueOf(quantity));
-                    totalDiff = totalDiff.add(priceDiff);
-
-                    log.info("Added new component to product: {} x{}, priceDiff: {}",
-                            componentKey, quantity, priceDiff);
-                } catch (Exception e) {
-                    log.error("Failed to add component {} to product: {}", componentKey, e.getMessage());
-                }
-            }
+        List<CartProduct> result = new ArrayList<>();
+        if (productRequests.isEmpty()) {
+            return result;
         }
 
-        return totalDiff;
-    }
-
-    /**
-     * components에서 해당 메뉴 아이템의 키 찾기 (부분 매칭)
-     */
-    private String findComponentKey(String menuItemName, Map<String, Integer> components) {
-        if (menuItemName == null || components == null)
-            return null;
-        String lowerName = menuItemName.toLowerCase();
-
-        for (String key : components.keySet()) {
-            String lowerKey = key.toLowerCase();
-            if (lowerName.contains(lowerKey) || lowerKey.contains(lowerName)) {
-                return key;
-            }
+        for (CustomizedProductResponseDto created : productService.createCustomizedProducts(productRequests)) {
+            result.add(new CartProduct(created.getProductId(), created.getQuantity()));
         }
-        return null;
-    }
-
-    /**
-     * 메뉴 아이템이 제외 목록에 있는지 확인 (부분 매칭)
-     */
-    private boolean isMenuItemExcluded(String menuItemName, List<String> excludedItems) {
-        if (menuItemName == null || excludedItems == null)
-            return false;
-        String lowerName = menuItemName.toLowerCase();
-        return excludedItems.stream()
-                .anyMatch(ex -> lowerName.contains(ex.toLowerCase()) || ex.toLowerCase().contains(lowerName));
+        return result;
     }
 
     /**
-     * Cart 생성 (커스터마이징 반영된 unitPrice 포함)
+     * Cart 생성
+     * - 단가는 보내지 않음 (CartService 가 PricingService 로 Product 구성에서 다시 계산)
      */
-    private CartResponseDto createCartWithPrices(VoiceCheckoutRequest request,
-            List<ProductWithPrice> productsWithPrices) {
+    private CartResponseDto createCart(VoiceCheckoutRequest request, List<CartProduct> cartProducts) {
         List<CreateCartRequest.CartItemRequest> cartItems = new ArrayList<>();
 
-        for (ProductWithPrice pwp : productsWithPrices) {
+        for (CartProduct cartProduct : cartProducts) {
             CreateCartRequest.CartItemRequest cartItem = new CreateCartRequest.CartItemRequest();
-            cartItem.setProductId(pwp.productId);
-            cartItem.setQuantity(1);
-            cartItem.setUnitPrice(pwp.unitPrice); // ★ 커스터마이징 반영된 가격
+            cartItem.setProductId(cartProduct.productId);
+            cartItem.setQuantity(cartProduct.quantity);
             cartItems.add(cartItem);
         }
 
@@ -614,8 +608,8 @@ public class VoiceOrderService {
     /**
      * 추가 메뉴 Product 생성
      */
-    private List<ProductWithPrice> createAdditionalMenuProducts(VoiceCheckoutRequest request) {
-        List<ProductWithPrice> result = new ArrayList<>();
+    private List<CartProduct> createAdditionalMenuProducts(VoiceCheckoutRequest request) {
+        List<CartProduct> result = new ArrayList<>();
 
         if (request.getAdditionalMenuItems() == null || request.getAdditionalMenuItems().isEmpty()) {
             return result;
@@ -630,88 +624,36 @@ public class VoiceOrderService {
             }
 
             // 이름으로 MenuItem 찾기
-            MenuItems menuItem = findMenuItemByName(menuItemName);
+            MenuItemResponseDto menuItem = menuMatcher.findMenuItemByName(menuItemName).orElse(null);
             if (menuItem == null) {
                 continue;
             }
 
             // 추가 메뉴 Product 생성
             CreateAdditionalMenuProductRequest productRequest = new CreateAdditionalMenuProductRequest();
-            productRequest.setMenuItemId(menuItem.getId().toString());
+            productRequest.setMenuItemId(menuItem.getId());
             productRequest.setQuantity(quantity);
             productRequest.setMemo(request.getMemo());
             productRequest.setAddress(request.getDeliveryAddress());
 
             ProductResponseDto product = productService.createAdditionalMenuProduct(productRequest);
-            BigDecimal unitPrice = menuItem.getUnitPrice().multiply(BigDecimal.valueOf(quantity));
 
-            result.add(new ProductWithPrice(product.getId(), unitPrice));
+            result.add(new CartProduct(product.getId(), 1));
         }
 
         return result;
     }
 
     /**
-     * 이름으로 MenuItem 찾기 (다양한 매칭 시도)
-     */
-    private MenuItems findMenuItemByName(String name) {
-        if (name == null)
-            return null;
-
-        // 1. 정확한 이름 매칭 (대소문자 무시)
-        List<MenuItems> exactList = menuItemsRepository.findByNameIgnoreCase(name);
-        if (!exactList.isEmpty()) {
-            return exactList.get(0);
-        }
-
-        // 2. 부분 매칭 (대소문자 무시) - 목록에서 첫 번째 선택
-        List<MenuItems> partialList = menuItemsRepository.findByNameContainingIgnoreCase(name);
-        if (!partialList.isEmpty()) {
-            return partialList.get(0);
-        }
-
-        // 3. 한글/영어 변환 매칭
-        String[] korToEng = {
-                "스테이크", "steak",
-                "샐러드", "salad",
-                "와인", "wine",
-                "샴페인", "champagne",
-                "빵", "bread",
-                "바게트빵", "baguette",
-                "커피", "coffee",
-                "에그 스크램블", "egg scramble"
-        };
-
-        String lowerName = name.toLowerCase();
-        for (int i = 0; i < korToEng.length; i += 2) {
-            String kor = korToEng[i].toLowerCase();
-            String eng = korToEng[i + 1].toLowerCase();
-
-            if (lowerName.contains(kor)) {
-                List<MenuItems> byEng = menuItemsRepository.findByNameContainingIgnoreCase(eng);
-                if (!byEng.isEmpty())
-                    return byEng.get(0);
-            }
-            if (lowerName.contains(eng)) {
-                List<MenuItems> byKor = menuItemsRepository.findByNameContainingIgnoreCase(kor);
-                if (!byKor.isEmpty())
-                    return byKor.get(0);
-            }
-        }
-
-        return null;
-    }
-
-    /**
-     * Product ID와 계산된 unitPrice를 담는 내부 클래스
+     * Cart 에 담을 Product ID 와 Cart 수량을 담는 내부 클래스
      */
-    private static class ProductWithPrice {
+    private static class CartProduct {
         final String productId;
-        final BigDecimal unitPrice;
+        final int quantity;
 
-        ProductWithPrice(String productId, BigDecimal unitPrice) {
+        CartProduct(String productId, int quantity) {
             this.productId = productId;
-            this.unitPrice = unitPrice;
+            this.quantity = quantity;
         }
     }
 }
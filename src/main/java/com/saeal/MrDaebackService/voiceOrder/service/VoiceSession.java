@@ -0,0 +1,52 @@
+package com.saeal.MrDaebackService.voiceOrder.service;
+
+import com.saeal.MrDaebackService.voiceOrder.dto.request.ChatRequestDto.OrderItemRequestDto;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 서버 측 음성 주문 대화 세션 상태
+ *
+ * - 클라이언트가 매 턴 보내던 장바구니/대화 히스토리/주소/기념일 정보를 서버가 보관
+ * - 사용자 주소는 세션 시작 시 한 번만 조회
+ * - 같은 세션의 턴은 세션 객체로 동기화해 순서대로 처리 (VoiceOrderService)
+ * - 흐름 상태는 매 턴 Intent 처리 결과로 새로 정해지므로 보관하지 않음 (응답의 flowState 로만 전달)
+ */
+@Getter
+public class VoiceSession {
+
+    private final String sessionId;
+    private final UUID userId;
+    private final List<String> userAddresses;
+
+    private List<OrderItemRequestDto> currentOrder = new ArrayList<>();
+    private List<Map<String, String>> history = new ArrayList<>();
+    private String selectedAddress;
+    private String occasionType;
+    private LocalDateTime requestedDeliveryTime;
+
+    VoiceSession(String sessionId, UUID userId, List<String> userAddresses) {
+        this.sessionId = sessionId;
+        this.userId = userId;
+        this.userAddresses = List.copyOf(userAddresses);
+    }
+
+    /**
+     * 턴 처리 결과 반영
+     * - 히스토리는 최근 maxHistoryMessages 개만 유지
+     */
+    void update(List<OrderItemRequestDto> currentOrder, List<Map<String, String>> history, int maxHistoryMessages,
+            String selectedAddress, String occasionType, LocalDateTime requestedDeliveryTime) {
+        this.currentOrder = currentOrder != null ? currentOrder : new ArrayList<>();
+        int from = Math.max(0, history.size() - Math.max(0, maxHistoryMessages));
+        this.history = new ArrayList<>(history.subList(from, history.size()));
+        this.selectedAddress = selectedAddress;
+        this.occasionType = occasionType;
+        this.requestedDeliveryTime = requestedDeliveryTime;
+    }
+}
@@ -0,0 +1,116 @@
+package com.saeal.MrDaebackService.voiceOrder.service;
+
+import com.saeal.MrDaebackService.voiceOrder.config.VoiceOrderProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 음성 주문 세션 저장소 (인메모리)
+ *
+ * - 키: 세션 ID, 조회 시 사용자 ID 가 다르면 없는 세션으로 취급
+ * - 최대 voice-order.session-max-entries 개 (LRU), 마지막 사용 후 voice-order.session-ttl-seconds 지나면 만료
+ * - 서버 재시작/만료 시 세션이 사라지므로 클라이언트는 새 세션을 열어 이어감
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class VoiceSessionStore {
+
+    static final int STATS_LOG_INTERVAL = 100;
+
+    private final VoiceOrderProperties voiceOrderProperties;
+
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong expired = new AtomicLong();
+
+    // access-order LinkedHashMap: 가장 오래 사용되지 않은 세션부터 제거
+    private final LinkedHashMap<String, SessionEntry> sessions = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, SessionEntry> eldest) {
+            return size() > voiceOrderProperties.getSessionMaxEntries();
+        }
+    };
+
+    /**
+     * 새 세션 생성
+     */
+    public VoiceSession create(UUID userId, List<String> userAddresses) {
+        VoiceSession session = new VoiceSession(UUID.randomUUID().toString(), userId, userAddresses);
+        synchronized (sessions) {
+            sessions.put(session.getSessionId(), new SessionEntry(session, nextExpiry()));
+        }
+        long count = created.incrementAndGet();
+        if (count % STATS_LOG_INTERVAL == 0) {
+            log.info("[VoiceSession] 생성 {}건, 만료 {}건, 활성 {}개", count, expired.get(), size());
+        }
+        return session;
+    }
+
+    /**
+     * 세션 조회 (조회할 때마다 만료 시각 연장)
+     */
+    public Optional<VoiceSession> find(String sessionId, UUID userId) {
+        if (sessionId == null || sessionId.isBlank()) {
+            return Optional.empty();
+        }
+        synchronized (sessions) {
+            SessionEntry entry = sessions.get(sessionId);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            if (entry.expiresAt <= System.currentTimeMillis()) {
+                sessions.remove(sessionId);
+                expired.incrementAndGet();
+                return Optional.empty();
+            }
+            if (!entry.session.getUserId().equals(userId)) {
+                return Optional.empty();
+            }
+            entry.expiresAt = nextExpiry();
+            return Optional.of(entry.session);
+        }
+    }
+
+    /**
+     * 세션 종료 (음성 주문 결제 완료 시) - 다른 사용자의 세션이면 무시
+     */
+    public void remove(String sessionId, UUID userId) {
+        if (sessionId == null) {
+            return;
+        }
+        synchronized (sessions) {
+            SessionEntry entry = sessions.get(sessionId);
+            if (entry != null && entry.session.getUserId().equals(userId)) {
+                sessions.remove(sessionId);
+            }
+        }
+    }
+
+    public int size() {
+        synchronized (sessions) {
+            return sessions.size();
+        }
+    }
+
+    private long nextExpiry() {
+        return System.currentTimeMillis() + voiceOrderProperties.getSessionTtlSeconds() * 1000L;
+    }
+
+    private static final class SessionEntry {
+        private final VoiceSession session;
+        private long expiresAt;
+
+        private SessionEntry(VoiceSession session, long expiresAt) {
+            this.session = session;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
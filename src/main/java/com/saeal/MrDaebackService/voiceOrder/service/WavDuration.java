@@ -0,0 +1,80 @@
+package com.saeal.MrDaebackService.voiceOrder.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.OptionalDouble;
+
+/**
+ * WAV(RIFF) 헤더에서 재생 길이(초)를 읽는 유틸리티
+ *
+ * - mark/reset 으로 헤더만 미리 읽고 스트림 위치는 되돌림 (본문은 그대로 업로드)
+ * - data 청크 크기가 비어 있으면(스트리밍 녹음기) 전체 바이트 수로 추정
+ * - WAV 가 아니거나 헤더를 해석할 수 없으면 empty
+ */
+final class WavDuration {
+
+    static final int HEADER_READ_LIMIT = 4096;
+
+    private static final long UNKNOWN_DATA_SIZE = 0xFFFFFFFFL;
+
+    private WavDuration() {
+    }
+
+    /**
+     * @param audio      mark 를 지원하는 스트림
+     * @param totalBytes 클립 전체 크기 (data 크기를 모를 때 사용, 모르면 -1)
+     */
+    static OptionalDouble read(InputStream audio, long totalBytes) throws IOException {
+        audio.mark(HEADER_READ_LIMIT);
+        try {
+            byte[] header = audio.readNBytes(HEADER_READ_LIMIT);
+            return parse(header, totalBytes);
+        } finally {
+            audio.reset();
+        }
+    }
+
+    private static OptionalDouble parse(byte[] header, long totalBytes) {
+        if (header.length < 12 || !tag(header, 0, "RIFF") || !tag(header, 8, "WAVE")) {
+            return OptionalDouble.empty();
+        }
+
+        long byteRate = 0;
+        int offset = 12;
+        while (offset + 8 <= header.length) {
+            long chunkSize = uint32(header, offset + 4);
+            int body = offset + 8;
+            if (tag(header, offset, "fmt ") && body + 12 <= header.length) {
+                byteRate = uint32(header, body + 8);
+            } else if (tag(header, offset, "data")) {
+                if (byteRate <= 0) {
+                    return OptionalDouble.empty();
+                }
+                long dataSize = chunkSize;
+                if ((dataSize == 0 || dataSize == UNKNOWN_DATA_SIZE) && totalBytes > body) {
+                    dataSize = totalBytes - body;
+                }
+                return OptionalDouble.of((double) dataSize / byteRate);
+            }
+            // 청크는 짝수 바이트 단위로 정렬
+            offset = (int) Math.min(Integer.MAX_VALUE, body + chunkSize + (chunkSize & 1));
+        }
+        return OptionalDouble.empty();
+    }
+
+    private static boolean tag(byte[] bytes, int offset, String expected) {
+        for (int i = 0; i < 4; i++) {
+            if (bytes[offset + i] != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long uint32(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xFFL)
+                | (bytes[offset + 1] & 0xFFL) << 8
+                | (bytes[offset + 2] & 0xFFL) << 16
+                | (bytes[offset + 3] & 0xFFL) << 24;
+    }
+}
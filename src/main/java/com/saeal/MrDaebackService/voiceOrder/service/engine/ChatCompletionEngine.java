@@ -0,0 +1,25 @@
+package com.saeal.MrDaebackService.voiceOrder.service.engine;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * LLM 채팅 완성 백엔드 (groq.engine 으로 선택)
+ * - 메시지 순서: 시스템 프롬프트 → 히스토리 → 컨텍스트 → 사용자 메시지
+ */
+public interface ChatCompletionEngine {
+
+    /**
+     * 전체 응답 텍스트를 한 번에 반환
+     */
+    String chat(String systemPrompt, List<Map<String, String>> conversationHistory, String context,
+                String userMessage);
+
+    /**
+     * 응답 조각을 onDelta 로 전달 (false 를 반환하면 나머지는 받지 않음)
+     * - 반환값: 지금까지 받은 전체 응답 텍스트
+     */
+    String chatStream(String systemPrompt, List<Map<String, String>> conversationHistory, String context,
+                      String userMessage, Predicate<String> onDelta);
+}
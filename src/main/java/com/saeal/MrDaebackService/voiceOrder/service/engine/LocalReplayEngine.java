@@ -0,0 +1,164 @@
+package com.saeal.MrDaebackService.voiceOrder.service.engine;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.saeal.MrDaebackService.voiceOrder.config.GroqConfig;
+import com.saeal.MrDaebackService.voiceOrder.service.matching.HangulJamo;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * 네트워크 없이 녹화된 응답을 재생하는 STT/LLM 엔진 (groq.engine=LOCAL)
+ *
+ * - LLM: 사용자 메시지(정규화)로 녹화 응답을 찾아 반환, 없으면 ASK_MENU_INFO 기본 응답
+ * - STT: 녹화된 발화 목록을 호출 순서대로 돌려가며 반환 (오디오 내용은 읽기만 하고 무시)
+ * - 지연: 중앙값 + σ 로그정규 분포, 시드 고정이라 같은 호출 순서면 같은 지연
+ *
+ * 녹화 파일 형식 (groq.local.recordings-path):
+ * {"chat": {"발렌타인 디너 주세요": "{\"intent\":\"ORDER_MENU\", ...}"}, "transcripts": ["발렌타인 디너 주세요"]}
+ */
+@Slf4j
+public class LocalReplayEngine implements SpeechToTextEngine, ChatCompletionEngine {
+
+    private static final String FALLBACK_RESPONSE =
+            "{\"intent\":\"ASK_MENU_INFO\",\"entities\":{},\"message\":\"녹화된 응답이 없는 발화예요.\"}";
+
+    private static final Map<String, String> DEFAULT_CHAT = Map.of(
+            "안녕하세요", "{\"intent\":\"GREETING\",\"entities\":{},\"message\":\"안녕하세요!\"}",
+            "발렌타인 디너 주세요", "{\"intent\":\"ORDER_MENU\",\"entities\":{\"menuName\":\"Valentine Dinner\"},\"message\":\"\"}",
+            "그랜드 스타일로 해주세요", "{\"intent\":\"ORDER_MENU\",\"entities\":{\"styleName\":\"Grand Style\"},\"message\":\"\"}",
+            "결제할게요", "{\"intent\":\"PROCEED_CHECKOUT\",\"entities\":{},\"message\":\"\"}");
+
+    private static final List<String> DEFAULT_TRANSCRIPTS =
+            List.of("안녕하세요", "발렌타인 디너 주세요", "그랜드 스타일로 해주세요", "결제할게요");
+
+    private final GroqConfig.Local settings;
+    private final Map<String, String> chatResponses = new HashMap<>();
+    private final List<String> transcripts = new ArrayList<>();
+    private final Random random;
+    private final AtomicLong sttCalls = new AtomicLong();
+
+    public LocalReplayEngine(GroqConfig.Local settings, ObjectMapper objectMapper) {
+        this.settings = settings;
+        this.random = new Random(settings.getSeed());
+        if (settings.getRecordingsPath() != null && !settings.getRecordingsPath().isBlank()) {
+            loadRecordings(Path.of(settings.getRecordingsPath()), objectMapper);
+        } else {
+            DEFAULT_CHAT.forEach((message, response) -> chatResponses.put(HangulJamo.normalize(message), response));
+            transcripts.addAll(DEFAULT_TRANSCRIPTS);
+        }
+        log.info("[LocalReplay] 녹화 응답 {}개, 발화 {}개 로드 (LLM 지연 중앙값 {}ms, STT {}ms, σ {})",
+                chatResponses.size(), transcripts.size(), settings.getChatLatencyMedianMillis(),
+                settings.getSttLatencyMedianMillis(), settings.getLatencySigma());
+    }
+
+    @Override
+    public String transcribe(byte[] audioData, String format) {
+        pause(sampleLatency(settings.getSttLatencyMedianMillis()));
+        return nextTranscript();
+    }
+
+    @Override
+    public String transcribeStream(InputStream audio, String format) {
+        try {
+            audio.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            throw new UncheckedIOException("오디오 업로드를 읽을 수 없습니다", e);
+        }
+        pause(sampleLatency(settings.getSttLatencyMedianMillis()));
+        return nextTranscript();
+    }
+
+    @Override
+    public String chat(String systemPrompt, List<Map<String, String>> conversationHistory, String context,
+                       String userMessage) {
+        pause(sampleLatency(settings.getChatLatencyMedianMillis()));
+        return responseFor(userMessage);
+    }
+
+    @Override
+    public String chatStream(String systemPrompt, List<Map<String, String>> conversationHistory, String context,
+                             String userMessage, Predicate<String> onDelta) {
+        String response = responseFor(userMessage);
+        int chunks = Math.max(1, Math.min(settings.getStreamChunks(), response.length()));
+        long chunkDelay = sampleLatency(settings.getChatLatencyMedianMillis()) / chunks;
+        int chunkSize = (response.length() + chunks - 1) / chunks;
+
+        StringBuilder content = new StringBuilder();
+        for (int from = 0; from < response.length(); from += chunkSize) {
+            pause(chunkDelay);
+            String delta = response.substring(from, Math.min(response.length(), from + chunkSize));
+            content.append(delta);
+            if (!onDelta.test(delta)) {
+                break;
+            }
+        }
+        return content.toString();
+    }
+
+    private String responseFor(String userMessage) {
+        return chatResponses.getOrDefault(HangulJamo.normalize(userMessage), FALLBACK_RESPONSE);
+    }
+
+    private String nextTranscript() {
+        if (transcripts.isEmpty()) {
+            return "";
+        }
+        return transcripts.get((int) (sttCalls.getAndIncrement() % transcripts.size()));
+    }
+
+    /**
+     * 로그정규 분포 지연 (중앙값 medianMillis)
+     */
+    private long sampleLatency(long medianMillis) {
+        if (medianMillis <= 0) {
+            return 0;
+        }
+        if (settings.getLatencySigma() <= 0) {
+            return medianMillis;
+        }
+        double gaussian = random.nextGaussian();
+        return Math.round(medianMillis * Math.exp(settings.getLatencySigma() * gaussian));
+    }
+
+    private void pause(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("로컬 재생 엔진 대기 중 인터럽트", e);
+        }
+    }
+
+    private void loadRecordings(Path path, ObjectMapper objectMapper) {
+        try {
+            JsonNode root = objectMapper.readTree(path.toFile());
+            for (Map.Entry<String, JsonNode> entry : root.path("chat").properties()) {
+                JsonNode value = entry.getValue();
+                // 응답은 문자열(원문 그대로) 또는 JSON 객체
+                String response = value.isTextual() ? value.asText() : objectMapper.writeValueAsString(value);
+                chatResponses.put(HangulJamo.normalize(entry.getKey()), response);
+            }
+            for (JsonNode transcript : root.path("transcripts")) {
+                transcripts.add(transcript.asText());
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("녹화 응답 파일을 읽을 수 없습니다: " + path, e);
+        }
+    }
+}
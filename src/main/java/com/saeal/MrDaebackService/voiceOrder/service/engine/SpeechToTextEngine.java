@@ -0,0 +1,19 @@
+package com.saeal.MrDaebackService.voiceOrder.service.engine;
+
+import java.io.InputStream;
+
+/**
+ * 음성 → 텍스트 변환 백엔드 (groq.engine 으로 선택)
+ */
+public interface SpeechToTextEngine {
+
+    /**
+     * 메모리에 있는 오디오 변환 (Base64 JSON 요청)
+     */
+    String transcribe(byte[] audioData, String format);
+
+    /**
+     * 업로드 스트림 변환 - 스트림은 한 번만 읽을 수 있음
+     */
+    String transcribeStream(InputStream audio, String format);
+}
@@ -149,7 +149,9 @@ public class OrderMenuHandler extends AbstractIntentHandler {
 
         var dinnerOpt = menuMatcher.findDinnerByName(entities.getMenuName());
         if (dinnerOpt.isEmpty()) {
-            return IntentResult.of("죄송해요, '" + entities.getMenuName() + "' 메뉴를 찾을 수 없어요.",
+            List<String> suggestions = menuMatcher.suggestDinnerNames(entities.getMenuName(), 2);
+            String hint = suggestions.isEmpty() ? "" : " 혹시 " + String.join(" 또는 ", suggestions) + "를 말씀하신 건가요?";
+            return IntentResult.of("죄송해요, '" + entities.getMenuName() + "' 메뉴를 찾을 수 없어요." + hint,
                     OrderFlowState.SELECTING_MENU);
         }
 
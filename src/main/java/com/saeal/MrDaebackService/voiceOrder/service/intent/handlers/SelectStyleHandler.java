@@ -56,7 +56,10 @@ public class SelectStyleHandler extends AbstractIntentHandler {
 
         var styleOpt = menuMatcher.findStyleByName(entities.getStyleName());
         if (styleOpt.isEmpty()) {
-            return IntentResult.of("죄송해요, '" + entities.getStyleName() + "' 스타일을 찾을 수 없어요.", OrderFlowState.SELECTING_STYLE);
+            List<String> suggestions = menuMatcher.suggestStyleNames(entities.getStyleName(), 2);
+            String hint = suggestions.isEmpty() ? "" : " 혹시 " + String.join(" 또는 ", suggestions) + " 스타일을 말씀하신 건가요?";
+            return IntentResult.of("죄송해요, '" + entities.getStyleName() + "' 스타일을 찾을 수 없어요." + hint,
+                    OrderFlowState.SELECTING_STYLE);
         }
 
         OrderItemDto updated = cartManager.applyStyleToItem(pendingItem, styleOpt.get());
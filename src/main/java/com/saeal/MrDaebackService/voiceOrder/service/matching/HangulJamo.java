@@ -0,0 +1,135 @@
+package com.saeal.MrDaebackService.voiceOrder.service.matching;
+
+/**
+ * 한글 음절 → 자모 분해 / 이름 정규화 유틸리티
+ *
+ * - 완성형 음절(가~힣)을 초성/중성/종성 호환 자모로 분해 ("스테이크" → "ㅅㅡㅌㅔㅇㅣㅋㅡ")
+ * - 자모 단위로 비교하면 "스테익" / "스테이크" 처럼 받침 하나 차이도 편집 거리 1~2 로 계산됨
+ * - phonetic(): STT 가 자주 헷갈리는 소리를 같은 자모로 접어서 분해
+ *   (된소리/거센소리 → 예사소리, ㅐ/ㅔ 등 모음 합침, 받침은 대표음으로)
+ */
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final char[] JUNGSEONG = {
+            'ㅏ', 'ㅐ', 'ㅑ', 'ㅒ', 'ㅓ', 'ㅔ', 'ㅕ', 'ㅖ', 'ㅗ', 'ㅘ',
+            'ㅙ', 'ㅚ', 'ㅛ', 'ㅜ', 'ㅝ', 'ㅞ', 'ㅟ', 'ㅠ', 'ㅡ', 'ㅢ', 'ㅣ'
+    };
+    private static final char[] JONGSEONG = {
+            0, 'ㄱ', 'ㄲ', 'ㄳ', 'ㄴ', 'ㄵ', 'ㄶ', 'ㄷ', 'ㄹ', 'ㄺ',
+            'ㄻ', 'ㄼ', 'ㄽ', 'ㄾ', 'ㄿ', 'ㅀ', 'ㅁ', 'ㅂ', 'ㅄ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    // 발음 기준 접기 테이블 (CHOSEONG / JUNGSEONG / JONGSEONG 와 같은 순서)
+    private static final char[] PHONETIC_CHOSEONG = {
+            'ㄱ', 'ㄱ', 'ㄴ', 'ㄷ', 'ㄷ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅂ', 'ㅅ',
+            'ㅅ', 'ㅇ', 'ㅈ', 'ㅈ', 'ㅈ', 'ㄱ', 'ㄷ', 'ㅂ', 'ㅎ'
+    };
+    private static final char[] PHONETIC_JUNGSEONG = {
+            'ㅏ', 'ㅔ', 'ㅑ', 'ㅖ', 'ㅓ', 'ㅔ', 'ㅕ', 'ㅖ', 'ㅗ', 'ㅘ',
+            'ㅞ', 'ㅞ', 'ㅛ', 'ㅜ', 'ㅝ', 'ㅞ', 'ㅟ', 'ㅠ', 'ㅡ', 'ㅣ', 'ㅣ'
+    };
+    private static final char[] PHONETIC_JONGSEONG = {
+            0, 'ㄱ', 'ㄱ', 'ㄱ', 'ㄴ', 'ㄴ', 'ㄴ', 'ㄷ', 'ㄹ', 'ㄱ',
+            'ㅁ', 'ㄹ', 'ㄹ', 'ㄹ', 'ㅂ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅂ', 'ㄷ',
+            'ㄷ', 'ㅇ', 'ㄷ', 'ㄷ', 'ㄱ', 'ㄷ', 'ㅂ', 'ㄷ'
+    };
+
+    private HangulJamo() {
+    }
+
+    /**
+     * 이름 정규화: 소문자 + 공백/구두점 제거
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 완성형 한글을 자모로 분해 (한글이 아닌 문자는 그대로)
+     */
+    public static String decompose(String text) {
+        return decompose(text, CHOSEONG, JUNGSEONG, JONGSEONG);
+    }
+
+    /**
+     * 발음 기준으로 접은 자모 분해 ("스테익" → "ㅅㅡㄷㅔㅇㅣㄱ", "스테이크" → "ㅅㅡㄷㅔㅇㅣㄱㅡ")
+     * - 입력은 normalize() 된 문자열을 전제로 함
+     */
+    public static String phonetic(String text) {
+        return decompose(text, PHONETIC_CHOSEONG, PHONETIC_JUNGSEONG, PHONETIC_JONGSEONG);
+    }
+
+    /**
+     * 두 문자열의 발음 유사도 (0.0 ~ 1.0)
+     * = 1 - 발음 자모 편집 거리 / 긴 쪽 자모 길이
+     */
+    public static double similarity(String phoneticA, String phoneticB) {
+        int maxLength = Math.max(phoneticA.length(), phoneticB.length());
+        if (maxLength == 0) {
+            return 1.0;
+        }
+        return 1.0 - (double) levenshtein(phoneticA, phoneticB) / maxLength;
+    }
+
+    /**
+     * Levenshtein 편집 거리 (두 행만 사용)
+     */
+    public static int levenshtein(String a, String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            char ca = a.charAt(i - 1);
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = ca == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    private static String decompose(String text, char[] choseong, char[] jungseong, char[] jongseong) {
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                int index = c - SYLLABLE_BASE;
+                sb.append(choseong[index / (JUNGSEONG_COUNT * JONGSEONG_COUNT)]);
+                sb.append(jungseong[(index % (JUNGSEONG_COUNT * JONGSEONG_COUNT)) / JONGSEONG_COUNT]);
+                char jong = jongseong[index % JONGSEONG_COUNT];
+                if (jong != 0) {
+                    sb.append(jong);
+                }
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
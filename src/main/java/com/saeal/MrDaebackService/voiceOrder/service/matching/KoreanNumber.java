@@ -0,0 +1,63 @@
+package com.saeal.MrDaebackService.voiceOrder.service.matching;
+
+import java.util.OptionalInt;
+
+/**
+ * 한글/아라비아 수량 표현 → 정수 변환 유틸리티
+ *
+ * - "2", "이", "두" → 2 처럼 발화에 자주 나오는 1~10 범위의 수량만 지원
+ * - 정규식에 그대로 넣을 수 있도록 {@link #PATTERN} 을 함께 제공
+ * - 아라비아 숫자는 {@value #MAX_DIGITS}자리까지만 인식 (Integer 범위를 넘는 발화로 파싱 예외가 나지 않도록)
+ */
+public final class KoreanNumber {
+
+    public static final int MAX_DIGITS = 3;
+
+    /**
+     * 수량 토큰 정규식 (그룹 없음, 긴 표현 우선)
+     * - 숫자가 {@value #MAX_DIGITS}자리를 넘으면 일부 자리만 잘라 매칭하지 않고 아예 매칭하지 않음
+     */
+    public static final String PATTERN = "(?:(?<!\\d)\\d{1," + MAX_DIGITS + "}(?!\\d)|다섯|여섯|일곱|여덟|아홉|일|이|삼|사|오|육|칠|팔|구|십|한|두|세|네|열)";
+
+    private KoreanNumber() {
+    }
+
+    /**
+     * 수량 토큰을 정수로 변환 (알 수 없는 표현이나 {@value #MAX_DIGITS}자리를 넘는 숫자는 1)
+     */
+    public static int parse(String numStr) {
+        if (numStr == null) return 1;
+        // 아라비아 숫자인 경우
+        if (numStr.matches("\\d+")) {
+            return numStr.length() <= MAX_DIGITS ? Integer.parseInt(numStr) : 1;
+        }
+        // 한글 숫자 변환
+        return switch (numStr) {
+            case "일", "한" -> 1;
+            case "이", "두" -> 2;
+            case "삼", "세" -> 3;
+            case "사", "네" -> 4;
+            case "오", "다섯" -> 5;
+            case "육", "여섯" -> 6;
+            case "칠", "일곱" -> 7;
+            case "팔", "여덟" -> 8;
+            case "구", "아홉" -> 9;
+            case "십", "열" -> 10;
+            default -> 1;
+        };
+    }
+
+    /**
+     * 주문 수량으로 변환 (1 이상만 허용)
+     * - 0, {@value #MAX_DIGITS}자리를 넘는 숫자, 알 수 없는 표현은 empty → 호출 측에서 LLM 에 위임하거나 수량을 비워 둠
+     */
+    public static OptionalInt parseQuantity(String numStr) {
+        if (numStr == null) return OptionalInt.empty();
+        if (numStr.matches("\\d+")) {
+            if (numStr.length() > MAX_DIGITS) return OptionalInt.empty();
+            int quantity = Integer.parseInt(numStr);
+            return quantity > 0 ? OptionalInt.of(quantity) : OptionalInt.empty();
+        }
+        return numStr.matches(PATTERN) ? OptionalInt.of(parse(numStr)) : OptionalInt.empty();
+    }
+}
@@ -0,0 +1,286 @@
+package com.saeal.MrDaebackService.voiceOrder.service.matching;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 이름 → 카탈로그 항목 인덱스 (불변, 카탈로그 스냅샷마다 새로 생성)
+ *
+ * 조회 순서
+ * 1. 정규화된 이름/별칭 정확 일치 (HashMap)
+ * 2. 부분 포함 (입력이 별칭을 포함하거나 그 반대) - 가장 긴 별칭 우선
+ * 3. 발음 기준 자모(HangulJamo.phonetic) trie 위에서 편집 거리 탐색 (STT 오인식 대응)
+ *
+ * rank() 는 모든 키에 대한 신뢰도(0.0 ~ 1.0) 순 후보 목록을 돌려줌 (되묻기 메시지의 추천 후보용)
+ *
+ * 같은 키가 여러 항목에 등록되면 이름(primary)이 별칭(alias)보다, 먼저 등록된 항목이 나중 항목보다 우선
+ */
+public final class NameIndex<T> {
+
+    private final Map<String, T> exact;
+    private final List<Key<T>> keys;
+    private final Node<T> root;
+
+    private NameIndex(Map<String, T> exact, List<Key<T>> keys, Node<T> root) {
+        this.exact = exact;
+        this.keys = keys;
+        this.root = root;
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    public boolean isEmpty() {
+        return keys.isEmpty();
+    }
+
+    /**
+     * 정확 일치 → 부분 포함 → 편집 거리 순으로 조회
+     */
+    public Optional<T> find(String input) {
+        String normalized = HangulJamo.normalize(input);
+        if (normalized.isEmpty()) {
+            return Optional.empty();
+        }
+
+        T exactMatch = exact.get(normalized);
+        if (exactMatch != null) {
+            return Optional.of(exactMatch);
+        }
+
+        Key<T> best = null;
+        for (Key<T> key : keys) {
+            if (normalized.contains(key.normalized) || key.normalized.contains(normalized)) {
+                if (best == null || key.normalized.length() > best.normalized.length()) {
+                    best = key;
+                }
+            }
+        }
+        if (best != null) {
+            return Optional.of(best.value);
+        }
+
+        return findFuzzy(normalized);
+    }
+
+    /**
+     * 신뢰도 순 후보 목록 (항목별 최고 점수 1건, minConfidence 미만 제외)
+     * - 정확 일치 1.0, 발음 일치 0.95, 부분 포함 0.7 ~ 0.9, 그 외 발음 자모 유사도
+     */
+    public List<Candidate<T>> rank(String input, int limit, double minConfidence) {
+        String normalized = HangulJamo.normalize(input);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        String phonetic = HangulJamo.phonetic(normalized);
+
+        Map<T, Candidate<T>> bestByValue = new LinkedHashMap<>();
+        for (Key<T> key : keys) {
+            double confidence = score(normalized, phonetic, key);
+            if (confidence < minConfidence) {
+                continue;
+            }
+            Candidate<T> current = bestByValue.get(key.value);
+            if (current == null || confidence > current.confidence) {
+                bestByValue.put(key.value, new Candidate<>(key.value, key.normalized, confidence));
+            }
+        }
+
+        List<Candidate<T>> candidates = new ArrayList<>(bestByValue.values());
+        candidates.sort((a, b) -> Double.compare(b.confidence, a.confidence));
+        return candidates.size() > limit ? List.copyOf(candidates.subList(0, limit)) : List.copyOf(candidates);
+    }
+
+    private static <T> double score(String normalized, String phonetic, Key<T> key) {
+        if (key.normalized.equals(normalized)) {
+            return 1.0;
+        }
+        if (key.phonetic.equals(phonetic)) {
+            return 0.95;
+        }
+        if (normalized.contains(key.normalized) || key.normalized.contains(normalized)) {
+            double coverage = (double) Math.min(normalized.length(), key.normalized.length())
+                    / Math.max(normalized.length(), key.normalized.length());
+            return 0.7 + 0.2 * coverage;
+        }
+        return HangulJamo.similarity(phonetic, key.phonetic);
+    }
+
+    /**
+     * 정규화된 이름/별칭 정확 일치만 조회
+     */
+    public Optional<T> findExact(String input) {
+        return Optional.ofNullable(exact.get(HangulJamo.normalize(input)));
+    }
+
+    /**
+     * 자모 단위 편집 거리가 허용 범위 안인 가장 가까운 항목
+     * - 허용 거리: 자모 4개당 1 (최소 1, 최대 3)
+     */
+    private Optional<T> findFuzzy(String normalized) {
+        String jamo = HangulJamo.phonetic(normalized);
+        int maxDistance = Math.min(3, Math.max(1, jamo.length() / 4));
+
+        int[] firstRow = new int[jamo.length() + 1];
+        for (int i = 0; i < firstRow.length; i++) {
+            firstRow[i] = i;
+        }
+
+        FuzzyResult<T> result = new FuzzyResult<>(maxDistance + 1);
+        for (Map.Entry<Character, Node<T>> child : root.children.entrySet()) {
+            searchFuzzy(child.getValue(), child.getKey(), jamo, firstRow, maxDistance, result);
+        }
+        return Optional.ofNullable(result.value);
+    }
+
+    /**
+     * trie 를 따라 내려가며 Levenshtein DP 한 행씩 계산 (행 최솟값이 허용 거리를 넘으면 가지치기)
+     */
+    private static <T> void searchFuzzy(Node<T> node, char letter, String jamo, int[] previousRow,
+                                        int maxDistance, FuzzyResult<T> result) {
+        int columns = jamo.length() + 1;
+        int[] currentRow = new int[columns];
+        currentRow[0] = previousRow[0] + 1;
+        int rowMin = currentRow[0];
+        for (int i = 1; i < columns; i++) {
+            int insert = currentRow[i - 1] + 1;
+            int delete = previousRow[i] + 1;
+            int replace = previousRow[i - 1] + (jamo.charAt(i - 1) == letter ? 0 : 1);
+            currentRow[i] = Math.min(insert, Math.min(delete, replace));
+            rowMin = Math.min(rowMin, currentRow[i]);
+        }
+
+        int distance = currentRow[columns - 1];
+        if (node.value != null && distance <= maxDistance
+                && (distance < result.distance || (distance == result.distance && node.rank < result.rank))) {
+            result.distance = distance;
+            result.rank = node.rank;
+            result.value = node.value;
+        }
+
+        if (rowMin <= maxDistance) {
+            for (Map.Entry<Character, Node<T>> child : node.children.entrySet()) {
+                searchFuzzy(child.getValue(), child.getKey(), jamo, currentRow, maxDistance, result);
+            }
+        }
+    }
+
+    /**
+     * 매칭 후보 (항목, 매칭된 이름/별칭, 신뢰도)
+     */
+    public static final class Candidate<T> {
+        private final T value;
+        private final String matchedName;
+        private final double confidence;
+
+        Candidate(T value, String matchedName, double confidence) {
+            this.value = value;
+            this.matchedName = matchedName;
+            this.confidence = confidence;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        public String getMatchedName() {
+            return matchedName;
+        }
+
+        public double getConfidence() {
+            return confidence;
+        }
+    }
+
+    private static final class Key<T> {
+        final String normalized;
+        final String phonetic;
+        final T value;
+
+        Key(String normalized, T value) {
+            this.normalized = normalized;
+            this.phonetic = HangulJamo.phonetic(normalized);
+            this.value = value;
+        }
+    }
+
+    private static final class Node<T> {
+        final Map<Character, Node<T>> children = new HashMap<>();
+        T value;
+        int rank = Integer.MAX_VALUE;
+    }
+
+    private static final class FuzzyResult<T> {
+        int distance;
+        int rank = Integer.MAX_VALUE;
+        T value;
+
+        FuzzyResult(int distance) {
+            this.distance = distance;
+        }
+    }
+
+    /**
+     * 인덱스 빌더 - 항목마다 이름(primary)과 별칭(alias)을 등록
+     */
+    public static final class Builder<T> {
+        private final Map<String, Integer> ranks = new HashMap<>();
+        private final Map<String, T> values = new LinkedHashMap<>();
+        private int sequence;
+
+        private Builder() {
+        }
+
+        public Builder<T> add(T value, String name, Collection<String> aliases) {
+            put(value, name, 0);
+            if (aliases != null) {
+                for (String alias : aliases) {
+                    put(value, alias, 1);
+                }
+            }
+            return this;
+        }
+
+        private void put(T value, String name, int priority) {
+            String normalized = HangulJamo.normalize(name);
+            if (normalized.isEmpty()) {
+                return;
+            }
+            // priority 가 같으면 먼저 등록된 항목 유지
+            int rank = priority * 1_000_000 + sequence++;
+            Integer existing = ranks.get(normalized);
+            if (existing == null || rank < existing) {
+                ranks.put(normalized, rank);
+                values.put(normalized, value);
+            }
+        }
+
+        public NameIndex<T> build() {
+            Node<T> root = new Node<>();
+            List<Key<T>> keys = new ArrayList<>(values.size());
+            for (Map.Entry<String, T> entry : values.entrySet()) {
+                Key<T> key = new Key<>(entry.getKey(), entry.getValue());
+                keys.add(key);
+
+                Node<T> node = root;
+                String jamo = key.phonetic;
+                for (int i = 0; i < jamo.length(); i++) {
+                    node = node.children.computeIfAbsent(jamo.charAt(i), c -> new Node<>());
+                }
+                int rank = ranks.get(entry.getKey());
+                if (rank < node.rank) {
+                    // 발음 키가 같은 이름이 여럿이면 우선순위가 높은 항목 유지
+                    node.value = entry.getValue();
+                    node.rank = rank;
+                }
+            }
+            return new NameIndex<>(Map.copyOf(values), List.copyOf(keys), root);
+        }
+    }
+}
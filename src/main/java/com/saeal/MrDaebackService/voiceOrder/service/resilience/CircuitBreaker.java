@@ -0,0 +1,80 @@
+package com.saeal.MrDaebackService.voiceOrder.service.resilience;
+
+/**
+ * 연속 실패 기반 회로 차단기
+ *
+ * - CLOSED: 정상 호출, 연속 실패가 threshold 에 도달하면 OPEN
+ * - OPEN: openMillis 동안 즉시 거절, 이후 HALF_OPEN
+ * - HALF_OPEN: 시험 호출 1건만 허용, 성공하면 CLOSED / 실패하면 다시 OPEN
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openMillis;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    public CircuitBreaker(int failureThreshold, long openMillis) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openMillis = openMillis;
+    }
+
+    /**
+     * 호출 허용 여부 (HALF_OPEN 에서는 시험 호출 1건만 true)
+     */
+    public synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (System.currentTimeMillis() - openedAt < openMillis) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                trialInFlight = true;
+                return true;
+            default:
+                if (trialInFlight) {
+                    return false;
+                }
+                trialInFlight = true;
+                return true;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    /**
+     * 상태가 OPEN 으로 바뀌었으면 true
+     */
+    public synchronized boolean onFailure() {
+        trialInFlight = false;
+        if (state == State.HALF_OPEN || ++consecutiveFailures >= failureThreshold) {
+            boolean opened = state != State.OPEN;
+            state = State.OPEN;
+            openedAt = System.currentTimeMillis();
+            return opened;
+        }
+        return false;
+    }
+
+    /**
+     * Groq 상태와 무관한 실패 (클라이언트 연결 종료 등) - 시험 호출 슬롯만 반납
+     */
+    public synchronized void onIgnored() {
+        trialInFlight = false;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
@@ -0,0 +1,19 @@
+package com.saeal.MrDaebackService.voiceOrder.service.resilience;
+
+/**
+ * 장애 대응 정책을 따로 적용하는 Groq 엔드포인트
+ */
+public enum GroqEndpoint {
+    STT(false),     // 음성 업로드 - 중복 전송 비용이 커서 hedging 하지 않음
+    CHAT(true);
+
+    private final boolean hedgeable;
+
+    GroqEndpoint(boolean hedgeable) {
+        this.hedgeable = hedgeable;
+    }
+
+    public boolean isHedgeable() {
+        return hedgeable;
+    }
+}
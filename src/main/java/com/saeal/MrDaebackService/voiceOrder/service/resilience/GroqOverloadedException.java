@@ -0,0 +1,18 @@
+package com.saeal.MrDaebackService.voiceOrder.service.resilience;
+
+import org.springframework.web.client.RestClientException;
+
+/**
+ * 이 서버의 Groq 동시 호출 슬롯을 제때 얻지 못함 (GroqHttpMetricsInterceptor)
+ * - Groq 장애가 아니므로 회로 차단기에는 반영하지 않고, 호출부는 축소 모드로 응답
+ */
+public class GroqOverloadedException extends RestClientException {
+
+    public GroqOverloadedException(String message) {
+        super(message);
+    }
+
+    public GroqOverloadedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
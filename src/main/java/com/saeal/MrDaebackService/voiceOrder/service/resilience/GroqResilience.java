@@ -0,0 +1,327 @@
+package com.saeal.MrDaebackService.voiceOrder.service.resilience;
+
+import com.saeal.MrDaebackService.voiceOrder.config.GroqConfig;
+import com.saeal.MrDaebackService.voiceOrder.service.ClientDisconnectedException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Groq STT/LLM 호출 장애 대응
+ *
+ * - 엔드포인트별 회로 차단기 + 동시 호출 제한(bulkhead)
+ * - 재시도 포함 전체 deadline, 지수 백오프 + jitter 재시도 (5xx / 429 / 네트워크 오류만)
+ * - 선택: 최근 p95 지연이 지나도 응답이 없으면 같은 요청을 한 번 더 보내고 먼저 온 응답 사용 (hedging)
+ * - 로컬 동시 호출 슬롯 부족(GroqOverloadedException)은 차단기에 반영하지 않고 바로 축소 모드
+ * - 최종 실패는 모두 GroqUnavailableException 으로 던짐
+ */
+@Component
+@Slf4j
+public class GroqResilience {
+
+    private final GroqConfig.Resilience policy;
+    private final Map<GroqEndpoint, EndpointGuard> guards = new EnumMap<>(GroqEndpoint.class);
+    private final ExecutorService attemptExecutor;
+
+    public GroqResilience(GroqConfig groqConfig) {
+        this.policy = groqConfig.getResilience();
+        for (GroqEndpoint endpoint : GroqEndpoint.values()) {
+            guards.put(endpoint, new EndpointGuard(endpoint));
+        }
+        AtomicInteger threadSequence = new AtomicInteger();
+        this.attemptExecutor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "groq-call-" + threadSequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        attemptExecutor.shutdownNow();
+    }
+
+    /**
+     * 재시도/deadline/hedging 을 적용해 호출 (멱등 호출 전용)
+     */
+    public <T> T call(GroqEndpoint endpoint, Supplier<T> action) {
+        EndpointGuard guard = guards.get(endpoint);
+        guard.enter();
+        try {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(policy.getDeadlineMillis());
+            RuntimeException lastFailure = null;
+            for (int attempt = 0; attempt <= policy.getMaxRetries(); attempt++) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || (attempt > 0 && guard.breaker.getState() == CircuitBreaker.State.OPEN)) {
+                    break;
+                }
+
+                long startedAt = System.nanoTime();
+                try {
+                    T result = runAttempt(guard, action, remaining);
+                    guard.onSuccess(System.nanoTime() - startedAt);
+                    return result;
+                } catch (ClientDisconnectedException e) {
+                    guard.breaker.onIgnored();
+                    throw e;
+                } catch (RuntimeException e) {
+                    lastFailure = e;
+                    boolean retryable = isRetryable(e);
+                    log.warn("[GroqResilience] {} 호출 실패 (시도 {}/{}): {}",
+                            endpoint, attempt + 1, policy.getMaxRetries() + 1, e.getMessage());
+                    if (isOverloaded(e)) {
+                        // 로컬 동시 호출 한도 초과 - Groq 상태와 무관하므로 차단기에 반영하지 않음
+                        guard.breaker.onIgnored();
+                        break;
+                    }
+                    if (!retryable) {
+                        // 4xx 등 - Groq 는 살아 있으므로 차단기는 정상 처리
+                        guard.breaker.onSuccess();
+                        break;
+                    }
+                    guard.onFailure();
+                    if (!sleepBackoff(attempt, deadline)) {
+                        break;
+                    }
+                }
+            }
+            throw new GroqUnavailableException(endpoint, "호출 실패", lastFailure);
+        } finally {
+            guard.exit();
+        }
+    }
+
+    /**
+     * 회로 차단기 + bulkhead 만 적용해 호출 (스트리밍처럼 재시도하면 안 되는 호출)
+     */
+    public <T> T callOnce(GroqEndpoint endpoint, Supplier<T> action) {
+        EndpointGuard guard = guards.get(endpoint);
+        guard.enter();
+        long startedAt = System.nanoTime();
+        try {
+            T result = action.get();
+            guard.onSuccess(System.nanoTime() - startedAt);
+            return result;
+        } catch (RuntimeException e) {
+            if (!isGroqFailure(e)) {
+                guard.breaker.onIgnored();
+                throw e;
+            }
+            if (isOverloaded(e)) {
+                guard.breaker.onIgnored();
+            } else if (isRetryable(e)) {
+                guard.onFailure();
+            } else {
+                guard.breaker.onSuccess();
+            }
+            throw new GroqUnavailableException(endpoint, "호출 실패", e);
+        } finally {
+            guard.exit();
+        }
+    }
+
+    public CircuitBreaker.State getBreakerState(GroqEndpoint endpoint) {
+        return guards.get(endpoint).breaker.getState();
+    }
+
+    private <T> T runAttempt(EndpointGuard guard, Supplier<T> action, long remainingNanos) {
+        ExecutorCompletionService<T> completion = new ExecutorCompletionService<>(attemptExecutor);
+        List<Future<T>> attempts = new ArrayList<>();
+        attempts.add(completion.submit(action::get));
+        int pending = 1;
+        try {
+            long hedgeDelay = guard.hedgeDelayNanos();
+            if (hedgeDelay > 0 && hedgeDelay < remainingNanos) {
+                Future<T> done = completion.poll(hedgeDelay, TimeUnit.NANOSECONDS);
+                if (done != null) {
+                    return unwrap(done);
+                }
+                log.debug("[GroqResilience] {} 응답 지연 {}ms 초과 - hedge 요청 전송",
+                        guard.endpoint, TimeUnit.NANOSECONDS.toMillis(hedgeDelay));
+                attempts.add(completion.submit(action::get));
+                pending++;
+                remainingNanos -= hedgeDelay;
+            }
+
+            long deadline = System.nanoTime() + remainingNanos;
+            RuntimeException failure = null;
+            while (pending > 0) {
+                Future<T> done = completion.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (done == null) {
+                    throw new GroqUnavailableException(guard.endpoint, "deadline 초과");
+                }
+                pending--;
+                try {
+                    return unwrap(done);
+                } catch (RuntimeException e) {
+                    failure = e;
+                }
+            }
+            throw failure;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GroqUnavailableException(guard.endpoint, "호출 대기 중 인터럽트", e);
+        } finally {
+            // 늦게 끝난 요청은 취소 (JDK HttpClient 는 인터럽트 시 요청을 취소함)
+            attempts.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private <T> T unwrap(Future<T> done) throws InterruptedException {
+        try {
+            return done.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * equal jitter 지수 백오프 - deadline 을 넘기게 되면 false
+     */
+    private boolean sleepBackoff(int attempt, long deadline) {
+        long cap = Math.min(policy.getRetryMaxDelayMillis(), policy.getRetryBaseDelayMillis() << Math.min(attempt, 20));
+        long delayMillis = cap / 2 + ThreadLocalRandom.current().nextLong(cap / 2 + 1);
+        if (System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis) >= deadline) {
+            return false;
+        }
+        try {
+            Thread.sleep(delayMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 다시 시도하면 나아질 수 있는 실패 (5xx, 429, 네트워크/타임아웃)
+     */
+    private static boolean isRetryable(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ClientDisconnectedException) {
+                return false;
+            }
+            if (cause instanceof HttpServerErrorException
+                    || cause instanceof HttpClientErrorException.TooManyRequests
+                    || cause instanceof ResourceAccessException
+                    || cause instanceof IOException
+                    || cause instanceof GroqUnavailableException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 이 서버의 Groq 동시 호출 슬롯 부족 (Groq 는 정상일 수 있음)
+     */
+    private static boolean isOverloaded(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof GroqOverloadedException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Groq 호출 자체의 실패인지 (SSE 클라이언트 연결 종료 같은 호출부 예외는 제외)
+     * - ClientDisconnectedException 의 cause 인 IOException 은 브라우저 쪽 오류이므로 그 아래로는 보지 않음
+     */
+    private static boolean isGroqFailure(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ClientDisconnectedException) {
+                return false;
+            }
+            if (cause instanceof RestClientException || cause instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private final class EndpointGuard {
+        private final GroqEndpoint endpoint;
+        private final CircuitBreaker breaker;
+        private final Semaphore bulkhead;
+        private final LatencyWindow latencies = new LatencyWindow();
+
+        private EndpointGuard(GroqEndpoint endpoint) {
+            this.endpoint = endpoint;
+            this.breaker = new CircuitBreaker(policy.getBreakerFailureThreshold(), policy.getBreakerOpenMillis());
+            this.bulkhead = new Semaphore(Math.max(1, policy.getBulkheadMaxConcurrent()));
+        }
+
+        private void enter() {
+            if (!breaker.tryAcquire()) {
+                throw new GroqUnavailableException(endpoint, "회로 차단 중");
+            }
+            boolean acquired;
+            try {
+                acquired = bulkhead.tryAcquire(policy.getBulkheadWaitMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                acquired = false;
+            }
+            if (!acquired) {
+                breaker.onIgnored();
+                throw new GroqUnavailableException(endpoint, "동시 호출 한도 초과");
+            }
+        }
+
+        private void exit() {
+            bulkhead.release();
+        }
+
+        private void onSuccess(long elapsedNanos) {
+            CircuitBreaker.State before = breaker.getState();
+            breaker.onSuccess();
+            latencies.record(elapsedNanos);
+            if (before != CircuitBreaker.State.CLOSED) {
+                log.info("[GroqResilience] {} 회로 차단기 CLOSED (복구)", endpoint);
+            }
+        }
+
+        private void onFailure() {
+            if (breaker.onFailure()) {
+                log.warn("[GroqResilience] {} 회로 차단기 OPEN - {}ms 동안 로컬 축소 모드",
+                        endpoint, policy.getBreakerOpenMillis());
+            }
+        }
+
+        /**
+         * hedge 요청까지 기다릴 시간 (hedging 을 하지 않으면 0)
+         */
+        private long hedgeDelayNanos() {
+            if (!policy.isHedgingEnabled() || !endpoint.isHedgeable()) {
+                return 0;
+            }
+            long floor = TimeUnit.MILLISECONDS.toNanos(policy.getHedgeMinDelayMillis());
+            return Math.max(floor, latencies.p95Nanos());
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.saeal.MrDaebackService.voiceOrder.service.resilience;
+
+/**
+ * Groq 호출을 끝내 성공하지 못함 (회로 차단, 동시 호출 초과, 시간 초과, 재시도 소진)
+ * - 호출부는 이 예외를 받으면 로컬 규칙 기반 축소 모드로 응답
+ */
+public class GroqUnavailableException extends IllegalStateException {
+
+    private final GroqEndpoint endpoint;
+
+    public GroqUnavailableException(GroqEndpoint endpoint, String message) {
+        super(endpoint + " " + message);
+        this.endpoint = endpoint;
+    }
+
+    public GroqUnavailableException(GroqEndpoint endpoint, String message, Throwable cause) {
+        super(endpoint + " " + message, cause);
+        this.endpoint = endpoint;
+    }
+
+    public GroqEndpoint getEndpoint() {
+        return endpoint;
+    }
+}
@@ -0,0 +1,36 @@
+package com.saeal.MrDaebackService.voiceOrder.service.resilience;
+
+import java.util.Arrays;
+
+/**
+ * 최근 성공 호출 지연 시간 링 버퍼 (hedging 지연 계산용 p95)
+ */
+public class LatencyWindow {
+
+    static final int CAPACITY = 128;
+    static final int MIN_SAMPLES = 20;
+
+    private final long[] samples = new long[CAPACITY];
+    private int size;
+    private int next;
+
+    public synchronized void record(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % CAPACITY;
+        if (size < CAPACITY) {
+            size++;
+        }
+    }
+
+    /**
+     * 최근 표본의 p95 (표본이 {@value #MIN_SAMPLES}개 미만이면 -1)
+     */
+    public synchronized long p95Nanos() {
+        if (size < MIN_SAMPLES) {
+            return -1;
+        }
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        return sorted[(int) Math.ceil(size * 0.95) - 1];
+    }
+}
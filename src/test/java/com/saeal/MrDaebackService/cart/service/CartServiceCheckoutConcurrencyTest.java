@@ -0,0 +1,288 @@
+package com.saeal.MrDaebackService.cart.service;
+
+import com.saeal.MrDaebackService.cart.domain.Cart;
+import com.saeal.MrDaebackService.cart.enums.CartStatus;
+import com.saeal.MrDaebackService.cart.repository.CartRepository;
+import com.saeal.MrDaebackService.config.SecurityBeans;
+import com.saeal.MrDaebackService.menuItems.domain.MenuItems;
+import com.saeal.MrDaebackService.menuItems.repository.MenuItemsRepository;
+import com.saeal.MrDaebackService.order.repository.OrderRepository;
+import com.saeal.MrDaebackService.order.service.OrderGraphLoader;
+import com.saeal.MrDaebackService.order.service.OrderService;
+import com.saeal.MrDaebackService.pricing.domain.Money;
+import com.saeal.MrDaebackService.pricing.service.PricingService;
+import com.saeal.MrDaebackService.product.domain.Product;
+import com.saeal.MrDaebackService.product.domain.ProductMenuItem;
+import com.saeal.MrDaebackService.product.repository.ProductRepository;
+import com.saeal.MrDaebackService.security.JwtUserDetails;
+import com.saeal.MrDaebackService.user.domain.User;
+import com.saeal.MrDaebackService.user.enums.Authority;
+import com.saeal.MrDaebackService.user.repository.UserRepository;
+import com.saeal.MrDaebackService.user.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동시 결제 (CartService.checkout) 스트레스 테스트
+ * - 여러 Product 가 같은 MenuItems 를 서로 다른 순서로 공유하는 장바구니 수백 개를 병렬로 결제
+ * - 재고가 음수가 되지 않고, 남은 재고가 성공한 결제의 요구량 합계와 정확히 맞는지 확인
+ *   (실패한 결제가 앞서 차감한 재고가 남아 있으면 합계가 어긋남)
+ * - 교착 상태/잠금 타임아웃 없이 모든 결제가 재고 부족 외의 이유로 실패하지 않는지 확인
+ */
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:checkout-concurrency;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CartService.class, OrderService.class, OrderGraphLoader.class, PricingService.class,
+        UserService.class, SecurityBeans.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CartServiceCheckoutConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int CARTS = 240;
+    private static final int MENU_ITEMS = 4;
+    private static final int INITIAL_STOCK = 150;
+
+    /**
+     * Product 별 메뉴 구성 (메뉴 인덱스 → 수량), 같은 메뉴를 서로 다른 순서로 포함
+     */
+    private static final List<Map<Integer, Integer>> RECIPES = List.of(
+            recipe(0, 1, 1, 2),
+            recipe(1, 1, 0, 1),
+            recipe(2, 1, 0, 1),
+            recipe(3, 2, 1, 1));
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MenuItemsRepository menuItemsRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAll();
+        cartRepository.deleteAll();
+        productRepository.deleteAll();
+        menuItemsRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void parallelCheckoutsNeverOversellOrDeadlock() throws Exception {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        List<UUID> menuItemIds = new ArrayList<>();
+        List<CheckoutCase> cases = new ArrayList<>();
+        transaction.executeWithoutResult(status -> {
+            List<MenuItems> menuItems = createMenuItems();
+            menuItems.forEach(menuItem -> menuItemIds.add(menuItem.getId()));
+            List<Product> products = createProducts(menuItems);
+            for (int i = 0; i < CARTS; i++) {
+                cases.add(createCart(i, products));
+            }
+        });
+
+        Map<UUID, Throwable> failures = new HashMap<>();
+        List<UUID> succeeded = new ArrayList<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            Map<CheckoutCase, Future<Throwable>> workers = new LinkedHashMap<>();
+            for (CheckoutCase checkoutCase : cases) {
+                workers.put(checkoutCase, executor.submit(() -> {
+                    start.await();
+                    return checkoutAs(checkoutCase);
+                }));
+            }
+            start.countDown();
+            for (Map.Entry<CheckoutCase, Future<Throwable>> worker : workers.entrySet()) {
+                // 교착 상태라면 여기서 TimeoutException 으로 실패
+                Throwable failure = worker.getValue().get(120, TimeUnit.SECONDS);
+                if (failure == null) {
+                    succeeded.add(worker.getKey().cartId);
+                } else {
+                    failures.put(worker.getKey().cartId, failure);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(failures.values()).allSatisfy(failure -> assertThat(failure)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageStartingWith("Insufficient stock for menu item"));
+        // 수요가 재고보다 많으므로 성공과 실패가 모두 발생해야 의미 있는 검증
+        assertThat(succeeded).isNotEmpty();
+        assertThat(failures).isNotEmpty();
+
+        int[] expectedStock = new int[MENU_ITEMS];
+        Arrays.fill(expectedStock, INITIAL_STOCK);
+        for (CheckoutCase checkoutCase : cases) {
+            if (succeeded.contains(checkoutCase.cartId)) {
+                for (Map.Entry<Integer, Integer> requirement : checkoutCase.requirements.entrySet()) {
+                    expectedStock[requirement.getKey()] -= requirement.getValue();
+                }
+            }
+        }
+        for (int m = 0; m < MENU_ITEMS; m++) {
+            int finalStock = menuItemsRepository.findById(menuItemIds.get(m)).orElseThrow().getStock();
+            assertThat(finalStock).isGreaterThanOrEqualTo(0);
+            assertThat(finalStock).isEqualTo(expectedStock[m]);
+        }
+
+        assertThat(orderRepository.count()).isEqualTo(succeeded.size());
+        for (CheckoutCase checkoutCase : cases) {
+            boolean success = succeeded.contains(checkoutCase.cartId);
+            Cart cart = cartRepository.findById(checkoutCase.cartId).orElseThrow();
+            User user = userRepository.findById(checkoutCase.userId).orElseThrow();
+            // 재고 차감 후 영속성 컨텍스트가 비워져도 Cart/User 갱신이 반영되어야 함
+            assertThat(cart.getStatus()).isEqualTo(success ? CartStatus.CHECKED_OUT : CartStatus.OPEN);
+            assertThat(user.getVisitCount()).isEqualTo(success ? 1L : 0L);
+        }
+    }
+
+    /**
+     * 워커 스레드에 장바구니 주인을 인증 정보로 설정한 뒤 결제 (실패 시 예외 반환)
+     */
+    private Throwable checkoutAs(CheckoutCase checkoutCase) {
+        JwtUserDetails principal = new JwtUserDetails(checkoutCase.userId, "checkout-user",
+                List.of(new SimpleGrantedAuthority(Authority.ROLE_USER.name())));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        try {
+            cartService.checkout(checkoutCase.cartId);
+            return null;
+        } catch (RuntimeException e) {
+            return e;
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private List<MenuItems> createMenuItems() {
+        List<MenuItems> menuItems = new ArrayList<>();
+        for (int m = 0; m < MENU_ITEMS; m++) {
+            menuItems.add(entityManager.persist(MenuItems.builder()
+                    .name("menu-" + m)
+                    .stock(INITIAL_STOCK)
+                    .unitPrice(new BigDecimal("1000"))
+                    .createdAt(LocalDateTime.now())
+                    .updatedAt(LocalDateTime.now())
+                    .build()));
+        }
+        return menuItems;
+    }
+
+    private List<Product> createProducts(List<MenuItems> menuItems) {
+        List<Product> products = new ArrayList<>();
+        for (int p = 0; p < RECIPES.size(); p++) {
+            Product product = Product.builder()
+                    .productName("product-" + p)
+                    .totalPrice(new BigDecimal("5000"))
+                    .quantity(1)
+                    .build();
+            for (Map.Entry<Integer, Integer> component : RECIPES.get(p).entrySet()) {
+                product.getProductMenuItems().add(ProductMenuItem.builder()
+                        .product(product)
+                        .menuItem(menuItems.get(component.getKey()))
+                        .quantity(component.getValue())
+                        .unitPrice(new BigDecimal("1000"))
+                        .lineTotal(new BigDecimal("1000").multiply(BigDecimal.valueOf(component.getValue())))
+                        .build());
+            }
+            products.add(entityManager.persist(product));
+        }
+        return products;
+    }
+
+    /**
+     * 장바구니마다 Product 2개를 담되, 짝/홀수 번째에 담는 순서를 뒤집음
+     */
+    private CheckoutCase createCart(int index, List<Product> products) {
+        User user = entityManager.persist(User.builder()
+                .username("checkout-" + index)
+                .password("password")
+                .email("checkout-" + index + "@example.com")
+                .authority(Authority.ROLE_USER)
+                .phoneNumber("010-0000-0000")
+                .build());
+        int first = index % products.size();
+        int second = (first + 1 + (index / products.size()) % (products.size() - 1)) % products.size();
+        List<Integer> productOrder = index % 2 == 0 ? List.of(first, second) : List.of(second, first);
+        int quantity = 1 + index % 2;
+
+        Cart cart = Cart.builder().user(user).build();
+        Map<Integer, Integer> requirements = new HashMap<>();
+        for (int p : productOrder) {
+            cart.addLine(products.get(p), quantity, Money.won(5000));
+            for (Map.Entry<Integer, Integer> component : RECIPES.get(p).entrySet()) {
+                requirements.merge(component.getKey(), component.getValue() * quantity, Integer::sum);
+            }
+        }
+        entityManager.persist(cart);
+        return new CheckoutCase(cart.getId(), user.getId(), requirements);
+    }
+
+    private static Map<Integer, Integer> recipe(int firstMenu, int firstQuantity, int secondMenu, int secondQuantity) {
+        Map<Integer, Integer> recipe = new LinkedHashMap<>();
+        recipe.put(firstMenu, firstQuantity);
+        recipe.put(secondMenu, secondQuantity);
+        return recipe;
+    }
+
+    private static final class CheckoutCase {
+        private final UUID cartId;
+        private final UUID userId;
+        private final Map<Integer, Integer> requirements;
+
+        private CheckoutCase(UUID cartId, UUID userId, Map<Integer, Integer> requirements) {
+            this.cartId = cartId;
+            this.userId = userId;
+            this.requirements = requirements;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.saeal.MrDaebackService.cart.service;
+
+import com.saeal.MrDaebackService.cart.domain.Cart;
+import com.saeal.MrDaebackService.cart.enums.CartStatus;
+import com.saeal.MrDaebackService.cart.repository.CartRepository;
+import com.saeal.MrDaebackService.order.service.OrderService;
+import com.saeal.MrDaebackService.pricing.service.PricingService;
+import com.saeal.MrDaebackService.product.repository.ProductRepository;
+import com.saeal.MrDaebackService.user.domain.User;
+import com.saeal.MrDaebackService.user.repository.UserRepository;
+import com.saeal.MrDaebackService.user.service.UserService;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 장바구니 결제 사전 검증
+ * - 항목이 없는 장바구니(이전 테이블에서 이관되지 않은 장바구니 포함)는 재고 차감/주문 생성 전에 거부
+ */
+class CartServiceTest {
+
+    @Test
+    void checkoutRejectsCartWithoutLines() {
+        UUID userId = UUID.randomUUID();
+        UUID cartId = UUID.randomUUID();
+        Cart cart = Cart.builder()
+                .id(cartId)
+                .user(User.builder().id(userId).build())
+                .status(CartStatus.OPEN)
+                .build();
+
+        CartRepository cartRepository = mock(CartRepository.class);
+        UserService userService = mock(UserService.class);
+        OrderService orderService = mock(OrderService.class);
+        when(userService.getCurrentUserId()).thenReturn(userId);
+        when(cartRepository.findByIdWithLines(cartId)).thenReturn(Optional.of(cart));
+
+        CartService cartService = new CartService(cartRepository, mock(UserRepository.class),
+                mock(ProductRepository.class), userService, orderService, mock(PricingService.class));
+
+        assertThatThrownBy(() -> cartService.checkout(cartId))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Cart has no items");
+        verifyNoInteractions(orderService);
+    }
+}
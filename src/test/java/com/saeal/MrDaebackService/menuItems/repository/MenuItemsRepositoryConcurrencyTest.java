@@ -0,0 +1,97 @@
+package com.saeal.MrDaebackService.menuItems.repository;
+
+import com.saeal.MrDaebackService.menuItems.domain.MenuItems;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동시 결제 시 재고 차감 (decreaseStockIfAvailable) 스트레스 테스트
+ * - 스레드마다 별도 트랜잭션으로 조건부 UPDATE 를 반복하고, 재고가 음수가 되지 않고 차감량이 정확히 맞는지 확인
+ * - 행 잠금 대기가 길어질 수 있어 H2 LOCK_TIMEOUT 을 늘린 DB 를 직접 지정
+ */
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:stock-concurrency;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MenuItemsRepositoryConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int ATTEMPTS_PER_THREAD = 20;
+    private static final int INITIAL_STOCK = 100;
+    private static final int QUANTITY = 3;
+
+    @Autowired
+    private MenuItemsRepository menuItemsRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        menuItemsRepository.deleteAll();
+    }
+
+    @Test
+    void parallelReservationsNeverOversell() throws Exception {
+        UUID menuItemId = menuItemsRepository.save(MenuItems.builder()
+                .name("Steak")
+                .stock(INITIAL_STOCK)
+                .unitPrice(new BigDecimal("30000"))
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build()).getId();
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        AtomicInteger reserved = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                workers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+                        Integer updated = transaction.execute(status -> menuItemsRepository
+                                .decreaseStockIfAvailable(menuItemId, QUANTITY, LocalDateTime.now()));
+                        if (updated != null && updated == 1) {
+                            reserved.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        int finalStock = menuItemsRepository.findById(menuItemId).orElseThrow().getStock();
+        // 수요(16 × 20 × 3)가 재고보다 훨씬 많으므로 남은 재고는 한 번 더 차감할 수 없는 양이어야 함
+        assertThat(finalStock).isBetween(0, QUANTITY - 1);
+        assertThat(finalStock).isEqualTo(INITIAL_STOCK - reserved.get() * QUANTITY);
+        assertThat(reserved.get()).isEqualTo(INITIAL_STOCK / QUANTITY);
+    }
+}
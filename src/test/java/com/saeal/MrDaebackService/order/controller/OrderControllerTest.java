@@ -0,0 +1,63 @@
+package com.saeal.MrDaebackService.order.controller;
+
+import com.saeal.MrDaebackService.order.dto.response.OrderResponseDto;
+import com.saeal.MrDaebackService.order.dto.response.OrderSearchResponseDto;
+import com.saeal.MrDaebackService.order.service.OrderService;
+import com.saeal.MrDaebackService.user.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 관리자 주문 검색 응답 형태 확인
+ * - 본문은 기존과 같은 주문 목록, 다음 페이지 커서는 헤더로만 전달
+ */
+class OrderControllerTest {
+
+    private OrderService orderService;
+    private OrderController controller;
+
+    @BeforeEach
+    void setUp() {
+        orderService = mock(OrderService.class);
+        controller = new OrderController(orderService, mock(UserService.class));
+    }
+
+    @Test
+    void searchReturnsOrderListWithNextCursorHeaders() {
+        OrderResponseDto order = new OrderResponseDto();
+        LocalDateTime orderedAt = LocalDateTime.of(2025, 1, 1, 12, 30, 15);
+        String lastId = UUID.randomUUID().toString();
+        when(orderService.searchOrders("ORD", null, null, null, 1))
+                .thenReturn(new OrderSearchResponseDto(List.of(order), true, orderedAt, lastId));
+
+        ResponseEntity<List<OrderResponseDto>> response = controller.searchOrders("ORD", null, null, null, 1);
+
+        assertThat(response.getBody()).containsExactly(order);
+        assertThat(response.getHeaders().getFirst(OrderController.HAS_NEXT_HEADER)).isEqualTo("true");
+        assertThat(response.getHeaders().getFirst(OrderController.NEXT_CURSOR_ORDERED_AT_HEADER))
+                .isEqualTo("2025-01-01T12:30:15");
+        assertThat(response.getHeaders().getFirst(OrderController.NEXT_CURSOR_ID_HEADER)).isEqualTo(lastId);
+    }
+
+    @Test
+    void lastPageHasNoCursorHeaders() {
+        when(orderService.searchOrders(null, "kim", null, null, 20))
+                .thenReturn(new OrderSearchResponseDto(List.of(), false, null, null));
+
+        ResponseEntity<List<OrderResponseDto>> response = controller.searchOrders(null, "kim", null, null, 20);
+
+        assertThat(response.getBody()).isEmpty();
+        assertThat(response.getHeaders().getFirst(OrderController.HAS_NEXT_HEADER)).isEqualTo("false");
+        assertThat(response.getHeaders().containsKey(OrderController.NEXT_CURSOR_ORDERED_AT_HEADER)).isFalse();
+        assertThat(response.getHeaders().containsKey(OrderController.NEXT_CURSOR_ID_HEADER)).isFalse();
+    }
+}
@@ -0,0 +1,85 @@
+package com.saeal.MrDaebackService.order.repository;
+
+import com.saeal.MrDaebackService.order.domain.Order;
+import com.saeal.MrDaebackService.user.domain.User;
+import com.saeal.MrDaebackService.user.enums.Authority;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 최신 주문 피드 (OrderService.getRecentOrders) 의 ID 조회
+ * - limit 이 SQL 에서 적용되어 필요한 ID 만 한 번의 쿼리로 가져오는지 확인
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class OrderRepositoryTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final List<Order> orders = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User user = entityManager.persist(User.builder()
+                .username("recent-orders")
+                .password("password")
+                .email("recent@example.com")
+                .authority(Authority.ROLE_USER)
+                .phoneNumber("010-0000-0000")
+                .build());
+        // 0, 1, 1, 3, 4 분 (2, 3번째 주문은 같은 시각 - id DESC 로 순서 결정)
+        int[] minutes = {0, 1, 1, 3, 4};
+        for (int i = 0; i < minutes.length; i++) {
+            orders.add(entityManager.persist(Order.builder()
+                    .orderNumber("ORD-RECENT-" + i)
+                    .user(user)
+                    .orderedAt(BASE_TIME.plusMinutes(minutes[i]))
+                    .build()));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void recentOrderIdsAreLimitedAndOrderedNewestFirst() {
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        List<UUID> ids = orderRepository.findRecentOrderIds(PageRequest.of(0, 3));
+
+        assertThat(ids).hasSize(3);
+        assertThat(ids.subList(0, 2)).containsExactly(orders.get(4).getId(), orders.get(3).getId());
+        assertThat(ids.get(2)).isIn(orders.get(1).getId(), orders.get(2).getId());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        // ID 만 조회 - Order 엔티티는 로딩하지 않음
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void limitLargerThanTableReturnsAllOrders() {
+        assertThat(orderRepository.findRecentOrderIds(PageRequest.of(0, 50))).hasSize(orders.size());
+    }
+
+    private Statistics statistics() {
+        return entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+    }
+}
@@ -0,0 +1,136 @@
+package com.saeal.MrDaebackService.order.service;
+
+import com.saeal.MrDaebackService.menuItems.domain.MenuItems;
+import com.saeal.MrDaebackService.order.domain.Order;
+import com.saeal.MrDaebackService.order.domain.OrderItem;
+import com.saeal.MrDaebackService.order.repository.OrderRepository;
+import com.saeal.MrDaebackService.product.domain.Product;
+import com.saeal.MrDaebackService.product.domain.ProductMenuItem;
+import com.saeal.MrDaebackService.user.domain.User;
+import com.saeal.MrDaebackService.user.enums.Authority;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 그래프 일괄 로딩 쿼리 수 확인 (Hibernate Statistics)
+ * - 주문 상세 fetch join 1회 + ProductMenuItem/MenuItems IN 쿼리 1회 = 주문 수와 무관하게 2회
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(OrderGraphLoader.class)
+class OrderGraphLoaderTest {
+
+    private static final int ITEMS_PER_ORDER = 2;
+    private static final int MENU_ITEMS_PER_PRODUCT = 3;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderGraphLoader orderGraphLoader;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 40})
+    void loadsWholeGraphWithFixedNumberOfQueries(int orderCount) {
+        List<UUID> orderIds = createOrders(orderCount);
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        List<Order> orders = orderRepository.findAllWithDetailsByIdIn(orderIds);
+        orderGraphLoader.loadProductMenuItems(orders);
+
+        int menuItemLines = 0;
+        for (Order order : orders) {
+            for (OrderItem orderItem : order.getOrderItems()) {
+                Product product = orderItem.getProduct();
+                assertThat(Hibernate.isInitialized(product.getProductMenuItems())).isTrue();
+                for (ProductMenuItem productMenuItem : product.getProductMenuItems()) {
+                    assertThat(productMenuItem.getMenuItem().getName()).startsWith("menu-");
+                    menuItemLines++;
+                }
+            }
+        }
+
+        assertThat(orders).hasSize(orderCount);
+        assertThat(menuItemLines).isEqualTo(orderCount * ITEMS_PER_ORDER * MENU_ITEMS_PER_PRODUCT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    private List<UUID> createOrders(int orderCount) {
+        User user = entityManager.persist(User.builder()
+                .username("graph-" + orderCount)
+                .password("password")
+                .email("graph@example.com")
+                .authority(Authority.ROLE_USER)
+                .phoneNumber("010-0000-0000")
+                .build());
+        List<MenuItems> menuItems = new ArrayList<>();
+        for (int i = 0; i < MENU_ITEMS_PER_PRODUCT; i++) {
+            menuItems.add(entityManager.persist(MenuItems.builder()
+                    .name("menu-" + i)
+                    .stock(100)
+                    .unitPrice(new BigDecimal("1000"))
+                    .createdAt(LocalDateTime.now())
+                    .updatedAt(LocalDateTime.now())
+                    .build()));
+        }
+
+        List<UUID> orderIds = new ArrayList<>();
+        for (int o = 0; o < orderCount; o++) {
+            Order order = Order.builder()
+                    .orderNumber("ORD-GRAPH-" + orderCount + "-" + o)
+                    .user(user)
+                    .build();
+            for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+                Product product = Product.builder()
+                        .productName("product-" + o + "-" + i)
+                        .totalPrice(new BigDecimal("3000"))
+                        .quantity(1)
+                        .build();
+                for (MenuItems menuItem : menuItems) {
+                    product.getProductMenuItems().add(ProductMenuItem.builder()
+                            .product(product)
+                            .menuItem(menuItem)
+                            .quantity(1)
+                            .unitPrice(new BigDecimal("1000"))
+                            .lineTotal(new BigDecimal("1000"))
+                            .build());
+                }
+                entityManager.persist(product);
+                order.getOrderItems().add(OrderItem.builder()
+                        .order(order)
+                        .product(product)
+                        .quantity(1)
+                        .unitPrice(new BigDecimal("3000"))
+                        .lineTotal(new BigDecimal("3000"))
+                        .build());
+            }
+            orderIds.add(entityManager.persist(order).getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return orderIds;
+    }
+
+    private Statistics statistics() {
+        return entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+    }
+}
@@ -0,0 +1,147 @@
+package com.saeal.MrDaebackService.order.service;
+
+import com.saeal.MrDaebackService.menuItems.domain.MenuItems;
+import com.saeal.MrDaebackService.order.domain.Order;
+import com.saeal.MrDaebackService.order.domain.OrderItem;
+import com.saeal.MrDaebackService.order.dto.response.OrderResponseDto;
+import com.saeal.MrDaebackService.product.domain.Product;
+import com.saeal.MrDaebackService.product.domain.ProductMenuItem;
+import com.saeal.MrDaebackService.user.domain.User;
+import com.saeal.MrDaebackService.user.enums.Authority;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 최신 주문 피드 (getRecentOrders) 가 전체 주문 수와 무관하게 limit 만큼만 읽는지 확인
+ * - 주문을 100 → 1,000 → 10,000 건으로 늘려가며 같은 limit 으로 조회
+ * - SQL 실행 수(ID 조회 + 상세 fetch join + ProductMenuItem 일괄 로딩)와 로딩된 엔티티 수가 항상 같아야 함
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=500"
+})
+@Import({OrderService.class, OrderGraphLoader.class})
+class OrderServiceRecentOrdersTest {
+
+    private static final int LIMIT = 10;
+    private static final int ITEMS_PER_ORDER = 2;
+    private static final int[] ORDER_COUNTS = {100, 1_000, 10_000};
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User user;
+    private List<Product> products;
+    private int created;
+
+    @Test
+    void fetchedRowsAreBoundedByLimitNotTableSize() {
+        createCatalog();
+        List<Long> entityLoads = new ArrayList<>();
+        for (int orderCount : ORDER_COUNTS) {
+            createOrdersUpTo(orderCount);
+            Statistics statistics = statistics();
+            statistics.clear();
+
+            List<OrderResponseDto> recent = orderService.getRecentOrders(LIMIT);
+
+            assertThat(recent).hasSize(LIMIT);
+            // 가장 최근에 만든 주문부터 반환
+            assertThat(recent.get(0).getOrderNumber()).isEqualTo("ORD-FEED-" + (orderCount - 1));
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+            // 주문 LIMIT 건 + 주문 항목 LIMIT × ITEMS_PER_ORDER 건 + 공유 사용자/상품/메뉴만 로딩
+            assertThat(statistics.getEntityLoadCount())
+                    .isLessThanOrEqualTo(LIMIT * (1 + ITEMS_PER_ORDER) + 1 + products.size() * 4L);
+            entityLoads.add(statistics.getEntityLoadCount());
+            entityManager.clear();
+        }
+
+        assertThat(entityLoads).containsOnly(entityLoads.get(0));
+    }
+
+    private void createCatalog() {
+        user = entityManager.persist(User.builder()
+                .username("recent-feed")
+                .password("password")
+                .email("feed@example.com")
+                .authority(Authority.ROLE_USER)
+                .phoneNumber("010-0000-0000")
+                .build());
+        MenuItems menuItem = entityManager.persist(MenuItems.builder()
+                .name("menu-feed")
+                .stock(100)
+                .unitPrice(new BigDecimal("1000"))
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+        products = new ArrayList<>();
+        for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+            Product product = Product.builder()
+                    .productName("feed-product-" + i)
+                    .totalPrice(new BigDecimal("3000"))
+                    .quantity(1)
+                    .build();
+            product.getProductMenuItems().add(ProductMenuItem.builder()
+                    .product(product)
+                    .menuItem(menuItem)
+                    .quantity(1)
+                    .unitPrice(new BigDecimal("1000"))
+                    .lineTotal(new BigDecimal("1000"))
+                    .build());
+            products.add(entityManager.persist(product));
+        }
+        entityManager.flush();
+    }
+
+    /**
+     * 주문 수가 orderCount 가 될 때까지 추가 (주문마다 1분씩 늦게, 500건마다 flush/clear)
+     * - user/products 는 clear 후 detached 상태지만 FK 값만 쓰므로 그대로 참조
+     */
+    private void createOrdersUpTo(int orderCount) {
+        while (created < orderCount) {
+            Order order = Order.builder()
+                    .orderNumber("ORD-FEED-" + created)
+                    .user(user)
+                    .orderedAt(BASE_TIME.plusMinutes(created))
+                    .build();
+            for (Product product : products) {
+                order.getOrderItems().add(OrderItem.builder()
+                        .order(order)
+                        .product(product)
+                        .quantity(1)
+                        .unitPrice(new BigDecimal("3000"))
+                        .lineTotal(new BigDecimal("3000"))
+                        .build());
+            }
+            entityManager.persist(order);
+            created++;
+            if (created % 500 == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private Statistics statistics() {
+        return entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+    }
+}
@@ -0,0 +1,34 @@
+package com.saeal.MrDaebackService.pricing.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Money ↔ NUMERIC(18, 2) 변환 확인
+ */
+class MoneyConverterTest {
+
+    private final MoneyConverter converter = new MoneyConverter();
+
+    @Test
+    void convertsWithScaleTwo() {
+        assertThat(converter.convertToDatabaseColumn(Money.won(30_000))).isEqualTo(new BigDecimal("30000.00"));
+        assertThat(converter.convertToEntityAttribute(new BigDecimal("12.3"))).isEqualTo(Money.ofMinor(1_230));
+    }
+
+    @Test
+    void roundTripIsLossless() {
+        Money money = Money.ofMinor(-987_654_321L);
+
+        assertThat(converter.convertToEntityAttribute(converter.convertToDatabaseColumn(money))).isEqualTo(money);
+    }
+
+    @Test
+    void nullStaysNull() {
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+}
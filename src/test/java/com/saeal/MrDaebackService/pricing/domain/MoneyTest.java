@@ -0,0 +1,80 @@
+package com.saeal.MrDaebackService.pricing.domain;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Money 산술/반올림/overflow 확인
+ * - applyRate 결과는 같은 값을 BigDecimal HALF_UP 으로 계산한 것과 같아야 함
+ */
+class MoneyTest {
+
+    @Test
+    void arithmeticKeepsMinorUnits() {
+        Money price = Money.won(30_000);
+
+        assertThat(price.minorUnits()).isEqualTo(3_000_000L);
+        assertThat(price.plus(Money.ofMinor(50)).minus(Money.won(1)).minorUnits()).isEqualTo(2_999_950L);
+        assertThat(price.times(3)).isEqualTo(Money.won(90_000));
+        assertThat(price.times(0)).isSameAs(Money.ZERO);
+        assertThat(Money.won(5).minus(Money.won(7)).isPositive()).isFalse();
+        assertThat(Money.ofMinor(-150).toWonInt()).isEqualTo(-1);
+        assertThat(Money.ofMinor(12_345).toString()).isEqualTo("123.45");
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "1.005, 101",
+            "-1.005, -101",
+            "1.004, 100",
+            "12.3, 1230",
+    })
+    void ofRoundsToTwoDecimalsHalfUp(String amount, long expectedMinor) {
+        assertThat(Money.of(new BigDecimal(amount)).minorUnits()).isEqualTo(expectedMinor);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            // minorUnits, basisPoints, expectedMinor
+            "5, 1000, 1",
+            "-5, 1000, -1",
+            "4, 1000, 0",
+            "-4, 1000, 0",
+            "15, 1000, 2",
+            "-15, 1000, -2",
+            "12345, 333, 411",
+            "-12345, 333, -411",
+            "1000000, 1000, 100000",
+            "0, 1000, 0",
+            "777, 0, 0",
+    })
+    void applyRateRoundsHalfUpAwayFromZero(long minorUnits, int basisPoints, long expectedMinor) {
+        long actual = Money.ofMinor(minorUnits).applyRate(basisPoints).minorUnits();
+
+        BigDecimal reference = BigDecimal.valueOf(minorUnits)
+                .multiply(BigDecimal.valueOf(basisPoints))
+                .divide(BigDecimal.valueOf(10_000), 0, RoundingMode.HALF_UP);
+        assertThat(actual).isEqualTo(expectedMinor).isEqualTo(reference.longValueExact());
+    }
+
+    @Test
+    void overflowThrowsInsteadOfWrapping() {
+        Money max = Money.ofMinor(Long.MAX_VALUE);
+        Money min = Money.ofMinor(Long.MIN_VALUE);
+
+        assertThatThrownBy(() -> max.plus(Money.ofMinor(1))).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> min.minus(Money.ofMinor(1))).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> max.times(2)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> max.applyRate(2)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.won(Long.MAX_VALUE / 10)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.of(new BigDecimal("1E18"))).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(max::toWonInt).isInstanceOf(ArithmeticException.class);
+    }
+}
@@ -0,0 +1,156 @@
+package com.saeal.MrDaebackService.voiceOrder.config;
+
+import com.saeal.MrDaebackService.voiceOrder.service.resilience.CircuitBreaker;
+import com.saeal.MrDaebackService.voiceOrder.service.resilience.GroqEndpoint;
+import com.saeal.MrDaebackService.voiceOrder.service.resilience.GroqOverloadedException;
+import com.saeal.MrDaebackService.voiceOrder.service.resilience.GroqResilience;
+import com.saeal.MrDaebackService.voiceOrder.service.resilience.GroqUnavailableException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * JDK HttpServer 스텁으로 Groq 동시 호출 제한/지표 확인
+ * - /slow: release 될 때까지 응답을 붙잡아 슬롯을 점유
+ * - /fail: 503 응답
+ */
+class GroqHttpMetricsInterceptorTest {
+
+    private final CountDownLatch received = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private ExecutorService callerExecutor;
+    private String baseUrl;
+
+    private GroqConfig groqConfig;
+    private GroqHttpMetricsInterceptor interceptor;
+    private RestTemplate restTemplate;
+    private GroqResilience resilience;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/slow", exchange -> {
+            received.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200, "ok");
+        });
+        server.createContext("/fail", exchange -> respond(exchange, 503, "busy"));
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+        baseUrl = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+
+        groqConfig = new GroqConfig();
+        groqConfig.setHttp2Enabled(false);
+        groqConfig.setMaxConcurrentRequests(1);
+        groqConfig.setAcquireTimeoutMillis(100);
+        groqConfig.getResilience().setBreakerFailureThreshold(1);
+        groqConfig.getResilience().setMaxRetries(0);
+
+        interceptor = new GroqHttpMetricsInterceptor(groqConfig);
+        GroqHttpClientConfig clientConfig = new GroqHttpClientConfig(groqConfig);
+        restTemplate = clientConfig.groqRestTemplate(clientConfig.groqHttpClient(), interceptor);
+        resilience = new GroqResilience(groqConfig);
+        callerExecutor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callerExecutor.shutdownNow();
+        resilience.shutdown();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void permitIsHeldUntilResponseIsClosedAndExtraCallsAreRejected() throws Exception {
+        Future<String> slow = callerExecutor.submit(() -> restTemplate.getForObject(baseUrl + "/slow", String.class));
+        assertThat(received.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(interceptor.getAvailablePermits()).isZero();
+
+        assertThatThrownBy(() -> restTemplate.getForObject(baseUrl + "/slow", String.class))
+                .isInstanceOf(GroqOverloadedException.class);
+
+        release.countDown();
+        assertThat(slow.get(5, TimeUnit.SECONDS)).isEqualTo("ok");
+        assertThat(interceptor.getAvailablePermits()).isEqualTo(1);
+
+        GroqHttpMetricsInterceptor.EndpointStats stats = interceptor.getEndpointStats().get("/slow");
+        assertThat(stats.getCalls()).isEqualTo(1);
+        assertThat(stats.getRejected()).isEqualTo(1);
+        assertThat(stats.getFailures()).isZero();
+    }
+
+    @Test
+    void errorResponseIsCountedAsFailureAndReleasesPermit() {
+        assertThatThrownBy(() -> restTemplate.getForObject(baseUrl + "/fail", String.class))
+                .isInstanceOf(HttpServerErrorException.class);
+
+        GroqHttpMetricsInterceptor.EndpointStats stats = interceptor.getEndpointStats().get("/fail");
+        assertThat(stats.getCalls()).isEqualTo(1);
+        assertThat(stats.getFailures()).isEqualTo(1);
+        assertThat(interceptor.getAvailablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void overloadDegradesWithoutTouchingBreaker() throws Exception {
+        Future<String> slow = callerExecutor.submit(() -> restTemplate.getForObject(baseUrl + "/slow", String.class));
+        assertThat(received.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> resilience.call(GroqEndpoint.CHAT,
+                () -> restTemplate.getForObject(baseUrl + "/slow", String.class)))
+                .isInstanceOf(GroqUnavailableException.class)
+                .hasCauseInstanceOf(GroqOverloadedException.class);
+        assertThatThrownBy(() -> resilience.callOnce(GroqEndpoint.CHAT,
+                () -> restTemplate.getForObject(baseUrl + "/slow", String.class)))
+                .isInstanceOf(GroqUnavailableException.class)
+                .hasCauseInstanceOf(GroqOverloadedException.class);
+        assertThat(resilience.getBreakerState(GroqEndpoint.CHAT)).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        release.countDown();
+        assertThat(slow.get(5, TimeUnit.SECONDS)).isEqualTo("ok");
+    }
+
+    @Test
+    void serverErrorOpensBreaker() {
+        assertThatThrownBy(() -> resilience.callOnce(GroqEndpoint.CHAT,
+                () -> restTemplate.getForObject(baseUrl + "/fail", String.class)))
+                .isInstanceOf(GroqUnavailableException.class)
+                .hasCauseInstanceOf(HttpServerErrorException.class);
+        assertThat(resilience.getBreakerState(GroqEndpoint.CHAT)).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.saeal.MrDaebackService.voiceOrder.controller;
+
+import com.saeal.MrDaebackService.voiceOrder.config.GroqConfig;
+import com.saeal.MrDaebackService.voiceOrder.service.ClientDisconnectedException;
+import com.saeal.MrDaebackService.voiceOrder.service.resilience.CircuitBreaker;
+import com.saeal.MrDaebackService.voiceOrder.service.resilience.GroqEndpoint;
+import com.saeal.MrDaebackService.voiceOrder.service.resilience.GroqResilience;
+import com.saeal.MrDaebackService.voiceOrder.service.resilience.GroqUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 브라우저 연결 종료가 Groq 회로 차단기에 반영되지 않는지 확인
+ * - 전송할 때마다 IOException 을 던지는 SseEmitter 로 연결 종료를 흉내냄
+ */
+class SseChatStreamListenerTest {
+
+    private GroqResilience resilience;
+    private SseChatStreamListener disconnectedListener;
+
+    @BeforeEach
+    void setUp() {
+        GroqConfig groqConfig = new GroqConfig();
+        groqConfig.getResilience().setBreakerFailureThreshold(2);
+        groqConfig.getResilience().setBreakerOpenMillis(0);
+        resilience = new GroqResilience(groqConfig);
+        disconnectedListener = new SseChatStreamListener(new DisconnectedEmitter());
+    }
+
+    @AfterEach
+    void tearDown() {
+        resilience.shutdown();
+    }
+
+    @Test
+    void disconnectIsReportedAsClientDisconnectedException() {
+        assertThatThrownBy(() -> disconnectedListener.onMessageDelta("안녕"))
+                .isInstanceOf(ClientDisconnectedException.class)
+                .hasCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    void repeatedDisconnectsDoNotOpenBreaker() {
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> resilience.callOnce(GroqEndpoint.CHAT, this::streamToDisconnectedClient))
+                    .isInstanceOf(ClientDisconnectedException.class);
+        }
+        assertThat(resilience.getBreakerState(GroqEndpoint.CHAT)).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void disconnectDuringTrialCallLeavesBreakerHalfOpen() {
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> resilience.callOnce(GroqEndpoint.CHAT, () -> {
+                throw new ResourceAccessException("connect timed out");
+            })).isInstanceOf(GroqUnavailableException.class);
+        }
+        assertThat(resilience.getBreakerState(GroqEndpoint.CHAT)).isEqualTo(CircuitBreaker.State.OPEN);
+
+        // 시험 호출이 클라이언트 연결 종료로 끝나면 성공도 실패도 아님 - 다음 시험 호출을 허용
+        assertThatThrownBy(() -> resilience.callOnce(GroqEndpoint.CHAT, this::streamToDisconnectedClient))
+                .isInstanceOf(ClientDisconnectedException.class);
+        assertThat(resilience.getBreakerState(GroqEndpoint.CHAT)).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+        assertThat(resilience.callOnce(GroqEndpoint.CHAT, () -> "ok")).isEqualTo("ok");
+        assertThat(resilience.getBreakerState(GroqEndpoint.CHAT)).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    private String streamToDisconnectedClient() {
+        disconnectedListener.onIntent("ORDER_MENU");
+        return "unreachable";
+    }
+
+    private static final class DisconnectedEmitter extends SseEmitter {
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            throw new IOException("Broken pipe");
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.saeal.MrDaebackService.voiceOrder.controller;
+
+import com.saeal.MrDaebackService.jwt.JwtTokenProvider;
+import com.saeal.MrDaebackService.user.domain.User;
+import com.saeal.MrDaebackService.user.enums.Authority;
+import com.saeal.MrDaebackService.voiceOrder.dto.response.ChatResponseDto;
+import com.saeal.MrDaebackService.voiceOrder.service.VoiceOrderService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * 음성 채팅이 몰려도 카탈로그 API 지연이 늘지 않는지 확인 (내장 Tomcat + 실제 HTTP)
+ * - Tomcat 요청 스레드(8개)보다 훨씬 많은 /api/voice-order/chat 요청을 STT/LLM 대기 상태로 묶어 둠
+ * - 전용 스레드 풀 모드에서는 요청 스레드가 바로 반환되므로 /api/dinners 는 계속 빠르게 응답해야 함
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:voice-isolation;DB_CLOSE_DELAY=-1",
+        "jwt.secret=voice-isolation-test-secret-key-0123456789abcdef",
+        "jwt.access-expiration=3600000",
+        "jwt.refresh-expiration=86400000",
+        "server.tomcat.threads.max=8",
+        "server.tomcat.threads.min-spare=8",
+        "voice-order.dedicated-executor-enabled=true",
+        "voice-order.max-concurrency=4",
+        "voice-order.queue-capacity=200"
+})
+class VoiceOrderControllerIsolationTest {
+
+    private static final int CHAT_REQUESTS = 64;
+    private static final int CATALOG_REQUESTS = 20;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final Semaphore chatsInFlight = new Semaphore(0);
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockitoBean
+    private VoiceOrderService voiceOrderService;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        when(voiceOrderService.processChat(any(), any())).thenAnswer(invocation -> {
+            // Groq 응답을 기다리는 것처럼 풀 스레드를 붙잡아 둠
+            chatsInFlight.release();
+            release.await(30, TimeUnit.SECONDS);
+            return ChatResponseDto.builder().assistantMessage("ok").build();
+        });
+        token = jwtTokenProvider.generateAccessToken(User.builder()
+                .id(UUID.randomUUID())
+                .username("isolation")
+                .authority(Authority.ROLE_USER)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+    }
+
+    @Test
+    void catalogStaysFastWhileVoiceChatIsSaturated() throws Exception {
+        // 첫 요청의 초기화 비용(쿼리 준비 등)은 측정에서 제외
+        httpClient.send(request("/api/dinners/getAllDinners").GET().build(), HttpResponse.BodyHandlers.ofString());
+
+        List<CompletableFuture<HttpResponse<String>>> chats = new ArrayList<>();
+        for (int i = 0; i < CHAT_REQUESTS; i++) {
+            chats.add(httpClient.sendAsync(request("/api/voice-order/chat")
+                            .timeout(Duration.ofSeconds(60))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString("{\"message\":\"발렌타인 디너\"}"))
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString()));
+        }
+        // 전용 풀(4개)이 모두 대기 중이고 나머지는 대기열에 있음
+        assertThat(chatsInFlight.tryAcquire(4, 10, TimeUnit.SECONDS)).isTrue();
+
+        long worstNanos = 0;
+        for (int i = 0; i < CATALOG_REQUESTS; i++) {
+            long startedAt = System.nanoTime();
+            HttpResponse<String> catalog = httpClient.send(request("/api/dinners/getAllDinners").GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+            worstNanos = Math.max(worstNanos, System.nanoTime() - startedAt);
+            assertThat(catalog.statusCode()).isEqualTo(200);
+        }
+        System.out.printf("[VoiceIsolation] catalog worst latency %d ms while %d chats are pending%n",
+                TimeUnit.NANOSECONDS.toMillis(worstNanos), CHAT_REQUESTS);
+
+        // 채팅이 요청 스레드를 잡고 있었다면 30초(release 대기) 동안 응답하지 못함
+        assertThat(TimeUnit.NANOSECONDS.toMillis(worstNanos)).isLessThan(1000);
+        assertThat(chats).noneMatch(CompletableFuture::isDone);
+
+        release.countDown();
+        for (CompletableFuture<HttpResponse<String>> chat : chats) {
+            assertThat(chat.get(30, TimeUnit.SECONDS).statusCode()).isEqualTo(200);
+        }
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(10))
+                .header("Authorization", "Bearer " + token);
+    }
+}
@@ -0,0 +1,90 @@
+package com.saeal.MrDaebackService.voiceOrder.controller;
+
+import com.saeal.MrDaebackService.security.JwtUserDetails;
+import com.saeal.MrDaebackService.voiceOrder.config.VoiceOrderAsyncConfig;
+import com.saeal.MrDaebackService.voiceOrder.config.VoiceOrderProperties;
+import com.saeal.MrDaebackService.voiceOrder.dto.request.ChatRequestDto;
+import com.saeal.MrDaebackService.voiceOrder.dto.response.ChatResponseDto;
+import com.saeal.MrDaebackService.voiceOrder.service.VoiceOrderService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 전용 스레드 풀이 가득 찼을 때 음성 채팅 요청을 503 으로 거절하는지 확인
+ * - 동시 처리 1 + 대기열 1 → 세 번째 요청은 바로 503 + Retry-After
+ */
+class VoiceOrderControllerLoadSheddingTest {
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final JwtUserDetails user = new JwtUserDetails(UUID.randomUUID(), "tester", List.of());
+
+    private ThreadPoolTaskExecutor executor;
+    private VoiceOrderController controller;
+
+    @BeforeEach
+    void setUp() {
+        VoiceOrderProperties properties = new VoiceOrderProperties();
+        properties.setDedicatedExecutorEnabled(true);
+        properties.setMaxConcurrency(1);
+        properties.setQueueCapacity(1);
+        executor = new VoiceOrderAsyncConfig(properties).voiceOrderExecutor();
+
+        VoiceOrderService voiceOrderService = mock(VoiceOrderService.class);
+        when(voiceOrderService.processChat(any(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return ChatResponseDto.builder().assistantMessage("ok").build();
+        });
+        controller = new VoiceOrderController(voiceOrderService, properties, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    void requestBeyondPoolAndQueueIsShed() throws Exception {
+        CompletableFuture<ResponseEntity<ChatResponseDto>> running = controller.chat(new ChatRequestDto(), user);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<ResponseEntity<ChatResponseDto>> queued = controller.chat(new ChatRequestDto(), user);
+
+        CompletableFuture<ResponseEntity<ChatResponseDto>> shed = controller.chat(new ChatRequestDto(), user);
+
+        assertThat(shed).isDone();
+        ResponseEntity<ChatResponseDto> busy = shed.get();
+        assertThat(busy.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(busy.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+        assertThat(busy.getBody()).isNotNull();
+        assertThat(running).isNotDone();
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS).getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(queued.get(5, TimeUnit.SECONDS).getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void missingUserIsRejectedWithoutUsingPool() throws Exception {
+        assertThat(controller.chat(new ChatRequestDto(), null).get().getStatusCode())
+                .isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(executor.getActiveCount()).isZero();
+    }
+}
@@ -0,0 +1,185 @@
+package com.saeal.MrDaebackService.voiceOrder.service;
+
+import com.saeal.MrDaebackService.dinner.domain.Dinner;
+import com.saeal.MrDaebackService.dinner.domain.DinnerMenuItem;
+import com.saeal.MrDaebackService.dinner.dto.response.DinnerResponseDto;
+import com.saeal.MrDaebackService.dinner.repository.DinnerMenuItemRepository;
+import com.saeal.MrDaebackService.dinner.repository.DinnerRepository;
+import com.saeal.MrDaebackService.dinner.service.DinnerService;
+import com.saeal.MrDaebackService.menuItems.domain.MenuItems;
+import com.saeal.MrDaebackService.menuItems.dto.MenuItemResponseDto;
+import com.saeal.MrDaebackService.menuItems.repository.MenuItemsRepository;
+import com.saeal.MrDaebackService.menuItems.service.MenuItemsService;
+import com.saeal.MrDaebackService.pricing.service.PricingService;
+import com.saeal.MrDaebackService.product.domain.Product;
+import com.saeal.MrDaebackService.product.dto.request.CreateCustomizedProductRequest;
+import com.saeal.MrDaebackService.product.dto.response.CustomizedProductResponseDto;
+import com.saeal.MrDaebackService.product.repository.ProductRepository;
+import com.saeal.MrDaebackService.product.service.ProductService;
+import com.saeal.MrDaebackService.servingStyle.domain.ServingStyle;
+import com.saeal.MrDaebackService.servingStyle.dto.response.ServingStyleResponseDto;
+import com.saeal.MrDaebackService.servingStyle.repository.ServingStyleRepository;
+import com.saeal.MrDaebackService.servingStyle.service.ServingStyleService;
+import com.saeal.MrDaebackService.voiceOrder.dto.response.OrderItemDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 음성 주문 장바구니 합계(CartManager)와 결제(ProductService) 가격이 같은지 확인
+ * - 구성요소/제외 이름은 한글, DB 메뉴 아이템 이름은 영문
+ */
+class CartManagerTest {
+
+    private MenuItems wine;
+    private MenuItems steak;
+    private MenuItems coffee;
+    private Dinner valentine;
+    private ServingStyle grand;
+
+    private final List<Product> savedProducts = new ArrayList<>();
+
+    private MenuMatcher menuMatcher;
+    private PricingService pricingService;
+    private CartManager cartManager;
+    private ProductService productService;
+
+    @BeforeEach
+    void setUp() {
+        wine = menuItem("Wine", "10000");
+        steak = menuItem("Steak", "30000");
+        coffee = menuItem("Coffee", "5000");
+        valentine = Dinner.builder()
+                .id(UUID.randomUUID())
+                .dinnerName("Valentine Dinner")
+                .basePrice(new BigDecimal("60000"))
+                .build();
+        valentine.getDinnerMenuItems().add(defaultItem(valentine, wine, 1));
+        valentine.getDinnerMenuItems().add(defaultItem(valentine, steak, 1));
+        grand = ServingStyle.builder()
+                .id(UUID.randomUUID())
+                .styleName("Grand Style")
+                .extraPrice(new BigDecimal("5000"))
+                .isActive(true)
+                .build();
+        List<MenuItems> menuItems = List.of(wine, steak, coffee);
+
+        DinnerRepository dinnerRepository = mock(DinnerRepository.class);
+        ServingStyleRepository servingStyleRepository = mock(ServingStyleRepository.class);
+        MenuItemsRepository menuItemsRepository = mock(MenuItemsRepository.class);
+        DinnerMenuItemRepository dinnerMenuItemRepository = mock(DinnerMenuItemRepository.class);
+        ProductRepository productRepository = mock(ProductRepository.class);
+        when(dinnerRepository.findAll()).thenReturn(List.of(valentine));
+        when(dinnerRepository.findAllById(any())).thenReturn(List.of(valentine));
+        when(servingStyleRepository.findAll()).thenReturn(List.of(grand));
+        when(servingStyleRepository.findAllById(any())).thenReturn(List.of(grand));
+        when(menuItemsRepository.findAll()).thenReturn(menuItems);
+        when(menuItemsRepository.findAllById(any())).thenReturn(List.of(coffee));
+        when(dinnerMenuItemRepository.findAllWithMenuItemByDinnerIdIn(any()))
+                .thenReturn(valentine.getDinnerMenuItems());
+        when(productRepository.saveAll(any())).thenAnswer(invocation -> {
+            List<Product> products = invocation.getArgument(0);
+            for (Product product : products) {
+                ReflectionTestUtils.setField(product, "id", UUID.randomUUID());
+            }
+            savedProducts.addAll(products);
+            return products;
+        });
+
+        DinnerService dinnerService = mock(DinnerService.class);
+        ServingStyleService servingStyleService = mock(ServingStyleService.class);
+        MenuItemsService menuItemsService = mock(MenuItemsService.class);
+        when(dinnerService.getAllDinnersWithMenuItems())
+                .thenReturn(List.of(DinnerResponseDto.fromWithMenuItems(valentine)));
+        when(servingStyleService.getAllServingStyles()).thenReturn(List.of(ServingStyleResponseDto.from(grand)));
+        when(menuItemsService.getAllMenuItems())
+                .thenReturn(menuItems.stream().map(MenuItemResponseDto::from).toList());
+
+        menuMatcher = new MenuMatcher(dinnerService, servingStyleService, menuItemsService);
+        pricingService = new PricingService(dinnerRepository, servingStyleRepository, menuItemsRepository);
+        cartManager = new CartManager(pricingService, menuMatcher);
+        productService = new ProductService(productRepository, dinnerRepository, servingStyleRepository,
+                dinnerMenuItemRepository, menuItemsRepository, pricingService);
+    }
+
+    @Test
+    void displayedTotalEqualsCheckoutTotalForKoreanCustomization() {
+        // "스테이크 2개로 해줘", "와인 빼줘", "커피 1잔 추가해줘" 이후의 장바구니 상태
+        Map<String, Integer> components = new LinkedHashMap<>();
+        components.put("Wine", 1);
+        components.put("Steak", 1);
+        components.put("스테이크", 2);
+        components.put("커피", 1);
+        OrderItemDto item = OrderItemDto.builder()
+                .dinnerId(valentine.getId().toString())
+                .dinnerName(valentine.getDinnerName())
+                .servingStyleId(grand.getId().toString())
+                .servingStyleName(grand.getStyleName())
+                .quantity(2)
+                .components(components)
+                .excludedItems(new ArrayList<>(List.of("와인")))
+                .build();
+
+        int displayedTotal = cartManager.calculateTotalPrice(List.of(item));
+
+        // 결제: VoiceOrderService.createCustomizedProducts 와 같은 요청
+        CustomizedProductResponseDto created = productService.createCustomizedProducts(List.of(
+                CreateCustomizedProductRequest.builder()
+                        .dinnerId(item.getDinnerId())
+                        .servingStyleId(item.getServingStyleId())
+                        .quantity(item.getQuantity())
+                        .menuItemQuantities(menuMatcher.resolveMenuItemQuantities(
+                                item.getDinnerId(), item.getComponents(), item.getExcludedItems()))
+                        .build())).get(0);
+        int checkoutTotal = created.getUnitPrice().intValue() * created.getQuantity();
+
+        // 60,000 + 5,000 - 와인 10,000 + 스테이크 1개 30,000 + 커피 5,000 = 90,000 × 2
+        assertThat(displayedTotal).isEqualTo(180_000);
+        assertThat(checkoutTotal).isEqualTo(displayedTotal);
+        // 장바구니(CartService)가 Product 로 다시 계산하는 단가도 같아야 함
+        assertThat(pricingService.unitPriceOf(savedProducts.get(0)).toWonInt() * created.getQuantity())
+                .isEqualTo(displayedTotal);
+    }
+
+    @Test
+    void uncustomizedItemIsPricedFromBaseAndStyle() {
+        OrderItemDto item = OrderItemDto.builder()
+                .dinnerId(valentine.getId().toString())
+                .servingStyleId(grand.getId().toString())
+                .quantity(1)
+                .components(new LinkedHashMap<>(Map.of("Wine", 1, "Steak", 1)))
+                .build();
+
+        assertThat(cartManager.calculateTotalPrice(List.of(item))).isEqualTo(65_000);
+    }
+
+    private static MenuItems menuItem(String name, String unitPrice) {
+        return MenuItems.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .stock(100)
+                .unitPrice(new BigDecimal(unitPrice))
+                .build();
+    }
+
+    private static DinnerMenuItem defaultItem(Dinner dinner, MenuItems menuItem, int defaultQuantity) {
+        return DinnerMenuItem.builder()
+                .id(UUID.randomUUID())
+                .dinner(dinner)
+                .menuItem(menuItem)
+                .defaultQuantity(defaultQuantity)
+                .build();
+    }
+}
@@ -0,0 +1,114 @@
+package com.saeal.MrDaebackService.voiceOrder.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.saeal.MrDaebackService.voiceOrder.config.GroqConfig;
+import com.saeal.MrDaebackService.voiceOrder.config.GroqHttpClientConfig;
+import com.saeal.MrDaebackService.voiceOrder.config.GroqHttpMetricsInterceptor;
+import com.saeal.MrDaebackService.voiceOrder.service.resilience.GroqResilience;
+import com.saeal.MrDaebackService.voiceOrder.service.resilience.GroqUnavailableException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * JDK HttpServer 스텁으로 STT 스트리밍 업로드 확인
+ * - 업로드도 GroqHttpMetricsInterceptor 의 동시 호출 슬롯/지표를 거쳐야 함
+ */
+class GroqServiceTest {
+
+    private static final String STT_PATH = "/audio/transcriptions";
+
+    private final AtomicReference<String> receivedBody = new AtomicReference<>();
+    private final AtomicInteger responseStatus = new AtomicInteger(200);
+
+    private HttpServer server;
+    private GroqResilience resilience;
+    private GroqHttpMetricsInterceptor interceptor;
+    private GroqService groqService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext(STT_PATH, exchange -> {
+            try (InputStream body = exchange.getRequestBody()) {
+                receivedBody.set(new String(body.readAllBytes(), StandardCharsets.ISO_8859_1));
+            }
+            int status = responseStatus.get();
+            respond(exchange, status, status == 200 ? "{\"text\":\"발렌타인 디너 하나\"}" : "{\"error\":\"busy\"}");
+        });
+        server.start();
+
+        GroqConfig groqConfig = new GroqConfig();
+        groqConfig.setBaseUrl("http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort());
+        groqConfig.setApiKey("test-key");
+        groqConfig.setHttp2Enabled(false);
+        groqConfig.getResilience().setBreakerFailureThreshold(1);
+
+        GroqHttpClientConfig clientConfig = new GroqHttpClientConfig(groqConfig);
+        HttpClient httpClient = clientConfig.groqHttpClient();
+        interceptor = new GroqHttpMetricsInterceptor(groqConfig);
+        resilience = new GroqResilience(groqConfig);
+        groqService = new GroqService(groqConfig, new ObjectMapper(), resilience,
+                clientConfig.groqRestTemplate(httpClient, interceptor), httpClient, interceptor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        resilience.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    void streamedUploadIsTrackedByInterceptor() {
+        byte[] audio = "RIFF-fake-audio-bytes".getBytes(StandardCharsets.ISO_8859_1);
+
+        String text = groqService.transcribeStream(new ByteArrayInputStream(audio), "wav");
+
+        assertThat(text).isEqualTo("발렌타인 디너 하나");
+        assertThat(receivedBody.get())
+                .contains("filename=\"audio.wav\"")
+                .contains("RIFF-fake-audio-bytes")
+                .contains("name=\"language\"");
+        GroqHttpMetricsInterceptor.EndpointStats stats = interceptor.getEndpointStats().get(STT_PATH);
+        assertThat(stats.getCalls()).isEqualTo(1);
+        assertThat(stats.getFailures()).isZero();
+        assertThat(interceptor.getAvailablePermits()).isEqualTo(32);
+    }
+
+    @Test
+    void serverErrorIsCountedAndDegrades() {
+        responseStatus.set(503);
+
+        assertThatThrownBy(() -> groqService.transcribeStream(new ByteArrayInputStream(new byte[16]), "webm"))
+                .isInstanceOf(GroqUnavailableException.class);
+        GroqHttpMetricsInterceptor.EndpointStats stats = interceptor.getEndpointStats().get(STT_PATH);
+        assertThat(stats.getCalls()).isEqualTo(1);
+        assertThat(stats.getFailures()).isEqualTo(1);
+        assertThat(interceptor.getAvailablePermits()).isEqualTo(32);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
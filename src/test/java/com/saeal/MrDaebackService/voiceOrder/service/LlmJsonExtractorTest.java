@@ -0,0 +1,92 @@
+package com.saeal.MrDaebackService.voiceOrder.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.saeal.MrDaebackService.voiceOrder.dto.LlmResponseDto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+/**
+ * LLM 응답 원문 → LlmResponseDto 추출 (관대한 파싱) 확인
+ */
+class LlmJsonExtractorTest {
+
+    private final LlmJsonExtractor extractor = new LlmJsonExtractor(new ObjectMapper());
+
+    static Stream<Arguments> parsableResponses() {
+        return Stream.of(
+                arguments("plain",
+                        "{\"intent\":\"GREETING\",\"entities\":{},\"message\":\"안녕하세요!\"}",
+                        "GREETING", null, null, "안녕하세요!"),
+                arguments("code fence",
+                        "```json\n{\"intent\":\"ORDER_MENU\",\"entities\":{\"menuName\":\"Valentine Dinner\"},\"message\":\"\"}\n```",
+                        "ORDER_MENU", "Valentine Dinner", null, ""),
+                arguments("trailing commas",
+                        "{\"intent\":\"ORDER_MENU\",\"entities\":{\"menuName\":\"Valentine Dinner\",\"quantity\":2,},\"message\":\"\",}",
+                        "ORDER_MENU", "Valentine Dinner", 2, ""),
+                arguments("single quotes",
+                        "{'intent':'ORDER_MENU','entities':{'menuName':'French Dinner'},'message':'프렌치 디너요'}",
+                        "ORDER_MENU", "French Dinner", null, "프렌치 디너요"),
+                arguments("unquoted keys",
+                        "{intent:\"PROCEED_CHECKOUT\",entities:{},message:\"\"}",
+                        "PROCEED_CHECKOUT", null, null, ""),
+                arguments("raw newline in string",
+                        "{\"intent\":\"GREETING\",\"entities\":{},\"message\":\"첫 줄\n둘째 줄\"}",
+                        "GREETING", null, null, "첫 줄\n둘째 줄"),
+                arguments("preamble with stray brace",
+                        "다음 형식 {intent, entities} 으로 답할게요:\n{\"intent\":\"CANCEL_ORDER\",\"entities\":{},\"message\":\"\"}",
+                        "CANCEL_ORDER", null, null, ""),
+                arguments("trailing explanation with another object",
+                        "네 {\"intent\":\"GREETING\",\"entities\":{},\"message\":\"a\"} 그리고 {\"intent\":\"CANCEL_ORDER\"}",
+                        "GREETING", null, null, "a"),
+                arguments("fourth brace is the response",
+                        "{a {b {c {\"intent\":\"GREETING\"}",
+                        "GREETING", null, null, null)
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("parsableResponses")
+    void extractsFirstResponseObject(String description, String raw, String intent, String menuName,
+                                     Integer quantity, String message) {
+        Optional<LlmResponseDto> result = extractor.extract(raw);
+
+        assertThat(result).isPresent();
+        LlmResponseDto response = result.get();
+        assertThat(response.getIntent()).isEqualTo(intent);
+        assertThat(response.getMessage()).isEqualTo(message);
+        if (menuName != null || quantity != null) {
+            assertThat(response.getEntities().getMenuName()).isEqualTo(menuName);
+            assertThat(response.getEntities().getQuantity()).isEqualTo(quantity);
+        }
+    }
+
+    static Stream<Arguments> unparsableResponses() {
+        return Stream.of(
+                arguments("no object", "JSON 없이 답변합니다"),
+                arguments("truncated after entities",
+                        "{\"intent\":\"ORDER_MENU\",\"entities\":{\"menuName\":\"Valentine Dinner\"},\"mess"),
+                arguments("truncated inside string", "{\"intent\":\"ORDER_MENU\",\"entities\":{\"menuName\":\"Valentine"),
+                arguments("wrong value type", "{\"intent\":\"ORDER_MENU\",\"entities\":{\"quantity\":\"두개\"}}"),
+                arguments("too many stray braces", "{a {b {c {d {\"intent\":\"GREETING\"}")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("unparsableResponses")
+    void brokenResponseIsEmpty(String description, String raw) {
+        assertThat(extractor.extract(raw)).isEmpty();
+    }
+
+    @Test
+    void nullIsEmpty() {
+        assertThat(extractor.extract(null)).isEmpty();
+    }
+}
@@ -0,0 +1,127 @@
+package com.saeal.MrDaebackService.voiceOrder.service;
+
+import com.saeal.MrDaebackService.catalog.event.CatalogChangedEvent;
+import com.saeal.MrDaebackService.voiceOrder.config.GroqConfig;
+import com.saeal.MrDaebackService.voiceOrder.dto.LlmResponseDto;
+import com.saeal.MrDaebackService.voiceOrder.dto.request.ChatRequestDto.OrderItemRequestDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * LLM 응답 캐시 키/LRU/TTL/무효화 확인
+ */
+class LlmResponseCacheTest {
+
+    private GroqConfig groqConfig;
+    private MenuMatcher menuMatcher;
+    private LlmResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        groqConfig = new GroqConfig();
+        groqConfig.setResponseCacheMaxEntries(2);
+        menuMatcher = mock(MenuMatcher.class);
+        when(menuMatcher.getCatalogVersion()).thenReturn(1L);
+        cache = new LlmResponseCache(groqConfig, menuMatcher);
+    }
+
+    @Test
+    void keyIgnoresSpacingAndPunctuationButNotOrderState() {
+        List<OrderItemRequestDto> order = List.of(item("d1", "s1", 1, Map.of("스테이크", 1, "와인", 1)));
+
+        String key = cache.keyOf("두 개요!", order, "서울").orElseThrow();
+
+        assertThat(cache.keyOf("두개요", order, "서울")).contains(key);
+        // 구성요소 Map 순서는 키에 영향 없음
+        Map<String, Integer> reordered = new LinkedHashMap<>();
+        reordered.put("와인", 1);
+        reordered.put("스테이크", 1);
+        assertThat(cache.keyOf("두개요", List.of(item("d1", "s1", 1, reordered)), "서울")).contains(key);
+
+        assertThat(cache.keyOf("두개요", List.of(item("d1", "s1", 2, Map.of("스테이크", 1, "와인", 1))), "서울"))
+                .isPresent().get().isNotEqualTo(key);
+        assertThat(cache.keyOf("두개요", order, "부산")).isPresent().get().isNotEqualTo(key);
+        assertThat(cache.keyOf("두개요", List.of(), "서울")).isPresent().get().isNotEqualTo(key);
+
+        when(menuMatcher.getCatalogVersion()).thenReturn(2L);
+        assertThat(cache.keyOf("두개요", order, "서울")).isPresent().get().isNotEqualTo(key);
+    }
+
+    @Test
+    void blankMessageIsNotCached() {
+        assertThat(cache.keyOf("  ?! ", null, null)).isEmpty();
+    }
+
+    @Test
+    void hitAndMissAreCounted() {
+        LlmResponseDto response = new LlmResponseDto("GREETING", new LlmResponseDto.ExtractedEntities(), "안녕하세요!");
+        cache.put("k1", response);
+
+        assertThat(cache.get("k1")).containsSame(response);
+        assertThat(cache.get("k2")).isEmpty();
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(cache.getMisses()).isEqualTo(1);
+        assertThat(cache.getHitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvicted() {
+        cache.put("k1", response("1"));
+        cache.put("k2", response("2"));
+        cache.get("k1");
+        cache.put("k3", response("3"));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("k2")).isEmpty();
+        assertThat(cache.get("k1")).isPresent();
+        assertThat(cache.get("k3")).isPresent();
+    }
+
+    @Test
+    void expiredEntryIsRemovedOnRead() {
+        groqConfig.setResponseCacheTtlSeconds(0);
+        cache.put("k1", response("1"));
+
+        assertThat(cache.get("k1")).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void disabledCacheStoresNothing() {
+        groqConfig.setResponseCacheMaxEntries(0);
+        cache.put("k1", response("1"));
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void catalogChangeClearsEntries() {
+        cache.put("k1", response("1"));
+        cache.put("k2", response("2"));
+
+        cache.onCatalogChanged(new CatalogChangedEvent("dinner updated"));
+
+        assertThat(cache.size()).isZero();
+    }
+
+    private static LlmResponseDto response(String message) {
+        return new LlmResponseDto("ASK_MENU_INFO", new LlmResponseDto.ExtractedEntities(), message);
+    }
+
+    private static OrderItemRequestDto item(String dinnerId, String styleId, int quantity, Map<String, Integer> components) {
+        OrderItemRequestDto item = new OrderItemRequestDto();
+        item.setDinnerId(dinnerId);
+        item.setServingStyleId(styleId);
+        item.setQuantity(quantity);
+        item.setComponents(components);
+        return item;
+    }
+}
@@ -0,0 +1,93 @@
+package com.saeal.MrDaebackService.voiceOrder.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스트리밍 LLM JSON 점진 파싱 확인
+ * - 한 글자씩 / 이스케이프 중간에서 끊긴 조각으로 넣어도 결과가 같아야 함
+ */
+class LlmStreamParserTest {
+
+    private static final String FENCED_RESPONSE = "```json\n{\"intent\":\"ORDER_MENU\","
+            + "\"entities\":{\"menuName\":\"Valentine Dinner\",\"memo\":\"문 앞 {x} \\\"벨\\\"\",\"list\":[1,{\"a\":2}]},"
+            + "\"message\":\"발렌타인 디너를 담았어요!\\n스타일은 \\uADF8랜드?\"}\n```";
+
+    @Test
+    void charByCharStreamYieldsIntentEntitiesAndMessage() {
+        LlmStreamParser parser = new LlmStreamParser();
+        StringBuilder deltas = new StringBuilder();
+        boolean intentBeforeMessage = false;
+        for (int i = 0; i < FENCED_RESPONSE.length(); i++) {
+            String delta = parser.append(String.valueOf(FENCED_RESPONSE.charAt(i)));
+            if (!delta.isEmpty() && deltas.length() == 0) {
+                intentBeforeMessage = parser.getIntent() != null && parser.getEntitiesJson() != null;
+            }
+            deltas.append(delta);
+        }
+
+        assertThat(parser.isComplete()).isTrue();
+        assertThat(parser.getIntent()).isEqualTo("ORDER_MENU");
+        assertThat(parser.getEntitiesJson())
+                .isEqualTo("{\"menuName\":\"Valentine Dinner\",\"memo\":\"문 앞 {x} \\\"벨\\\"\",\"list\":[1,{\"a\":2}]}");
+        assertThat(parser.getMessage()).isEqualTo("발렌타인 디너를 담았어요!\n스타일은 그랜드?");
+        assertThat(deltas.toString()).isEqualTo(parser.getMessage());
+        assertThat(intentBeforeMessage).isTrue();
+        assertThat(parser.getRaw()).isEqualTo(FENCED_RESPONSE);
+    }
+
+    @Test
+    void intentIsAvailableAsSoonAsItsStringCloses() {
+        LlmStreamParser parser = new LlmStreamParser();
+
+        assertThat(parser.append("{\"intent\":\"GREET")).isEmpty();
+        assertThat(parser.getIntent()).isNull();
+
+        assertThat(parser.append("ING\",\"message\":\"안녕")).isEqualTo("안녕");
+        assertThat(parser.getIntent()).isEqualTo("GREETING");
+    }
+
+    @Test
+    void escapesSplitAcrossChunksAreDecoded() {
+        LlmStreamParser parser = new LlmStreamParser();
+
+        assertThat(parser.append("{\"message\":\"안녕\\")).isEqualTo("안녕");
+        assertThat(parser.append("n하세요\\uAC")).isEqualTo("\n하세요");
+        assertThat(parser.append("00\"}")).isEqualTo("가");
+        assertThat(parser.isComplete()).isTrue();
+        assertThat(parser.getMessage()).isEqualTo("안녕\n하세요가");
+    }
+
+    @Test
+    void inputAfterTopLevelObjectIsIgnored() {
+        LlmStreamParser parser = new LlmStreamParser();
+        parser.append("{\"intent\":\"GREETING\",\"message\":\"안녕\"}");
+
+        assertThat(parser.append("{\"message\":\"x\"}")).isEmpty();
+        assertThat(parser.getMessage()).isEqualTo("안녕");
+        assertThat(parser.getEntitiesJson()).isNull();
+    }
+
+    @Test
+    void nestedKeysDoNotLeakIntoTopLevelFields() {
+        LlmStreamParser parser = new LlmStreamParser();
+        parser.append("{\"intent\":\"ORDER_MENU\",\"entities\":{\"intent\":\"B\",\"message\":\"nested\"}");
+
+        assertThat(parser.getIntent()).isEqualTo("ORDER_MENU");
+        assertThat(parser.getMessage()).isEmpty();
+        assertThat(parser.getEntitiesJson()).isEqualTo("{\"intent\":\"B\",\"message\":\"nested\"}");
+        assertThat(parser.isComplete()).isFalse();
+    }
+
+    @Test
+    void fieldOrderDoesNotMatter() {
+        LlmStreamParser parser = new LlmStreamParser();
+        parser.append("{\"message\":\"먼저 메시지\",\"intent\":\"GREETING\",\"entities\":{}}");
+
+        assertThat(parser.getMessage()).isEqualTo("먼저 메시지");
+        assertThat(parser.getIntent()).isEqualTo("GREETING");
+        assertThat(parser.getEntitiesJson()).isEqualTo("{}");
+        assertThat(parser.isComplete()).isTrue();
+    }
+}
@@ -0,0 +1,199 @@
+package com.saeal.MrDaebackService.voiceOrder.service;
+
+import com.saeal.MrDaebackService.dinner.domain.Dinner;
+import com.saeal.MrDaebackService.dinner.dto.response.DinnerResponseDto;
+import com.saeal.MrDaebackService.servingStyle.domain.ServingStyle;
+import com.saeal.MrDaebackService.servingStyle.dto.response.ServingStyleResponseDto;
+import com.saeal.MrDaebackService.voiceOrder.dto.LlmResponseDto;
+import com.saeal.MrDaebackService.voiceOrder.dto.response.OrderItemDto;
+import com.saeal.MrDaebackService.voiceOrder.enums.UserIntent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 짧은 발화 로컬 분류 규칙 확인
+ * - 규칙에 딱 맞지 않거나 진행 중인 아이템 상태와 맞지 않으면 empty (LLM 위임)
+ */
+class LocalIntentClassifierTest {
+
+    private static final OrderItemDto NEEDS_STYLE = OrderItemDto.builder()
+            .dinnerId(UUID.randomUUID().toString())
+            .build();
+    private static final OrderItemDto NEEDS_QUANTITY = OrderItemDto.builder()
+            .dinnerId(UUID.randomUUID().toString())
+            .servingStyleId(UUID.randomUUID().toString())
+            .build();
+
+    private MenuMatcher menuMatcher;
+    private LocalIntentClassifier classifier;
+
+    @BeforeEach
+    void setUp() {
+        menuMatcher = mock(MenuMatcher.class);
+        when(menuMatcher.findStyleByExactName("그랜드 스타일")).thenReturn(Optional.of(style("Grand Style")));
+        when(menuMatcher.findStyleByExactName("디럭스")).thenReturn(Optional.of(style("Deluxe Style")));
+        classifier = new LocalIntentClassifier(menuMatcher);
+    }
+
+    @ParameterizedTest(name = "\"{0}\" → {1}")
+    @CsvSource({
+            "네, PROCEED_CHECKOUT",
+            "네!, PROCEED_CHECKOUT",
+            "결제할게요., PROCEED_CHECKOUT",
+            "주문 해 주세요, PROCEED_CHECKOUT",
+            "결제 진행해주세요, PROCEED_CHECKOUT",
+            "ㅇㅇ ㅎㅎ, PROCEED_CHECKOUT",
+            "취소, CANCEL_ORDER",
+            "주문 취소해주세요, CANCEL_ORDER",
+            "안 할래요, CANCEL_ORDER",
+            "안녕하세요~, GREETING",
+            "Hello!, GREETING",
+    })
+    void wholeUtteranceRulesWithoutPendingItem(String utterance, UserIntent expected) {
+        Optional<LlmResponseDto> result = classifier.classify(utterance, null);
+
+        assertThat(result).isPresent();
+        assertThat(result.get().getIntent()).isEqualTo(expected.name());
+        assertThat(result.get().getMessage()).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "응응", "취소 말고 결제", "두 개요", "발렌타인 디너 2개 주세요", "그랜드 스타일로"})
+    void ambiguousOrContextDependentUtteranceIsDelegated(String utterance) {
+        assertThat(classifier.classify(utterance, null)).isEmpty();
+    }
+
+    @Test
+    void yesWhileItemIsIncompleteIsDelegated() {
+        assertThat(classifier.classify("네", NEEDS_STYLE)).isEmpty();
+        assertThat(classifier.classify("취소", NEEDS_STYLE).map(LlmResponseDto::getIntent))
+                .contains(UserIntent.CANCEL_ORDER.name());
+    }
+
+    @ParameterizedTest(name = "\"{0}\" → {1}")
+    @CsvSource({
+            "두 개요, 2",
+            "3개로 할게요, 3",
+            "열 개 주세요, 10",
+            "세개, 3",
+            "다섯 인분요, 5",
+    })
+    void quantityAnswerForStyledItem(String utterance, int expected) {
+        Optional<LlmResponseDto> result = classifier.classify(utterance, NEEDS_QUANTITY);
+
+        assertThat(result).isPresent();
+        assertThat(result.get().getIntent()).isEqualTo(UserIntent.ORDER_MENU.name());
+        assertThat(result.get().getEntities().getQuantity()).isEqualTo(expected);
+    }
+
+    @Test
+    void quantityAnswerBeforeStyleIsDelegated() {
+        assertThat(classifier.classify("두 개요", NEEDS_STYLE)).isEmpty();
+        assertThat(classifier.classify("두 개 추가요", NEEDS_QUANTITY)).isEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0개요", "99999999999개요", "1000개로 할게요"})
+    void zeroOrOverlongQuantityIsDelegated(String utterance) {
+        assertThat(classifier.classify(utterance, NEEDS_QUANTITY)).isEmpty();
+    }
+
+    @ParameterizedTest(name = "\"{0}\" → {1}")
+    @CsvSource({
+            "그랜드 스타일로, Grand Style",
+            "디럭스로 해주세요, Deluxe Style",
+    })
+    void styleAnswerMatchedExactly(String utterance, String expected) {
+        Optional<LlmResponseDto> result = classifier.classify(utterance, NEEDS_STYLE);
+
+        assertThat(result).isPresent();
+        assertThat(result.get().getIntent()).isEqualTo(UserIntent.ORDER_MENU.name());
+        assertThat(result.get().getEntities().getStyleName()).isEqualTo(expected);
+    }
+
+    @Test
+    void unknownStyleNameIsDelegated() {
+        assertThat(classifier.classify("심플이요", NEEDS_STYLE)).isEmpty();
+    }
+
+    @Test
+    void hitRateCountsLocalHitsAndFallbacks() {
+        classifier.classify("네", null);
+        classifier.classify("취소", null);
+        classifier.classify("스테이크 빼주세요", null);
+        classifier.classify("", null);
+
+        assertThat(classifier.getLocalHits()).isEqualTo(2);
+        assertThat(classifier.getLlmFallbacks()).isEqualTo(2);
+        assertThat(classifier.getHitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    void degradedModeFindsDinnerStyleAndQuantityInSentence() {
+        String utterance = "발렌타인 디너 그랜드로 2개 주세요";
+        when(menuMatcher.findDinnerByName(utterance)).thenReturn(Optional.of(dinner("Valentine Dinner")));
+        when(menuMatcher.findStyleByName(utterance)).thenReturn(Optional.of(style("Grand Style")));
+
+        LlmResponseDto result = classifier.classifyDegraded(utterance, null);
+
+        assertThat(result.getIntent()).isEqualTo(UserIntent.ORDER_MENU.name());
+        assertThat(result.getEntities().getMenuName()).isEqualTo("Valentine Dinner");
+        assertThat(result.getEntities().getStyleName()).isEqualTo("Grand Style");
+        assertThat(result.getEntities().getQuantity()).isEqualTo(2);
+    }
+
+    @Test
+    void degradedModeLeavesOverlongQuantityUnset() {
+        String utterance = "발렌타인 디너 99999999999개 주세요";
+        when(menuMatcher.findDinnerByName(utterance)).thenReturn(Optional.of(dinner("Valentine Dinner")));
+        when(menuMatcher.findStyleByName(utterance)).thenReturn(Optional.empty());
+
+        LlmResponseDto result = classifier.classifyDegraded(utterance, null);
+
+        assertThat(result.getIntent()).isEqualTo(UserIntent.ORDER_MENU.name());
+        assertThat(result.getEntities().getMenuName()).isEqualTo("Valentine Dinner");
+        assertThat(result.getEntities().getQuantity()).isNull();
+    }
+
+    @Test
+    void degradedModeUsesKeywordsAndFallsBackToGuidance() {
+        when(menuMatcher.findDinnerByName("샴페인 2병")).thenReturn(Optional.of(dinner("Champagne Feast Dinner")));
+
+        assertThat(classifier.classifyDegraded("결제 좀 해줄래요", null).getIntent())
+                .isEqualTo(UserIntent.PROCEED_CHECKOUT.name());
+        assertThat(classifier.classifyDegraded("아까 그거 취소요", null).getIntent())
+                .isEqualTo(UserIntent.CANCEL_ORDER.name());
+        // 구성요소 이름이 디너 별칭과 겹치는 경우 주문으로 보지 않음
+        LlmResponseDto guidance = classifier.classifyDegraded("샴페인 2병", null);
+        assertThat(guidance.getIntent()).isEqualTo(UserIntent.ASK_MENU_INFO.name());
+        assertThat(guidance.getMessage()).isNotBlank();
+    }
+
+    private static ServingStyleResponseDto style(String name) {
+        return ServingStyleResponseDto.from(ServingStyle.builder()
+                .id(UUID.randomUUID())
+                .styleName(name)
+                .extraPrice(BigDecimal.ZERO)
+                .isActive(true)
+                .build());
+    }
+
+    private static DinnerResponseDto dinner(String name) {
+        return DinnerResponseDto.from(Dinner.builder()
+                .id(UUID.randomUUID())
+                .dinnerName(name)
+                .basePrice(new BigDecimal("60000"))
+                .build());
+    }
+}
@@ -0,0 +1,117 @@
+package com.saeal.MrDaebackService.voiceOrder.service;
+
+import com.saeal.MrDaebackService.voiceOrder.config.GroqConfig;
+import com.saeal.MrDaebackService.voiceOrder.dto.request.ChatRequestDto.OrderItemRequestDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 턴당 프롬프트 생성 시간/할당량 측정 (JMH 대신 JUnit 안에서 워밍업 후 반복 측정)
+ * - 한 턴 = buildSystemPrompt + buildContext + trimHistory (VoiceOrderService.requestLlmResponse 와 같은 순서)
+ * - 할당량은 현재 스레드 기준 (com.sun.management.ThreadMXBean), 지원하지 않는 JVM 에서는 건너뜀
+ * - 시간은 환경마다 달라 출력만 하고, 할당량만 상한으로 검증
+ */
+class PromptBuilderBenchmarkTest {
+
+    private static final int WARMUP_TURNS = 20_000;
+    private static final int MEASURED_TURNS = 100_000;
+
+    private PromptBuilder promptBuilder;
+    private List<OrderItemRequestDto> order;
+    private List<Map<String, String>> history;
+
+    @BeforeEach
+    void setUp() {
+        // Mockito 목은 호출마다 기록 객체를 할당하므로 고정 값을 돌려주는 하위 클래스 사용
+        MenuMatcher menuMatcher = new MenuMatcher(null, null, null) {
+            @Override
+            public long getCatalogVersion() {
+                return 1L;
+            }
+
+            @Override
+            public String getMenuListForPrompt() {
+                return "- Valentine Dinner (발렌타인 디너): 60,000원\n- French Dinner (프렌치 디너): 70,000원";
+            }
+        };
+        promptBuilder = new PromptBuilder(menuMatcher, new GroqConfig());
+
+        order = List.of(
+                item("Valentine Dinner", "Grand Style", 2, 130_000),
+                item("French Dinner", null, 1, 70_000),
+                item("Champagne Feast Dinner", "Deluxe Style", 1, 120_000));
+        history = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            history.add(Map.of("role", i % 2 == 0 ? "user" : "assistant", "content", "발렌타인 디너 그랜드 스타일로 " + i));
+        }
+    }
+
+    @Test
+    void measuresBuildTimeAndAllocationPerTurn() {
+        com.sun.management.ThreadMXBean threads = allocationCounter();
+
+        int sink = 0;
+        for (int i = 0; i < WARMUP_TURNS; i++) {
+            sink += turn();
+        }
+
+        long systemPromptBytes = allocatedBytes(threads);
+        for (int i = 0; i < MEASURED_TURNS; i++) {
+            sink += promptBuilder.buildSystemPrompt().length();
+        }
+        systemPromptBytes = allocatedBytes(threads) - systemPromptBytes;
+
+        long turnBytes = allocatedBytes(threads);
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < MEASURED_TURNS; i++) {
+            sink += turn();
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        turnBytes = allocatedBytes(threads) - turnBytes;
+
+        int contextLength = promptBuilder.buildContext(order, "서울시 강남구 테헤란로 1").length();
+        System.out.printf("[PromptBuilder] %.0f ns/turn, %.1f B/turn, systemPrompt %.2f B/call (sink=%d)%n",
+                (double) elapsedNanos / MEASURED_TURNS, (double) turnBytes / MEASURED_TURNS,
+                (double) systemPromptBytes / MEASURED_TURNS, sink);
+
+        // 시스템 프롬프트는 카탈로그 버전이 같으면 캐시된 문자열을 그대로 반환 (할당 없음)
+        assertThat((double) systemPromptBytes / MEASURED_TURNS).isLessThan(1.0);
+        // 턴당 할당은 컨텍스트 문자열(UTF-16) 복사본 + 통계 로그 정도 - 시스템 프롬프트(수 KB)를 다시 만들면 초과
+        assertThat((double) turnBytes / MEASURED_TURNS).isLessThan(4.0 * contextLength + 512);
+    }
+
+    private int turn() {
+        return promptBuilder.buildSystemPrompt().length()
+                + promptBuilder.buildContext(order, "서울시 강남구 테헤란로 1").length()
+                + promptBuilder.trimHistory(history).size();
+    }
+
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+        return threads;
+    }
+
+    private static long allocatedBytes(com.sun.management.ThreadMXBean threads) {
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static OrderItemRequestDto item(String dinnerName, String styleName, int quantity, int totalPrice) {
+        OrderItemRequestDto item = new OrderItemRequestDto();
+        item.setDinnerName(dinnerName);
+        item.setServingStyleName(styleName);
+        item.setQuantity(quantity);
+        item.setTotalPrice(totalPrice);
+        return item;
+    }
+}
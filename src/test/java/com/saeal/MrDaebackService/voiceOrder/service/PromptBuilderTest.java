@@ -0,0 +1,120 @@
+package com.saeal.MrDaebackService.voiceOrder.service;
+
+import com.saeal.MrDaebackService.voiceOrder.config.GroqConfig;
+import com.saeal.MrDaebackService.voiceOrder.dto.request.ChatRequestDto.OrderItemRequestDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 시스템 프롬프트 prefix 안정성 / 턴별 컨텍스트 / 히스토리 자르기 확인
+ */
+class PromptBuilderTest {
+
+    private GroqConfig groqConfig;
+    private MenuMatcher menuMatcher;
+    private PromptBuilder promptBuilder;
+
+    @BeforeEach
+    void setUp() {
+        groqConfig = new GroqConfig();
+        menuMatcher = mock(MenuMatcher.class);
+        when(menuMatcher.getCatalogVersion()).thenReturn(1L);
+        when(menuMatcher.getMenuListForPrompt()).thenReturn("- Valentine Dinner (발렌타인 디너): 60,000원");
+        promptBuilder = new PromptBuilder(menuMatcher, groqConfig);
+    }
+
+    @Test
+    void systemPromptIsByteStableAcrossTurns() {
+        String first = promptBuilder.buildSystemPrompt();
+        promptBuilder.buildContext(List.of(item("Valentine Dinner", "Grand Style", 1, 65_000)), "서울시 강남구");
+        promptBuilder.buildContext(List.of(), null);
+        String second = promptBuilder.buildSystemPrompt();
+
+        assertThat(second).isSameAs(first);
+        assertThat(first).contains("Valentine Dinner (발렌타인 디너)")
+                .doesNotContain("Current Order")
+                .doesNotContain("배달 주소");
+        verify(menuMatcher, times(1)).getMenuListForPrompt();
+    }
+
+    @Test
+    void catalogVersionChangeRendersPromptAgain() {
+        String before = promptBuilder.buildSystemPrompt();
+
+        when(menuMatcher.getCatalogVersion()).thenReturn(2L);
+        when(menuMatcher.getMenuListForPrompt()).thenReturn("- French Dinner (프렌치 디너): 70,000원");
+        String after = promptBuilder.buildSystemPrompt();
+
+        assertThat(after).isNotEqualTo(before).contains("French Dinner").doesNotContain("Valentine Dinner");
+        assertThat(promptBuilder.buildSystemPrompt()).isSameAs(after);
+    }
+
+    @Test
+    void contextSummarizesOrderAndAddress() {
+        List<OrderItemRequestDto> order = List.of(
+                item("Valentine Dinner", "Grand Style", 2, 1_234_567),
+                item("French Dinner", null, 1, 999));
+
+        assertThat(promptBuilder.buildContext(order, "서울시 강남구")).isEqualTo("""
+                ## Current Order
+                1. Valentine Dinner (Grand Style) x2 = 1,234,567원
+                2. French Dinner (스타일 미선택) x1 = 999원
+
+                ## 배달 주소: 서울시 강남구""");
+        assertThat(promptBuilder.buildContext(null, "")).isEqualTo("## Current Order: 없음\n## 배달 주소: 자동 설정됨");
+        assertThat(promptBuilder.getBuildCount()).isEqualTo(2);
+        assertThat(promptBuilder.getAverageEstimatedTokens()).isGreaterThan(0.0);
+    }
+
+    @ParameterizedTest(name = "\"{0}\" → {1}")
+    @CsvSource({
+            "'', 0",
+            "abcd, 1",
+            "abcde, 2",
+            "안녕, 2",
+            "ab안녕, 3",
+    })
+    void estimateTokensCountsAsciiByFourAndOthersByOne(String text, int expected) {
+        assertThat(PromptBuilder.estimateTokens(text, 0, text.length())).isEqualTo(expected);
+    }
+
+    @Test
+    void trimHistoryKeepsRecentMessagesWithinCountAndTokenBudget() {
+        List<Map<String, String>> history = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            // 10 토큰 + 메시지당 4 토큰
+            history.add(Map.of("role", "user", "content", "가나다라마바사아자" + i));
+        }
+
+        groqConfig.setHistoryTokenBudget(0);
+        assertThat(promptBuilder.trimHistory(history)).containsExactlyElementsOf(history.subList(1, 5));
+
+        groqConfig.setHistoryTokenBudget(30);
+        assertThat(promptBuilder.trimHistory(history)).containsExactlyElementsOf(history.subList(3, 5));
+
+        groqConfig.setHistoryTokenBudget(10);
+        assertThat(promptBuilder.trimHistory(history)).isEmpty();
+        assertThat(promptBuilder.trimHistory(null)).isEmpty();
+    }
+
+    private static OrderItemRequestDto item(String dinnerName, String styleName, int quantity, int totalPrice) {
+        OrderItemRequestDto item = new OrderItemRequestDto();
+        item.setDinnerName(dinnerName);
+        item.setServingStyleName(styleName);
+        item.setQuantity(quantity);
+        item.setTotalPrice(totalPrice);
+        return item;
+    }
+}
@@ -0,0 +1,136 @@
+package com.saeal.MrDaebackService.voiceOrder.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.saeal.MrDaebackService.cart.service.CartService;
+import com.saeal.MrDaebackService.product.service.ProductService;
+import com.saeal.MrDaebackService.user.repository.UserRepository;
+import com.saeal.MrDaebackService.voiceOrder.config.GroqConfig;
+import com.saeal.MrDaebackService.voiceOrder.config.GroqHttpClientConfig;
+import com.saeal.MrDaebackService.voiceOrder.config.GroqHttpMetricsInterceptor;
+import com.saeal.MrDaebackService.voiceOrder.config.VoiceOrderProperties;
+import com.saeal.MrDaebackService.voiceOrder.dto.request.ChatRequestDto;
+import com.saeal.MrDaebackService.voiceOrder.dto.response.ChatResponseDto;
+import com.saeal.MrDaebackService.voiceOrder.enums.UserIntent;
+import com.saeal.MrDaebackService.voiceOrder.service.engine.SpeechToTextEngine;
+import com.saeal.MrDaebackService.voiceOrder.service.intent.IntentContext;
+import com.saeal.MrDaebackService.voiceOrder.service.intent.IntentHandlerRegistry;
+import com.saeal.MrDaebackService.voiceOrder.service.intent.IntentResult;
+import com.saeal.MrDaebackService.voiceOrder.service.resilience.CircuitBreaker;
+import com.saeal.MrDaebackService.voiceOrder.service.resilience.GroqEndpoint;
+import com.saeal.MrDaebackService.voiceOrder.service.resilience.GroqResilience;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Groq 회로 차단 중 음성 주문 축소 모드 응답 확인
+ * - LLM 을 호출하지 않고 LocalIntentClassifier.classifyDegraded 결과로 핸들러를 실행해야 함
+ */
+class VoiceOrderServiceTest {
+
+    private final AtomicInteger groqRequests = new AtomicInteger();
+    private final AtomicReference<IntentContext> handledContext = new AtomicReference<>();
+
+    private HttpServer server;
+    private GroqResilience resilience;
+    private VoiceOrderService voiceOrderService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            groqRequests.incrementAndGet();
+            exchange.sendResponseHeaders(500, -1);
+            exchange.close();
+        });
+        server.start();
+
+        GroqConfig groqConfig = new GroqConfig();
+        groqConfig.setBaseUrl("http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort());
+        groqConfig.setApiKey("test-key");
+        groqConfig.setHttp2Enabled(false);
+        groqConfig.getResilience().setBreakerFailureThreshold(1);
+        groqConfig.getResilience().setMaxRetries(0);
+
+        GroqHttpClientConfig clientConfig = new GroqHttpClientConfig(groqConfig);
+        HttpClient httpClient = clientConfig.groqHttpClient();
+        GroqHttpMetricsInterceptor interceptor = new GroqHttpMetricsInterceptor(groqConfig);
+        resilience = new GroqResilience(groqConfig);
+        GroqService groqService = new GroqService(groqConfig, new ObjectMapper(), resilience,
+                clientConfig.groqRestTemplate(httpClient, interceptor), httpClient, interceptor);
+
+        PromptBuilder promptBuilder = mock(PromptBuilder.class);
+        when(promptBuilder.buildSystemPrompt()).thenReturn("system");
+        when(promptBuilder.buildContext(any(), any())).thenReturn("context");
+        when(promptBuilder.trimHistory(any())).thenReturn(List.of());
+
+        IntentHandlerRegistry intentHandlerRegistry = mock(IntentHandlerRegistry.class);
+        when(intentHandlerRegistry.process(any(), any())).thenAnswer(invocation -> {
+            IntentContext context = invocation.getArgument(1);
+            handledContext.set(context);
+            return IntentResult.builder().message(context.getLlmResponse().getMessage()).build();
+        });
+        ResponseMessageBuilder responseMessageBuilder = mock(ResponseMessageBuilder.class);
+        when(responseMessageBuilder.appendStatusSummary(any(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        MenuMatcher menuMatcher = mock(MenuMatcher.class);
+        voiceOrderService = new VoiceOrderService(
+                mock(SpeechToTextEngine.class),
+                groqService,
+                promptBuilder,
+                intentHandlerRegistry,
+                responseMessageBuilder,
+                mock(CartManager.class),
+                mock(UserRepository.class),
+                new ObjectMapper(),
+                mock(ProductService.class),
+                mock(CartService.class),
+                menuMatcher,
+                new LocalIntentClassifier(menuMatcher),
+                mock(LlmResponseCache.class),
+                mock(LlmJsonExtractor.class),
+                new VoiceOrderProperties(),
+                mock(VoiceSessionStore.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        resilience.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    void openBreakerAnswersInDegradedModeWithoutCallingGroq() {
+        assertThatThrownBy(() -> resilience.call(GroqEndpoint.CHAT, () -> {
+            throw new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE);
+        }));
+        assertThat(resilience.getBreakerState(GroqEndpoint.CHAT)).isEqualTo(CircuitBreaker.State.OPEN);
+
+        ChatRequestDto request = new ChatRequestDto();
+        request.setMessage("오늘 저녁으로 뭐가 맛있어요?");
+        ChatResponseDto response = voiceOrderService.processChat(request, UUID.randomUUID());
+
+        assertThat(groqRequests.get()).isZero();
+        assertThat(handledContext.get().getLlmResponse().getIntent()).isEqualTo(UserIntent.ASK_MENU_INFO.name());
+        assertThat(response.getAssistantMessage()).contains("주문 도우미 연결이 원활하지 않아요");
+    }
+}
@@ -0,0 +1,91 @@
+package com.saeal.MrDaebackService.voiceOrder.service;
+
+import com.saeal.MrDaebackService.voiceOrder.config.VoiceOrderProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 서버 측 음성 주문 세션 저장소 (소유자 확인/LRU/TTL) 확인
+ */
+class VoiceSessionStoreTest {
+
+    private final UUID userId = UUID.randomUUID();
+
+    private VoiceOrderProperties properties;
+    private VoiceSessionStore store;
+
+    @BeforeEach
+    void setUp() {
+        properties = new VoiceOrderProperties();
+        properties.setSessionMaxEntries(2);
+        store = new VoiceSessionStore(properties);
+    }
+
+    @Test
+    void sessionIsFoundOnlyByItsOwner() {
+        VoiceSession session = store.create(userId, List.of("서울시 강남구"));
+
+        assertThat(store.find(session.getSessionId(), userId)).containsSame(session);
+        assertThat(store.find(session.getSessionId(), UUID.randomUUID())).isEmpty();
+        assertThat(store.find(null, userId)).isEmpty();
+        assertThat(store.find(" ", userId)).isEmpty();
+        assertThat(session.getUserAddresses()).containsExactly("서울시 강남구");
+    }
+
+    @Test
+    void leastRecentlyUsedSessionIsEvicted() {
+        VoiceSession first = store.create(userId, List.of());
+        VoiceSession second = store.create(userId, List.of());
+        store.find(first.getSessionId(), userId);
+        VoiceSession third = store.create(userId, List.of());
+
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.find(second.getSessionId(), userId)).isEmpty();
+        assertThat(store.find(first.getSessionId(), userId)).isPresent();
+        assertThat(store.find(third.getSessionId(), userId)).isPresent();
+    }
+
+    @Test
+    void expiredSessionIsRemovedOnRead() {
+        properties.setSessionTtlSeconds(0);
+        VoiceSession session = store.create(userId, List.of());
+
+        assertThat(store.find(session.getSessionId(), userId)).isEmpty();
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    void removeDropsOnlyOwnSession() {
+        VoiceSession session = store.create(userId, List.of());
+
+        store.remove(session.getSessionId(), UUID.randomUUID());
+        assertThat(store.find(session.getSessionId(), userId)).isPresent();
+
+        store.remove(session.getSessionId(), userId);
+        assertThat(store.find(session.getSessionId(), userId)).isEmpty();
+    }
+
+    @Test
+    void updateKeepsOnlyRecentHistory() {
+        VoiceSession session = store.create(userId, List.of());
+        List<Map<String, String>> history = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            history.add(Map.of("role", "user", "content", "turn " + i));
+        }
+
+        session.update(null, history, 2, "서울시 강남구", "생일", null);
+
+        assertThat(session.getHistory()).extracting(message -> message.get("content"))
+                .containsExactly("turn 3", "turn 4");
+        assertThat(session.getCurrentOrder()).isEmpty();
+        assertThat(session.getSelectedAddress()).isEqualTo("서울시 강남구");
+        assertThat(session.getOccasionType()).isEqualTo("생일");
+    }
+}
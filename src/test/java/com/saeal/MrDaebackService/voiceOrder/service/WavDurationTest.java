@@ -0,0 +1,110 @@
+package com.saeal.MrDaebackService.voiceOrder.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.OptionalDouble;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WavDurationTest {
+
+    // 16kHz, mono, 16bit PCM
+    private static final int BYTE_RATE = 32_000;
+
+    @Test
+    void readsDurationFromDataChunk() throws IOException {
+        byte[] wav = wav(BYTE_RATE, 64_000, null, 64_000);
+
+        assertThat(WavDuration.read(stream(wav), wav.length)).hasValue(2.0);
+    }
+
+    @Test
+    void unknownDataSizeFallsBackToTotalBytes() throws IOException {
+        byte[] wav = wav(BYTE_RATE, 0xFFFFFFFFL, null, 96_000);
+
+        assertThat(WavDuration.read(stream(wav), wav.length)).hasValue(3.0);
+    }
+
+    @Test
+    void skipsOddSizedChunksBeforeData() throws IOException {
+        byte[] wav = wav(BYTE_RATE, 16_000, new byte[7], 16_000);
+
+        assertThat(WavDuration.read(stream(wav), wav.length)).hasValue(0.5);
+    }
+
+    @Test
+    void notWavIsEmpty() throws IOException {
+        byte[] webm = {0x1A, 0x45, (byte) 0xDF, (byte) 0xA3, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0};
+
+        assertThat(WavDuration.read(stream(webm), webm.length)).isEmpty();
+    }
+
+    @Test
+    void dataWithoutFmtIsEmpty() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(20).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put(ascii("RIFF")).putInt(12).put(ascii("WAVE")).put(ascii("data")).putInt(0);
+
+        OptionalDouble duration = WavDuration.read(stream(buffer.array()), 20);
+
+        assertThat(duration).isEmpty();
+    }
+
+    @Test
+    void streamIsRewoundForUpload() throws IOException {
+        byte[] wav = wav(BYTE_RATE, 3_200, null, 3_200);
+        InputStream audio = stream(wav);
+
+        WavDuration.read(audio, wav.length);
+
+        assertThat(audio.readAllBytes()).isEqualTo(wav);
+    }
+
+    private static InputStream stream(byte[] bytes) {
+        return new BufferedInputStream(new ByteArrayInputStream(bytes), WavDuration.HEADER_READ_LIMIT);
+    }
+
+    /**
+     * RIFF/WAVE + fmt (+ 선택 LIST) + data 청크
+     */
+    private static byte[] wav(int byteRate, long declaredDataSize, byte[] listChunk, int actualDataBytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteBuffer fmt = ByteBuffer.allocate(24).order(ByteOrder.LITTLE_ENDIAN);
+        fmt.put(ascii("fmt ")).putInt(16)
+                .putShort((short) 1).putShort((short) 1)   // PCM, mono
+                .putInt(byteRate / 2).putInt(byteRate)
+                .putShort((short) 2).putShort((short) 16);
+
+        out.writeBytes(ascii("RIFF"));
+        out.writeBytes(le32(0));
+        out.writeBytes(ascii("WAVE"));
+        out.writeBytes(fmt.array());
+        if (listChunk != null) {
+            out.writeBytes(ascii("LIST"));
+            out.writeBytes(le32(listChunk.length));
+            out.writeBytes(listChunk);
+            if ((listChunk.length & 1) == 1) {
+                out.write(0);
+            }
+        }
+        out.writeBytes(ascii("data"));
+        out.writeBytes(le32(declaredDataSize));
+        out.writeBytes(new byte[actualDataBytes]);
+        return out.toByteArray();
+    }
+
+    private static byte[] le32(long value) {
+        return ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt((int) value).array();
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,110 @@
+package com.saeal.MrDaebackService.voiceOrder.service.engine;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.saeal.MrDaebackService.voiceOrder.config.GroqConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 네트워크 없는 녹화 응답 재생 엔진 확인 (지연 0 으로 실행)
+ */
+class LocalReplayEngineTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private GroqConfig.Local settings;
+
+    @BeforeEach
+    void setUp() {
+        settings = new GroqConfig.Local();
+        settings.setChatLatencyMedianMillis(0);
+        settings.setSttLatencyMedianMillis(0);
+        settings.setStreamChunks(4);
+    }
+
+    @Test
+    void builtInRecordingsMatchNormalizedMessage() {
+        LocalReplayEngine engine = new LocalReplayEngine(settings, objectMapper);
+
+        assertThat(engine.chat("system", List.of(), "context", "결제 할게요!"))
+                .contains("\"intent\":\"PROCEED_CHECKOUT\"");
+        assertThat(engine.chat("system", List.of(), "context", "피자 주세요"))
+                .contains("\"intent\":\"ASK_MENU_INFO\"");
+    }
+
+    @Test
+    void transcriptsAreReturnedInRotation() {
+        LocalReplayEngine engine = new LocalReplayEngine(settings, objectMapper);
+
+        List<String> heard = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            heard.add(i % 2 == 0
+                    ? engine.transcribe(new byte[16], "wav")
+                    : engine.transcribeStream(new ByteArrayInputStream(new byte[16]), "wav"));
+        }
+
+        assertThat(heard).containsExactly(
+                "안녕하세요", "발렌타인 디너 주세요", "그랜드 스타일로 해주세요", "결제할게요", "안녕하세요");
+    }
+
+    @Test
+    void recordingsFileAcceptsTextAndObjectResponses(@TempDir Path dir) throws IOException {
+        Path recordings = dir.resolve("recordings.json");
+        Files.writeString(recordings, """
+                {"chat": {
+                   "커피 추가해줘": "{\\"intent\\":\\"CUSTOMIZE_MENU\\"}",
+                   "취소할게요": {"intent": "CANCEL_ORDER", "entities": {}}
+                 },
+                 "transcripts": ["커피 추가해줘"]}
+                """, StandardCharsets.UTF_8);
+        settings.setRecordingsPath(recordings.toString());
+
+        LocalReplayEngine engine = new LocalReplayEngine(settings, objectMapper);
+
+        assertThat(engine.chat("system", List.of(), "context", "커피 추가해줘")).isEqualTo("{\"intent\":\"CUSTOMIZE_MENU\"}");
+        assertThat(engine.chat("system", List.of(), "context", "취소할게요"))
+                .isEqualTo("{\"intent\":\"CANCEL_ORDER\",\"entities\":{}}");
+        assertThat(engine.transcribe(new byte[0], "wav")).isEqualTo("커피 추가해줘");
+        assertThat(engine.transcribe(new byte[0], "wav")).isEqualTo("커피 추가해줘");
+    }
+
+    @Test
+    void missingRecordingsFileFailsFast(@TempDir Path dir) {
+        settings.setRecordingsPath(dir.resolve("missing.json").toString());
+
+        assertThatThrownBy(() -> new LocalReplayEngine(settings, objectMapper))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void streamSplitsResponseAndStopsWhenListenerDeclines() {
+        LocalReplayEngine engine = new LocalReplayEngine(settings, objectMapper);
+        String full = engine.chat("system", List.of(), "context", "안녕하세요");
+
+        List<String> deltas = new ArrayList<>();
+        String streamed = engine.chatStream("system", List.of(), "context", "안녕하세요", deltas::add);
+        assertThat(deltas).hasSize(4);
+        assertThat(String.join("", deltas)).isEqualTo(full);
+        assertThat(streamed).isEqualTo(full);
+
+        List<String> partial = new ArrayList<>();
+        String stopped = engine.chatStream("system", List.of(), "context", "안녕하세요", delta -> {
+            partial.add(delta);
+            return false;
+        });
+        assertThat(partial).hasSize(1);
+        assertThat(stopped).isEqualTo(partial.get(0));
+    }
+}
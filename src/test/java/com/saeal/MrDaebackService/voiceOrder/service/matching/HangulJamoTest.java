@@ -0,0 +1,58 @@
+package com.saeal.MrDaebackService.voiceOrder.service.matching;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 자모 분해 / 발음 접기 / 편집 거리 확인
+ */
+class HangulJamoTest {
+
+    @Test
+    void normalizeLowercasesAndDropsPunctuation() {
+        assertThat(HangulJamo.normalize(" Egg-Scramble! ")).isEqualTo("eggscramble");
+        assertThat(HangulJamo.normalize("에그 스크램블")).isEqualTo("에그스크램블");
+        assertThat(HangulJamo.normalize(null)).isEmpty();
+    }
+
+    @Test
+    void decomposeSplitsSyllablesAndKeepsOtherCharacters() {
+        assertThat(HangulJamo.decompose("스테이크")).isEqualTo("ㅅㅡㅌㅔㅇㅣㅋㅡ");
+        assertThat(HangulJamo.decompose("닭")).isEqualTo("ㄷㅏㄺ");
+        assertThat(HangulJamo.decompose("a1스")).isEqualTo("a1ㅅㅡ");
+    }
+
+    @Test
+    void phoneticFoldsConfusableSounds() {
+        assertThat(HangulJamo.phonetic("스테익")).isEqualTo("ㅅㅡㄷㅔㅇㅣㄱ");
+        assertThat(HangulJamo.phonetic("스테이크")).isEqualTo("ㅅㅡㄷㅔㅇㅣㄱㅡ");
+        assertThat(HangulJamo.phonetic("닭")).isEqualTo("ㄷㅏㄱ");
+    }
+
+    @ParameterizedTest(name = "{0} ≈ {1}")
+    @CsvSource({
+            "스테잌, 스테익",
+            "스테이끄, 스테이크",
+            "샴패인, 샴페인",
+            "쌜러드, 샐러드",
+            "바게뜨, 바게트",
+            "쌀, 살",
+    })
+    void confusablePairsShareOnePhoneticKey(String heard, String expected) {
+        assertThat(HangulJamo.phonetic(heard)).isEqualTo(HangulJamo.phonetic(expected));
+    }
+
+    @Test
+    void levenshteinAndSimilarity() {
+        assertThat(HangulJamo.levenshtein("kitten", "sitting")).isEqualTo(3);
+        assertThat(HangulJamo.levenshtein("", "abc")).isEqualTo(3);
+        assertThat(HangulJamo.similarity("", "")).isEqualTo(1.0);
+        // 받침 ㄱ 뒤 "ㅡ" 하나 차이 → 1 - 1/8
+        assertThat(HangulJamo.similarity(HangulJamo.phonetic("스테익"), HangulJamo.phonetic("스테이크")))
+                .isCloseTo(0.875, within(1e-9));
+    }
+}
@@ -0,0 +1,78 @@
+package com.saeal.MrDaebackService.voiceOrder.service.matching;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 수량 토큰 변환 / 정규식 확인
+ */
+class KoreanNumberTest {
+
+    @ParameterizedTest(name = "{0} → {1}")
+    @CsvSource({
+            "1, 1", "12, 12",
+            "일, 1", "한, 1",
+            "이, 2", "두, 2",
+            "삼, 3", "세, 3",
+            "사, 4", "네, 4",
+            "오, 5", "다섯, 5",
+            "육, 6", "여섯, 6",
+            "칠, 7", "일곱, 7",
+            "팔, 8", "여덟, 8",
+            "구, 9", "아홉, 9",
+            "십, 10", "열, 10",
+    })
+    void parsesArabicAndKoreanQuantities(String token, int expected) {
+        assertThat(KoreanNumber.parse(token)).isEqualTo(expected);
+    }
+
+    @Test
+    void unknownTokenDefaultsToOne() {
+        assertThat(KoreanNumber.parse(null)).isEqualTo(1);
+        assertThat(KoreanNumber.parse("스물")).isEqualTo(1);
+    }
+
+    @Test
+    void patternPrefersLongerTokens() {
+        Matcher matcher = Pattern.compile("(" + KoreanNumber.PATTERN + ")개").matcher("일곱개");
+
+        assertThat(matcher.find()).isTrue();
+        assertThat(matcher.group(1)).isEqualTo("일곱");
+        assertThat(KoreanNumber.parse(matcher.group(1))).isEqualTo(7);
+    }
+
+    @Test
+    void patternDoesNotMatchPartOfOverlongNumber() {
+        Pattern pattern = Pattern.compile("(" + KoreanNumber.PATTERN + ")개");
+
+        assertThat(pattern.matcher("99999999999개").find()).isFalse();
+        assertThat(pattern.matcher("1234개").find()).isFalse();
+        assertThat(pattern.matcher("999개").matches()).isTrue();
+    }
+
+    @Test
+    void overlongNumberDoesNotThrow() {
+        assertThat(KoreanNumber.parse("99999999999")).isEqualTo(1);
+    }
+
+    @ParameterizedTest(name = "{0} → {1}")
+    @CsvSource({"1, 1", "999, 999", "두, 2", "열, 10"})
+    void parseQuantityAcceptsPositiveQuantities(String token, int expected) {
+        assertThat(KoreanNumber.parseQuantity(token)).hasValue(expected);
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {"0", "00", "1000", "99999999999", "스물"})
+    void parseQuantityRejectsZeroOverlongAndUnknown(String token) {
+        assertThat(KoreanNumber.parseQuantity(token)).isEmpty();
+    }
+}
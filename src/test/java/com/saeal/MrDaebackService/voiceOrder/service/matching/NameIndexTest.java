@@ -0,0 +1,118 @@
+package com.saeal.MrDaebackService.voiceOrder.service.matching;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * STT 오인식 골든 셋 → 메뉴 아이템 매칭 확인
+ * - 카탈로그는 DB 영문 이름 + MenuMatcher 의 한글 키워드 별칭과 같은 형태로 구성
+ * - 편집 거리 허용 범위: min(3, max(1, 발음 자모 길이 / 4))
+ */
+class NameIndexTest {
+
+    private static final NameIndex<String> MENU_ITEMS = NameIndex.<String>builder()
+            .add("Steak", "Steak", List.of("스테이크", "steak", "스테익"))
+            .add("Wine", "Wine", List.of("와인", "wine", "포도주"))
+            .add("Champagne", "Champagne", List.of("샴페인", "champagne"))
+            .add("Coffee", "Coffee", List.of("커피", "coffee"))
+            .add("Salad", "Salad", List.of("샐러드", "salad", "셀러드"))
+            .add("Baguette Bread", "Baguette Bread", List.of("바게트빵", "바게트", "baguette"))
+            .add("Egg Scramble", "Egg Scramble", List.of("에그 스크램블", "egg scramble", "스크램블"))
+            .add("Cake", "Cake", List.of("케이크", "cake", "케익"))
+            .build();
+
+    @ParameterizedTest(name = "\"{0}\" → {1}")
+    @CsvSource({
+            // 정확 일치 / 부분 포함
+            "스테이크, Steak",
+            "STEAK, Steak",
+            "와인 한 병, Wine",
+            "Steak please, Steak",
+            // 발음 접기 (된소리/거센소리, ㅐ/ㅔ, 받침 대표음) 로 발음 자모가 같아지는 경우
+            "스테잌, Steak",
+            "스테이끄, Steak",
+            "쌜러드, Salad",
+            "샴패인, Champagne",
+            "바게뜨, Baguette Bread",
+            "바게뜨빵, Baguette Bread",
+            "에그 쓰크램블, Egg Scramble",
+            "에그 스크렘블, Egg Scramble",
+            "케잌, Cake",
+            "께이크, Cake",
+            "포도쭈, Wine",
+            // 자모 편집 거리 허용 범위 안
+            "스테익크, Steak",
+            "코피, Coffee",
+            "와잉, Wine",
+            "스타이코, Steak",
+            "애구수크램불, Egg Scramble",
+    })
+    void noisyTranscriptResolvesToMenuItem(String transcript, String expected) {
+        assertThat(MENU_ITEMS.find(transcript)).contains(expected);
+    }
+
+    @ParameterizedTest(name = "\"{0}\" → 없음")
+    @CsvSource({
+            "피자",
+            "라면",
+            // 자모 4개 → 허용 1, 거리 2
+            "가파",
+            // 자모 7개 → 허용 1, 거리 2
+            "수타익",
+            // 자모 14개 → 허용 3, 거리 4
+            "애구수쿠램불",
+    })
+    void unrelatedOrTooDistantTranscriptIsNotMatched(String transcript) {
+        assertThat(MENU_ITEMS.find(transcript)).isEmpty();
+    }
+
+    @Test
+    void blankInputIsNotMatched() {
+        assertThat(MENU_ITEMS.find(null)).isEmpty();
+        assertThat(MENU_ITEMS.find("  ")).isEmpty();
+        assertThat(MENU_ITEMS.rank(" ", 3, 0.0)).isEmpty();
+    }
+
+    @Test
+    void allowedDistanceIsCappedAtThree() {
+        // 자모 16개 → 16 / 4 = 4 이지만 최대 3
+        NameIndex<String> index = NameIndex.<String>builder()
+                .add("long", "가나다라마바사아", List.of())
+                .build();
+
+        assertThat(index.find("거너더라마바사아")).contains("long");
+        assertThat(index.find("거너더러마바사아")).isEmpty();
+    }
+
+    @Test
+    void rankOrdersCandidatesByConfidence() {
+        List<NameIndex.Candidate<String>> candidates = MENU_ITEMS.rank("스테잌", 2, 0.5);
+
+        assertThat(candidates).extracting(NameIndex.Candidate::getValue).containsExactly("Steak", "Cake");
+        assertThat(candidates.get(0).getConfidence()).isEqualTo(0.95);
+        assertThat(candidates.get(1).getConfidence()).isLessThan(0.95);
+        assertThat(MENU_ITEMS.rank("스테이크", 1, 0.5).get(0).getConfidence()).isEqualTo(1.0);
+        assertThat(MENU_ITEMS.rank("피자", 3, 0.5)).isEmpty();
+    }
+
+    @Test
+    void primaryNameWinsOverAliasAndEarlierEntryWinsOnTie() {
+        NameIndex<String> index = NameIndex.<String>builder()
+                .add("A", "와인", List.of("레드"))
+                .add("B", "레드", List.of("와인"))
+                .add("C", "스테익", List.of())
+                .add("D", "스테잌", List.of())
+                .build();
+
+        assertThat(index.find("와인")).contains("A");
+        assertThat(index.find("레드")).contains("B");
+        assertThat(index.find("스테잌")).contains("D");
+        // 발음 자모가 같은 두 이름 중 먼저 등록된 항목
+        assertThat(index.find("스태잌")).contains("C");
+    }
+}
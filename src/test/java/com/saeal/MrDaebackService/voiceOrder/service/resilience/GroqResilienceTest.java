@@ -0,0 +1,216 @@
+package com.saeal.MrDaebackService.voiceOrder.service.resilience;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.saeal.MrDaebackService.voiceOrder.config.GroqConfig;
+import com.saeal.MrDaebackService.voiceOrder.config.GroqHttpClientConfig;
+import com.saeal.MrDaebackService.voiceOrder.config.GroqHttpMetricsInterceptor;
+import com.saeal.MrDaebackService.voiceOrder.service.GroqService;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * JDK HttpServer 스텁으로 Groq 장애 대응 정책 확인
+ * - 5xx 재시도 / 4xx 즉시 실패 / 재시도 포함 deadline / hedge 요청과 늦은 요청 취소
+ */
+class GroqResilienceTest {
+
+    private static final String CHAT_PATH = "/chat/completions";
+    private static final String OK_BODY = "{\"choices\":[{\"message\":{\"role\":\"assistant\",\"content\":\"%s\"}}]}";
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile StubBehavior behavior;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private GroqConfig groqConfig;
+    private GroqResilience resilience;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext(CHAT_PATH, exchange -> {
+            try (InputStream body = exchange.getRequestBody()) {
+                body.readAllBytes();
+            }
+            behavior.handle(exchange, requests.incrementAndGet());
+        });
+        // hedge 테스트에서 느린 요청과 빠른 요청을 동시에 처리해야 함
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        groqConfig = new GroqConfig();
+        groqConfig.setBaseUrl("http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort());
+        groqConfig.setApiKey("test-key");
+        groqConfig.setHttp2Enabled(false);
+        GroqConfig.Resilience policy = groqConfig.getResilience();
+        policy.setBreakerFailureThreshold(100);
+        policy.setRetryBaseDelayMillis(20);
+        policy.setRetryMaxDelayMillis(40);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (resilience != null) {
+            resilience.shutdown();
+        }
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void serverErrorIsRetriedUntilSuccess() {
+        behavior = (exchange, n) -> {
+            if (n == 1) {
+                respond(exchange, 503, "{\"error\":\"busy\"}");
+            } else {
+                respond(exchange, 200, OK_BODY.formatted("retried"));
+            }
+        };
+
+        String content = groqService().chat("system", List.of(), "context", "안녕하세요");
+
+        assertThat(content).isEqualTo("retried");
+        assertThat(requests.get()).isEqualTo(2);
+        assertThat(resilience.getBreakerState(GroqEndpoint.CHAT)).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void clientErrorIsNotRetried() {
+        behavior = (exchange, n) -> respond(exchange, 400, "{\"error\":\"bad request\"}");
+
+        assertThatThrownBy(() -> groqService().chat("system", List.of(), "context", "안녕하세요"))
+                .isInstanceOf(GroqUnavailableException.class)
+                .hasCauseInstanceOf(HttpClientErrorException.BadRequest.class);
+        assertThat(requests.get()).isEqualTo(1);
+        // Groq 는 응답하고 있으므로 차단기에 실패로 반영하지 않음
+        assertThat(resilience.getBreakerState(GroqEndpoint.CHAT)).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void deadlineBoundsTheWholeRetrySequence() {
+        GroqConfig.Resilience policy = groqConfig.getResilience();
+        policy.setDeadlineMillis(500);
+        policy.setMaxRetries(50);
+        behavior = (exchange, n) -> {
+            sleep(100);
+            respond(exchange, 503, "{\"error\":\"busy\"}");
+        };
+        GroqService groqService = groqService();
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> groqService.chat("system", List.of(), "context", "안녕하세요"))
+                .isInstanceOf(GroqUnavailableException.class);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // 재시도는 했지만 재시도 한도가 아니라 deadline 에서 멈춰야 함
+        assertThat(requests.get()).isBetween(2, 6);
+        assertThat(elapsedMillis).isLessThan(1000);
+    }
+
+    @Test
+    void slowAttemptIsBeatenByHedgeAndCancelled() throws Exception {
+        GroqConfig.Resilience policy = groqConfig.getResilience();
+        policy.setHedgingEnabled(true);
+        policy.setHedgeMinDelayMillis(100);
+        behavior = (exchange, n) -> {
+            if (n == 1) {
+                sleep(3000);
+                respond(exchange, 200, OK_BODY.formatted("slow"));
+            } else {
+                respond(exchange, 200, OK_BODY.formatted("hedged"));
+            }
+        };
+        resilience = new GroqResilience(groqConfig);
+        RestTemplate restTemplate = restTemplate();
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch firstAttemptCancelled = new CountDownLatch(1);
+
+        long startedAt = System.nanoTime();
+        String content = resilience.call(GroqEndpoint.CHAT, () -> {
+            int attempt = attempts.incrementAndGet();
+            try {
+                return restTemplate.postForObject(groqConfig.getBaseUrl() + CHAT_PATH, "{}", String.class);
+            } catch (RuntimeException e) {
+                if (attempt == 1 && (Thread.currentThread().isInterrupted() || isInterruption(e))) {
+                    firstAttemptCancelled.countDown();
+                }
+                throw e;
+            }
+        });
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        assertThat(content).contains("hedged");
+        assertThat(attempts.get()).isEqualTo(2);
+        assertThat(elapsedMillis).isLessThan(2000);
+        // 느린 첫 요청은 응답(3초)을 기다리지 않고 인터럽트로 취소되어야 함
+        assertThat(firstAttemptCancelled.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private GroqService groqService() {
+        GroqHttpClientConfig clientConfig = new GroqHttpClientConfig(groqConfig);
+        HttpClient httpClient = clientConfig.groqHttpClient();
+        GroqHttpMetricsInterceptor interceptor = new GroqHttpMetricsInterceptor(groqConfig);
+        resilience = new GroqResilience(groqConfig);
+        return new GroqService(groqConfig, new ObjectMapper(), resilience,
+                clientConfig.groqRestTemplate(httpClient, interceptor), httpClient, interceptor);
+    }
+
+    private RestTemplate restTemplate() {
+        GroqHttpClientConfig clientConfig = new GroqHttpClientConfig(groqConfig);
+        return clientConfig.groqRestTemplate(clientConfig.groqHttpClient(), new GroqHttpMetricsInterceptor(groqConfig));
+    }
+
+    private static boolean isInterruption(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof InterruptedException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @FunctionalInterface
+    private interface StubBehavior {
+        void handle(HttpExchange exchange, int requestNumber) throws IOException;
+    }
+}
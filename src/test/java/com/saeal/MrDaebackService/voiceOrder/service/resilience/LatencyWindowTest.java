@@ -0,0 +1,41 @@
+package com.saeal.MrDaebackService.voiceOrder.service.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LatencyWindowTest {
+
+    @Test
+    void noEstimateUntilMinimumSamples() {
+        LatencyWindow window = new LatencyWindow();
+        for (int i = 0; i < LatencyWindow.MIN_SAMPLES - 1; i++) {
+            window.record(1_000);
+        }
+        assertThat(window.p95Nanos()).isEqualTo(-1);
+
+        window.record(1_000);
+        assertThat(window.p95Nanos()).isEqualTo(1_000);
+    }
+
+    @Test
+    void p95OfHundredSamples() {
+        LatencyWindow window = new LatencyWindow();
+        for (int i = 100; i >= 1; i--) {
+            window.record(i);
+        }
+        assertThat(window.p95Nanos()).isEqualTo(95);
+    }
+
+    @Test
+    void oldestSamplesAreOverwritten() {
+        LatencyWindow window = new LatencyWindow();
+        for (int i = 0; i < LatencyWindow.CAPACITY; i++) {
+            window.record(1_000_000);
+        }
+        for (int i = 0; i < LatencyWindow.CAPACITY; i++) {
+            window.record(10);
+        }
+        assertThat(window.p95Nanos()).isEqualTo(10);
+    }
+}